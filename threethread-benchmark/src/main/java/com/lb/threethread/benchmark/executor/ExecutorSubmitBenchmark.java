@@ -0,0 +1,119 @@
+package com.lb.threethread.benchmark.executor;
+
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.RejectedPolicyTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池任务提交基准测试
+ * <p>
+ * 多个提交线程持续向 {@link ThreadPoolExecutorBuilder} 构建的线程池提交任务，提交速度远大于处理速度，
+ * 线程池会依次经历核心线程创建、队列堆积、扩容到最大线程数直至触发拒绝策略，衡量的是饱和状态下的提交路径开销
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 覆盖 {@link RejectedPolicyTypeEnum} 的全部拒绝策略，AbortPolicy 抛出的异常在提交线程捕获并计数
+ * 2. 通过 {@link InstrumentationModeEnum} 对比原生线程池与动态线程池各项埋点的提交开销
+ * 3. 提交成功与被拒绝次数通过辅助计数器单独输出，CallerRunsPolicy 由提交线程执行、Discard 类策略静默丢弃的任务均计入提交成功
+ * </p>
+ * <p>
+ * 该测试为闭环压测，耗时分位值会受协调遗漏影响，尾延迟请以 {@link OpenLoopLoadGenerator} 的结果为准
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ExecutorSubmitBenchmark {
+
+    @Param({"PLAIN", "DYNAMIC", "QUEUE_WAIT_TRACKING", "EXECUTE_TIMEOUT"})
+    private InstrumentationModeEnum instrumentation;
+
+    @Param({"CallerRunsPolicy", "AbortPolicy", "DiscardPolicy", "DiscardOldestPolicy"})
+    private String rejectedPolicy;
+
+    @Param({"LINKED_BLOCKING_QUEUE", "RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE"})
+    private BlockingQueueTypeEnum queueType;
+
+    /**
+     * 单个任务消耗的 CPU 时间片数量
+     */
+    @Param({"100"})
+    private long taskTokens;
+
+    private ThreadPoolExecutor executor;
+
+    private Runnable task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = instrumentation.build(ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("benchmark-submit")
+                .corePoolSize(4)
+                .maximumPoolSize(16)
+                .workQueueType(queueType)
+                .workQueueCapacity(256)
+                .rejectedHandler(RejectedPolicyTypeEnum.createPolicy(rejectedPolicy))
+                .keepAliveTime(60L)
+                .threadFactory("benchmark-submit_"));
+        long tokens = taskTokens;
+        task = () -> Blackhole.consumeCPU(tokens);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void submit(SubmitCounters counters) {
+        try {
+            executor.execute(task);
+            counters.accepted++;
+        } catch (RejectedExecutionException ex) {
+            counters.rejected++;
+        }
+    }
+
+    /**
+     * 提交线程的提交成功与被拒绝次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SubmitCounters {
+
+        public long accepted;
+
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0L;
+            rejected = 0L;
+        }
+    }
+}
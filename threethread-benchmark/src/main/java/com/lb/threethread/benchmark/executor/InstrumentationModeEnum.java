@@ -0,0 +1,65 @@
+package com.lb.threethread.benchmark.executor;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 线程池埋点模式
+ * <p>
+ * 基准测试通过对比不同模式下的吞吐量与耗时分布，得到动态线程池各项埋点的额外开销
+ * </p>
+ */
+public enum InstrumentationModeEnum {
+
+    /**
+     * 原生 ThreadPoolExecutor，作为对照组
+     */
+    PLAIN {
+        @Override
+        public ThreadPoolExecutor build(ThreadPoolExecutorBuilder builder) {
+            return builder.build();
+        }
+    },
+
+    /**
+     * 动态线程池，仅包含拒绝计数等默认埋点
+     */
+    DYNAMIC {
+        @Override
+        public ThreadPoolExecutor build(ThreadPoolExecutorBuilder builder) {
+            return builder.dynamicPool().build();
+        }
+    },
+
+    /**
+     * 动态线程池并开启排队耗时统计
+     */
+    QUEUE_WAIT_TRACKING {
+        @Override
+        public ThreadPoolExecutor build(ThreadPoolExecutorBuilder builder) {
+            OneThreadExecutor executor = (OneThreadExecutor) builder.dynamicPool().build();
+            executor.retainQueueWaitTracking();
+            return executor;
+        }
+    },
+
+    /**
+     * 动态线程池并开启任务执行超时检测，超时时间远大于任务耗时，仅衡量检测本身的开销
+     */
+    EXECUTE_TIMEOUT {
+        @Override
+        public ThreadPoolExecutor build(ThreadPoolExecutorBuilder builder) {
+            return builder.dynamicPool().executeTimeout(60_000L).build();
+        }
+    };
+
+    /**
+     * 按埋点模式构建线程池
+     *
+     * @param builder 已设置线程数、队列、拒绝策略等参数的构建器
+     * @return 线程池
+     */
+    public abstract ThreadPoolExecutor build(ThreadPoolExecutorBuilder builder);
+}
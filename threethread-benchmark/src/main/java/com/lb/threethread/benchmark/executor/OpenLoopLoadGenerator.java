@@ -0,0 +1,248 @@
+package com.lb.threethread.benchmark.executor;
+
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.RejectedPolicyTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 线程池开环压测负载生成器
+ * <p>
+ * 按固定到达速率向线程池提交任务，任务的计划提交时间在压测开始时即已确定，与线程池是否及时处理无关，
+ * 响应耗时从计划提交时间起算到任务执行完成，排队、扩容、拒绝策略回压造成的延迟都会完整体现在耗时分布中
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 避免协调遗漏：提交线程被 CallerRunsPolicy 或调度抖动拖慢时不会推迟后续任务的计划时间，落后的任务会立即补交
+ * 2. 使用 HdrHistogram 记录响应耗时、排队耗时与执行耗时，输出完整的分位值分布而不是平均值
+ * 3. 到达速率分别覆盖核心线程即可处理、需要扩容到最大线程数、超出最大处理能力三种负载，观察线程增长与拒绝行为
+ * 4. 拒绝次数通过包装拒绝策略统计，Discard 类策略静默丢弃的任务同样计入
+ * </p>
+ * <p>
+ * 使用方式：{@code java -cp benchmarks.jar com.lb.threethread.benchmark.executor.OpenLoopLoadGenerator [结果目录] [到达速率...]}，
+ * 每个场景输出一个 {@code .hgrm} 分位值分布文件（单位：微秒），所有场景的汇总写入 {@code summary.csv}
+ * </p>
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final String DEFAULT_RESULT_DIR = "target/load-results";
+
+    /**
+     * 默认到达速率（单位：任务数/秒），依次对应核心线程可处理、需要扩容、过载三种负载
+     */
+    private static final long[] DEFAULT_RATES = {20_000L, 150_000L, 500_000L};
+
+    private static final long WARMUP_SECONDS = 5L;
+
+    private static final long MEASUREMENT_SECONDS = 20L;
+
+    /**
+     * 单个任务的执行耗时（单位：微秒）
+     */
+    private static final long SERVICE_TIME_MICROS = 50L;
+
+    /**
+     * 直方图可记录的最大耗时，超出的耗时按最大值记录
+     */
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * 距离计划时间小于该值时自旋等待，避免 park 的唤醒延迟导致提交时间整体后移
+     */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final ThreadPoolExecutor executor;
+    private final long ratePerSecond;
+    private final long serviceTimeNanos;
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram queueWaitTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount;
+
+    private OpenLoopLoadGenerator(ThreadPoolExecutor executor, LongAdder rejectedCount, long ratePerSecond, long serviceTimeNanos) {
+        this.executor = executor;
+        this.rejectedCount = rejectedCount;
+        this.ratePerSecond = ratePerSecond;
+        this.serviceTimeNanos = serviceTimeNanos;
+    }
+
+    public static void main(String[] args) throws FileNotFoundException, InterruptedException {
+        File resultDir = new File(args.length > 0 ? args[0] : DEFAULT_RESULT_DIR);
+        long[] rates = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToLong(Long::parseLong).toArray()
+                : DEFAULT_RATES;
+        if (!resultDir.isDirectory() && !resultDir.mkdirs()) {
+            throw new IllegalStateException("Unable to create result directory: " + resultDir);
+        }
+
+        try (PrintStream summary = new PrintStream(new File(resultDir, "summary.csv"))) {
+            summary.println("instrumentation,rejectedPolicy,targetRate,achievedRate,submitted,completed,rejected,"
+                    + "largestPoolSize,p50Micros,p99Micros,p999Micros,p9999Micros,maxMicros");
+            for (InstrumentationModeEnum instrumentation : InstrumentationModeEnum.values()) {
+                for (RejectedPolicyTypeEnum policy : RejectedPolicyTypeEnum.values()) {
+                    for (long rate : rates) {
+                        runScenario(resultDir, summary, instrumentation, policy, rate);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void runScenario(File resultDir, PrintStream summary, InstrumentationModeEnum instrumentation,
+                                     RejectedPolicyTypeEnum policy, long rate) throws FileNotFoundException, InterruptedException {
+        LongAdder rejectedCount = new LongAdder();
+        ThreadPoolExecutor executor = instrumentation.build(ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("benchmark-open-loop")
+                .corePoolSize(4)
+                .maximumPoolSize(16)
+                .workQueueType(BlockingQueueTypeEnum.RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(1024)
+                .rejectedHandler(new CountingRejectedHandler(policy.getRejectedHandler(), rejectedCount))
+                .keepAliveTime(60L)
+                .threadFactory("benchmark-open-loop_"));
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(executor, rejectedCount, rate,
+                TimeUnit.MICROSECONDS.toNanos(SERVICE_TIME_MICROS));
+        try {
+            generator.drive(TimeUnit.SECONDS.toNanos(WARMUP_SECONDS));
+            generator.awaitIdle();
+            generator.reset();
+            long submitted = generator.drive(TimeUnit.SECONDS.toNanos(MEASUREMENT_SECONDS));
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+
+            String scenario = String.format("%s-%s-%d", instrumentation.name(), policy.getName(), rate);
+            try (PrintStream out = new PrintStream(new File(resultDir, scenario + ".hgrm"))) {
+                out.println("# response time (from intended start)");
+                generator.responseTime.outputPercentileDistribution(out, 1000.0);
+                out.println("# queue wait time");
+                generator.queueWaitTime.outputPercentileDistribution(out, 1000.0);
+                out.println("# service time");
+                generator.serviceTime.outputPercentileDistribution(out, 1000.0);
+            }
+            Histogram response = generator.responseTime;
+            summary.printf("%s,%s,%d,%.1f,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                    instrumentation.name(), policy.getName(), rate,
+                    submitted / (double) MEASUREMENT_SECONDS, submitted,
+                    generator.completedCount.sum(), rejectedCount.sum(), executor.getLargestPoolSize(),
+                    response.getValueAtPercentile(50.0) / 1000.0,
+                    response.getValueAtPercentile(99.0) / 1000.0,
+                    response.getValueAtPercentile(99.9) / 1000.0,
+                    response.getValueAtPercentile(99.99) / 1000.0,
+                    response.getMaxValue() / 1000.0);
+            summary.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 按固定速率提交任务
+     *
+     * @param durationNanos 持续时间（单位：纳秒）
+     * @return 提交的任务数，包含被拒绝的任务
+     */
+    private long drive(long durationNanos) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        long submitted = 0L;
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            awaitUntil(intended);
+            submitted++;
+            try {
+                executor.execute(new TimedTask(intended));
+            } catch (RejectedExecutionException ignored) {
+                // AbortPolicy 的拒绝已由 CountingRejectedHandler 计数
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * 等待预热阶段提交的任务执行完成，避免计入正式压测结果
+     */
+    private void awaitIdle() throws InterruptedException {
+        while (!executor.getQueue().isEmpty() || executor.getActiveCount() > 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private void reset() {
+        responseTime.reset();
+        queueWaitTime.reset();
+        serviceTime.reset();
+        completedCount.reset();
+        rejectedCount.reset();
+    }
+
+    private static void awaitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 记录耗时的压测任务，执行期间自旋占用 CPU 模拟计算型任务
+     */
+    private final class TimedTask implements Runnable {
+
+        private final long intendedStartTime;
+
+        private TimedTask(long intendedStartTime) {
+            this.intendedStartTime = intendedStartTime;
+        }
+
+        @Override
+        public void run() {
+            long begin = System.nanoTime();
+            long deadline = begin + serviceTimeNanos;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            long finish = System.nanoTime();
+            queueWaitTime.recordValue(Math.min(begin - intendedStartTime, HIGHEST_TRACKABLE_NANOS));
+            serviceTime.recordValue(Math.min(finish - begin, HIGHEST_TRACKABLE_NANOS));
+            responseTime.recordValue(Math.min(finish - intendedStartTime, HIGHEST_TRACKABLE_NANOS));
+            completedCount.increment();
+        }
+    }
+
+    /**
+     * 统计拒绝次数的拒绝策略包装
+     */
+    private static final class CountingRejectedHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+        private final LongAdder rejectedCount;
+
+        private CountingRejectedHandler(RejectedExecutionHandler delegate, LongAdder rejectedCount) {
+            this.delegate = delegate;
+            this.rejectedCount = rejectedCount;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejectedCount.increment();
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.lb.threethread.benchmark.parser;
+
+import com.lb.threethread.core.parser.YamlConfigParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YAML 配置解析基准测试
+ * <p>
+ * 对比流式展开的 {@link YamlConfigParser} 与对象树展开的 {@link LegacyYamlConfigParser}
+ * 在不同线程池数量配置下的解析耗时与内存分配，配合 {@code -prof gc} 观察分配速率
+ * </p>
+ * <p>
+ * 运行方式：mvn -Pbenchmark -pl threethread-benchmark -am package 后执行
+ * java -jar threethread-benchmark/target/benchmarks.jar YamlConfigParserBenchmark -prof gc
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class YamlConfigParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int poolCount;
+
+    private String configuration;
+
+    private final YamlConfigParser streamingParser = new YamlConfigParser();
+
+    private final LegacyYamlConfigParser legacyParser = new LegacyYamlConfigParser();
+
+    @Setup
+    public void setUp() {
+        configuration = buildConfiguration(poolCount);
+        Map<Object, Object> expected = legacyParser.doParse(configuration);
+        Map<Object, Object> actual = streamingParser.doParse(configuration);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Streaming parser result differs from legacy parser result.");
+        }
+    }
+
+    @Benchmark
+    public Map<Object, Object> streaming() {
+        return streamingParser.doParse(configuration);
+    }
+
+    @Benchmark
+    public Map<Object, Object> legacy() {
+        return legacyParser.doParse(configuration);
+    }
+
+    /**
+     * 生成与线上配置中心结构一致的线程池配置
+     *
+     * @param poolCount 线程池数量
+     * @return YAML 配置内容
+     */
+    static String buildConfiguration(int poolCount) {
+        StringBuilder builder = new StringBuilder(poolCount * 512);
+        builder.append("onethread:\n")
+                .append("  enable: true\n")
+                .append("  config-file-type: yaml\n")
+                .append("  notify-platforms:\n")
+                .append("    platform: DING\n")
+                .append("    url: https://oapi.dingtalk.com/robot/send?access_token=token\n")
+                .append("  executors:\n");
+        for (int i = 0; i < poolCount; i++) {
+            builder.append("    - thread-pool-id: onethread-producer-").append(i).append('\n')
+                    .append("      core-pool-size: ").append(2 + i % 8).append('\n')
+                    .append("      maximum-pool-size: ").append(16 + i % 8).append('\n')
+                    .append("      queue-capacity: 10000\n")
+                    .append("      work-queue: ResizableCapacityLinkedBlockingQueue\n")
+                    .append("      rejected-handler: CallerRunsPolicy\n")
+                    .append("      keep-alive-time: 9999\n")
+                    .append("      allow-core-thread-time-out: true\n")
+                    .append("      notify:\n")
+                    .append("        receives: [\"ding-user-a\", \"ding-user-b\"]\n")
+                    .append("        interval: 5\n")
+                    .append("      alarm:\n")
+                    .append("        enable: true\n")
+                    .append("        queue-threshold: 80\n")
+                    .append("        active-threshold: 80\n");
+        }
+        return builder.toString();
+    }
+}
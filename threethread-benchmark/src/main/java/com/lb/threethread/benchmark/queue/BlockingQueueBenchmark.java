@@ -0,0 +1,146 @@
+package com.lb.threethread.benchmark.queue;
+
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 阻塞队列生产消费基准测试
+ * <p>
+ * 覆盖 {@link BlockingQueueTypeEnum} 中的全部队列类型，生产者与消费者在同一个 JMH 线程组内并发读写同一队列，
+ * 同时输出吞吐量与单次操作耗时分位值，配合 {@code -prof gc} 观察分配速率
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 生产者、消费者均使用带超时的 offer、poll，SynchronousQueue 无消费者等待时不会阻塞到迭代结束
+ * 2. 成功与失败的操作次数通过辅助计数器单独输出，避免把超时返回的空操作计入吞吐量
+ * 3. 无界队列在生产快于消费时会持续增长，每个迭代结束后清空队列并建议通过 -Xmx 限制堆大小
+ * </p>
+ * <p>
+ * 生产者、消费者线程数默认各 1 个，通过 {@code -tg 生产者数,消费者数} 指定，
+ * 或使用 {@link QueueBenchmarkRunner} 依次运行 1/4/16/64 的全部组合并输出 JSON 结果
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BlockingQueueBenchmark {
+
+    /**
+     * 单次 offer、poll 的最长等待时间（单位：微秒）
+     */
+    static final long WAIT_MICROS = 10L;
+
+    /**
+     * 队列元素，使用同一个可比较对象避免元素本身的分配干扰分配速率统计
+     */
+    static final Integer ELEMENT = 1;
+
+    @Param({
+            "ArrayBlockingQueue",
+            "LinkedBlockingQueue",
+            "LinkedBlockingDeque",
+            "SynchronousQueue",
+            "LinkedTransferQueue",
+            "PriorityBlockingQueue",
+            "ResizableCapacityLinkedBlockingQueue"
+    })
+    private String queueType;
+
+    @Param({"1024"})
+    private int capacity;
+
+    private BlockingQueue<Integer> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = BlockingQueueTypeEnum.createBlockingQueue(queueType, capacity);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        queue.clear();
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public boolean produce(ProducerCounters counters) throws InterruptedException {
+        boolean offered = queue.offer(ELEMENT, WAIT_MICROS, TimeUnit.MICROSECONDS);
+        if (offered) {
+            counters.offered++;
+        } else {
+            counters.offerTimedOut++;
+        }
+        return offered;
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public Integer consume(ConsumerCounters counters) throws InterruptedException {
+        Integer element = queue.poll(WAIT_MICROS, TimeUnit.MICROSECONDS);
+        if (element != null) {
+            counters.polled++;
+        } else {
+            counters.pollTimedOut++;
+        }
+        return element;
+    }
+
+    /**
+     * 生产者成功入队与超时未入队次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProducerCounters {
+
+        public long offered;
+
+        public long offerTimedOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0L;
+            offerTimedOut = 0L;
+        }
+    }
+
+    /**
+     * 消费者成功出队与超时未取到元素次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ConsumerCounters {
+
+        public long polled;
+
+        public long pollTimedOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = 0L;
+            pollTimedOut = 0L;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.lb.threethread.benchmark.queue;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * 阻塞队列基准测试运行入口
+ * <p>
+ * 依次运行生产者、消费者线程数的全部组合，每个组合输出一个 JSON 结果文件，
+ * 文件包含吞吐量、耗时分位值以及 GC 分析器采集的分配速率，便于脚本汇总对比
+ * </p>
+ * <p>
+ * 使用方式：{@code java -cp benchmarks.jar com.lb.threethread.benchmark.queue.QueueBenchmarkRunner [结果目录] [线程数...]}，
+ * 结果目录默认 {@code target/jmh-results}，线程数默认 1 4 16 64
+ * </p>
+ */
+public class QueueBenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_DIR = "target/jmh-results";
+
+    private static final int[] DEFAULT_THREAD_COUNTS = {1, 4, 16, 64};
+
+    public static void main(String[] args) throws RunnerException {
+        File resultDir = new File(args.length > 0 ? args[0] : DEFAULT_RESULT_DIR);
+        int[] threadCounts = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_THREAD_COUNTS;
+        if (!resultDir.isDirectory() && !resultDir.mkdirs()) {
+            throw new IllegalStateException("Unable to create result directory: " + resultDir);
+        }
+
+        for (int producers : threadCounts) {
+            for (int consumers : threadCounts) {
+                run(BlockingQueueBenchmark.class.getName() + ".transfer",
+                        new File(resultDir, String.format("queue-p%d-c%d.json", producers, consumers)),
+                        producers, consumers);
+                run(ResizableQueueResizeBenchmark.class.getName() + ".steady",
+                        new File(resultDir, String.format("resize-steady-p%d-c%d.json", producers, consumers)),
+                        producers, consumers);
+                run(ResizableQueueResizeBenchmark.class.getName() + ".resizing",
+                        new File(resultDir, String.format("resize-resizing-p%d-c%d.json", producers, consumers)),
+                        producers, consumers, 1);
+            }
+        }
+    }
+
+    private static void run(String benchmark, File result, int... threadGroups) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include("^" + benchmark.replace(".", "\\.") + "$")
+                .threadGroups(threadGroups)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.lb.threethread.benchmark.queue;
+
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.lb.threethread.benchmark.queue.BlockingQueueBenchmark.ELEMENT;
+import static com.lb.threethread.benchmark.queue.BlockingQueueBenchmark.WAIT_MICROS;
+
+/**
+ * 可调整容量队列在压力下调整容量的基准测试
+ * <p>
+ * 生产者、消费者持续读写 {@link ResizableCapacityLinkedBlockingQueue}，同组内的调整线程在两个容量之间来回调整，
+ * 对比 {@code steady} 组可得到并发调整容量对读写吞吐量和耗时分位值的影响
+ * </p>
+ * <p>
+ * 调整线程每次调整之间通过 {@link Blackhole#consumeCPU(long)} 控制调整频率，
+ * {@code resizing} 组通过 {@code -tg 生产者数,消费者数,1} 指定线程数，{@code steady} 组通过 {@code -tg 生产者数,消费者数} 指定，
+ * {@link QueueBenchmarkRunner} 会分别运行两组
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ResizableQueueResizeBenchmark {
+
+    @Param({"1024"})
+    private int capacity;
+
+    /**
+     * 两次调整之间消耗的 CPU 时间片数量，数值越小调整越频繁
+     */
+    @Param({"0", "1000"})
+    private long resizeBackoffTokens;
+
+    private ResizableCapacityLinkedBlockingQueue<Integer> queue;
+
+    private boolean shrink;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = new ResizableCapacityLinkedBlockingQueue<>(capacity);
+        shrink = true;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        queue.clear();
+    }
+
+    @Benchmark
+    @Group("resizing")
+    @GroupThreads(1)
+    public boolean resizingProduce() throws InterruptedException {
+        return queue.offer(ELEMENT, WAIT_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    @Group("resizing")
+    @GroupThreads(1)
+    public Integer resizingConsume() throws InterruptedException {
+        return queue.poll(WAIT_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    @Group("resizing")
+    @GroupThreads(1)
+    public void resize() {
+        // 仅调整线程读写 shrink，无需同步
+        queue.setCapacity(shrink ? Math.max(1, capacity / 2) : capacity * 2);
+        shrink = !shrink;
+        Blackhole.consumeCPU(resizeBackoffTokens);
+    }
+
+    @Benchmark
+    @Group("steady")
+    @GroupThreads(1)
+    public boolean steadyProduce() throws InterruptedException {
+        return queue.offer(ELEMENT, WAIT_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    @Group("steady")
+    @GroupThreads(1)
+    public Integer steadyConsume() throws InterruptedException {
+        return queue.poll(WAIT_MICROS, TimeUnit.MICROSECONDS);
+    }
+}
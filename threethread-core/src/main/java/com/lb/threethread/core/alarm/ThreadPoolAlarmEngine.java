@@ -0,0 +1,191 @@
+package com.lb.threethread.core.alarm;
+
+import cn.hutool.core.date.DateUtil;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
+import com.lb.threethread.core.notification.service.NotifierService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池告警引擎
+ * <p>
+ * 在每次运行时指标采集完成后，按各线程池的告警配置评估队列使用率、活跃度、拒绝次数、排队耗时 P99 等规则，
+ * 触发后构建告警消息并通过{@link NotifierService}发送
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 基于{@link ThreadPoolMetricsCollector}的时间序列评估滑动窗口指标，不额外轮询线程池
+ * 2. 告警阈值从线程池持有者的最新配置中读取，配置中心推送变更后下一次评估即生效
+ * 3. 同一线程池同一告警规则在告警间隔内仅发送一次，避免告警风暴
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolAlarmEngine {
+
+    private final ThreadPoolMetricsCollector collector;
+    private final NotifierService notifierService;
+    private final String active;
+    private final String applicationName;
+    private final String identify;
+
+    /**
+     * 最近一次告警时间，key 为线程池唯一标识 + 告警类型
+     */
+    private final Map<String, Long> lastAlarmTimeMap = new ConcurrentHashMap<>();
+
+    /**
+     * 因排队耗时告警持有排队耗时统计引用的线程池，key 为线程池唯一标识
+     */
+    private final Map<String, OneThreadExecutor> queueWaitTrackedExecutors = new ConcurrentHashMap<>();
+
+    public ThreadPoolAlarmEngine(ThreadPoolMetricsCollector collector,
+                                 NotifierService notifierService,
+                                 String active,
+                                 String applicationName) {
+        this.collector = collector;
+        this.notifierService = notifierService;
+        this.active = active;
+        this.applicationName = applicationName;
+        this.identify = resolveIdentify();
+    }
+
+    /**
+     * 启动告警引擎，注册为指标采集完成监听器
+     */
+    public void start() {
+        collector.addCollectListener(this::evaluate);
+    }
+
+    /**
+     * 评估所有已注册线程池的告警规则
+     */
+    public void evaluate() {
+        long now = System.currentTimeMillis();
+        // 线程池注销或被替换后释放旧实例的排队耗时统计引用
+        queueWaitTrackedExecutors.entrySet().removeIf(entry -> {
+            ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(entry.getKey());
+            if (holder != null && holder.getExecutor() == entry.getValue()) {
+                return false;
+            }
+            entry.getValue().releaseQueueWaitTracking();
+            return true;
+        });
+        for (ThreadPoolExecutorHolder holder : OneThreadRegistry.getAllHolders()) {
+            ThreadPoolExecutorProperties.AlarmConfig alarmConfig = Optional.ofNullable(holder.getExecutorProperties())
+                    .map(ThreadPoolExecutorProperties::getAlarm)
+                    .orElse(null);
+            boolean enabled = alarmConfig != null && !Boolean.FALSE.equals(alarmConfig.getEnable());
+
+            // 仅在配置了排队耗时告警时持有排队耗时统计引用，避免额外的任务包装开销；渐进调整由调整器自行持有引用
+            if (holder.getExecutor() instanceof OneThreadExecutor oneThreadExecutor) {
+                updateQueueWaitTracking(holder.getThreadPoolId(), oneThreadExecutor,
+                        enabled && alarmConfig.getQueueWaitP99Threshold() != null);
+            }
+
+            ThreadPoolMetricsSeries series = collector.getSeries(holder.getThreadPoolId());
+            if (!enabled || series == null || series.size() == 0) {
+                continue;
+            }
+
+            long window = Optional.ofNullable(alarmConfig.getWindow()).orElse(60L);
+            int samples = collector.samplesOf(window, TimeUnit.SECONDS);
+            for (ThreadPoolAlarmTypeEnum alarmType : ThreadPoolAlarmTypeEnum.values()) {
+                Long threshold = alarmType.threshold(alarmConfig);
+                if (threshold == null) {
+                    continue;
+                }
+                long currentValue = alarmType.currentValue(series, samples);
+                if (currentValue >= threshold && tryAcquire(holder.getThreadPoolId(), alarmType, alarmConfig, now)) {
+                    sendAlarmMessage(holder, series, alarmType, alarmConfig, threshold, currentValue);
+                }
+            }
+        }
+    }
+
+    private void updateQueueWaitTracking(String threadPoolId, OneThreadExecutor executor, boolean required) {
+        if (required) {
+            if (queueWaitTrackedExecutors.putIfAbsent(threadPoolId, executor) == null) {
+                executor.retainQueueWaitTracking();
+            }
+        } else if (queueWaitTrackedExecutors.remove(threadPoolId, executor)) {
+            executor.releaseQueueWaitTracking();
+        }
+    }
+
+    /**
+     * 判断告警间隔内是否已发送过相同告警，未发送则占用本次告警
+     */
+    private boolean tryAcquire(String threadPoolId, ThreadPoolAlarmTypeEnum alarmType, ThreadPoolExecutorProperties.AlarmConfig alarmConfig, long now) {
+        long intervalMillis = TimeUnit.SECONDS.toMillis(Optional.ofNullable(alarmConfig.getInterval()).orElse(300L));
+        String key = threadPoolId + "#" + alarmType.name();
+        Long lastAlarmTime = lastAlarmTimeMap.get(key);
+        if (lastAlarmTime != null && now - lastAlarmTime < intervalMillis) {
+            return false;
+        }
+        lastAlarmTimeMap.put(key, now);
+        return true;
+    }
+
+    private void sendAlarmMessage(ThreadPoolExecutorHolder holder,
+                                  ThreadPoolMetricsSeries series,
+                                  ThreadPoolAlarmTypeEnum alarmType,
+                                  ThreadPoolExecutorProperties.AlarmConfig alarmConfig,
+                                  long threshold,
+                                  long currentValue) {
+        ThreadPoolExecutorProperties executorProperties = holder.getExecutorProperties();
+        String receives = Optional.ofNullable(executorProperties.getNotify())
+                .map(ThreadPoolExecutorProperties.NotifyConfig::getReceives)
+                .orElse("");
+        ThreadPoolAlarmDTO alarm = ThreadPoolAlarmDTO.builder()
+                .threadPoolId(holder.getThreadPoolId())
+                .active(active)
+                .applicationName(applicationName)
+                .identify(identify)
+                .receives(receives)
+                .alarmType(alarmType.name())
+                .threshold(threshold)
+                .currentValue(currentValue)
+                .window(alarmConfig.getWindow())
+                .corePoolSize(series.latest(ThreadPoolMetricTypeEnum.CORE_POOL_SIZE))
+                .maximumPoolSize(series.latest(ThreadPoolMetricTypeEnum.MAXIMUM_POOL_SIZE))
+                .poolSize(series.latest(ThreadPoolMetricTypeEnum.POOL_SIZE))
+                .activeCount(series.latest(ThreadPoolMetricTypeEnum.ACTIVE_COUNT))
+                .largestPoolSize(series.latest(ThreadPoolMetricTypeEnum.LARGEST_POOL_SIZE))
+                .workQueue(executorProperties.getWorkQueue())
+                .queueCapacity(series.latest(ThreadPoolMetricTypeEnum.QUEUE_CAPACITY))
+                .queueSize(series.latest(ThreadPoolMetricTypeEnum.QUEUE_SIZE))
+                .rejectedHandler(executorProperties.getRejectedHandler())
+                .rejectCount(series.latest(ThreadPoolMetricTypeEnum.REJECT_COUNT))
+                .interval(alarmConfig.getInterval())
+                .alarmTime(DateUtil.now())
+                .build();
+
+        log.warn("[{}] Thread pool alarm triggered, type: {}, threshold: {}, current: {}",
+                holder.getThreadPoolId(), alarmType.name(), threshold, currentValue);
+        try {
+            notifierService.sendAlarmMessage(alarm);
+        } catch (Exception ex) {
+            log.error("[{}] Failed to send thread pool alarm message.", holder.getThreadPoolId(), ex);
+        }
+    }
+
+    private static String resolveIdentify() {
+        try {
+            return InetAddress.getLocalHost().getHostAddress();
+        } catch (Exception ex) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.lb.threethread.core.alarm;
+
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import lombok.Getter;
+
+/**
+ * 线程池告警类型枚举
+ * <p>
+ * 每种告警类型定义了从告警配置中读取阈值、从指标时间序列中计算窗口指标值的方式，
+ * 指标值与阈值单位一致，指标值大于等于阈值时触发告警
+ * </p>
+ */
+public enum ThreadPoolAlarmTypeEnum {
+
+    /**
+     * 窗口内平均队列使用率（单位：%）
+     */
+    QUEUE_USAGE("队列使用率(%)") {
+        @Override
+        Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig) {
+            return alarmConfig.getQueueThreshold() == null ? null : alarmConfig.getQueueThreshold().longValue();
+        }
+
+        @Override
+        long currentValue(ThreadPoolMetricsSeries series, int samples) {
+            return averageRatio(series.recent(ThreadPoolMetricTypeEnum.QUEUE_SIZE, samples),
+                    series.recent(ThreadPoolMetricTypeEnum.QUEUE_CAPACITY, samples));
+        }
+    },
+
+    /**
+     * 窗口内平均活跃度，即活跃线程数 / 最大线程数（单位：%）
+     */
+    ACTIVE_RATIO("线程活跃度(%)") {
+        @Override
+        Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig) {
+            return alarmConfig.getActiveThreshold() == null ? null : alarmConfig.getActiveThreshold().longValue();
+        }
+
+        @Override
+        long currentValue(ThreadPoolMetricsSeries series, int samples) {
+            return averageRatio(series.recent(ThreadPoolMetricTypeEnum.ACTIVE_COUNT, samples),
+                    series.recent(ThreadPoolMetricTypeEnum.MAXIMUM_POOL_SIZE, samples));
+        }
+    },
+
+    /**
+     * 窗口内拒绝次数
+     */
+    REJECT("拒绝次数") {
+        @Override
+        Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig) {
+            return alarmConfig.getRejectThreshold();
+        }
+
+        @Override
+        long currentValue(ThreadPoolMetricsSeries series, int samples) {
+            return series.delta(ThreadPoolMetricTypeEnum.REJECT_COUNT, samples);
+        }
+    },
+
+    /**
+     * 窗口内各采集间隔排队等待耗时 P99 的峰值（单位：毫秒）
+     */
+    QUEUE_WAIT_P99("排队耗时P99(ms)") {
+        @Override
+        Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig) {
+            return alarmConfig.getQueueWaitP99Threshold();
+        }
+
+        @Override
+        long currentValue(ThreadPoolMetricsSeries series, int samples) {
+            return series.peak(ThreadPoolMetricTypeEnum.QUEUE_WAIT_P99, samples) / 1000L;
+        }
+    },
+
+    /**
+     * 窗口内检测到的慢任务数
+     */
+    SLOW_TASK("慢任务数") {
+        @Override
+        Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig) {
+            return alarmConfig.getSlowTaskCountThreshold();
+        }
+
+        @Override
+        long currentValue(ThreadPoolMetricsSeries series, int samples) {
+            return series.delta(ThreadPoolMetricTypeEnum.SLOW_TASK_COUNT, samples);
+        }
+    };
+
+    /**
+     * 告警类型描述，用于告警消息展示
+     */
+    @Getter
+    private final String description;
+
+    ThreadPoolAlarmTypeEnum(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 从告警配置中读取阈值
+     *
+     * @param alarmConfig 告警配置
+     * @return 阈值，为空表示未开启该告警规则
+     */
+    abstract Long threshold(ThreadPoolExecutorProperties.AlarmConfig alarmConfig);
+
+    /**
+     * 计算最近若干次采样的窗口指标值
+     *
+     * @param series  线程池指标时间序列
+     * @param samples 窗口采样数
+     * @return 窗口指标值，单位与阈值一致
+     */
+    abstract long currentValue(ThreadPoolMetricsSeries series, int samples);
+
+    private static long averageRatio(long[] numerators, long[] denominators) {
+        // 两次查询之间可能写入新的采样，按最新采样对齐
+        int length = Math.min(numerators.length, denominators.length);
+        int numeratorOffset = numerators.length - length;
+        int denominatorOffset = denominators.length - length;
+        long sum = 0L;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            long denominator = denominators[denominatorOffset + i];
+            if (denominator > 0L) {
+                sum += numerators[numeratorOffset + i] * 100L / denominator;
+                count++;
+            }
+        }
+        return count == 0 ? 0L : sum / count;
+    }
+}
@@ -64,6 +64,20 @@ public class BootstrapConfigProperties {
      */
     private NotifyPlatformsConfig notifyPlatforms;
 
+    /**
+     * 运行时指标采集配置
+     */
+    private MonitorConfig monitor = new MonitorConfig();
+
+    /**
+     * 是否开启线程池渐进调整
+     * <p>
+     * 默认为false，开启后由渐进调整器按线程池的 ramp 配置分步调整线程数和队列容量；
+     * 关闭时即使线程池配置了 ramp 也一次性调整到目标值
+     * </p>
+     */
+    private Boolean rampEnable = Boolean.FALSE;
+
     /**
      * 线程池配置集合
      * <p>
@@ -84,6 +98,92 @@ public class BootstrapConfigProperties {
          * 完整 WebHook 地址
          */
         private String url;
+
+        /**
+         * 建连超时时间（单位：毫秒）
+         */
+        private Long connectTimeout = 3000L;
+
+        /**
+         * 请求超时时间（单位：毫秒）
+         */
+        private Long readTimeout = 5000L;
+    }
+
+    @Data
+    public static class MonitorConfig {
+
+        /**
+         * 是否开启运行时指标采集
+         */
+        private Boolean enable = Boolean.TRUE;
+
+        /**
+         * 采集间隔（单位：秒）
+         */
+        private Long collectInterval = 5L;
+
+        /**
+         * 每个线程池保留的采样数，默认保留最近 1 小时
+         */
+        private Integer capacity = 720;
+
+        /**
+         * JFR 任务级事件（入队、执行、拒绝）采样间隔，每 N 个任务记录 1 个，默认全部记录
+         */
+        private Integer jfrTaskSampleInterval = 1;
+
+        /**
+         * 是否为每个线程池注册 JMX MBean，用于配置中心不可用时本地查看和调整线程池，默认关闭
+         */
+        private Boolean jmxEnable = Boolean.FALSE;
+
+        /**
+         * 是否开启慢任务检测，开启后在每次指标采集完成后检测慢任务并采集工作线程堆栈，默认关闭
+         */
+        private Boolean slowTaskEnable = Boolean.FALSE;
+
+        /**
+         * 慢任务堆栈采集间隔（单位：秒），同一线程池在该间隔内最多采集一次工作线程堆栈
+         */
+        private Long slowTaskStackInterval = 60L;
+
+        /**
+         * 线程池容量建议配置
+         */
+        private SizingConfig sizing = new SizingConfig();
+    }
+
+    /**
+     * 线程池容量建议配置，容量建议基于资源消耗统计，需为线程池开启 accounting
+     */
+    @Data
+    public static class SizingConfig {
+
+        /**
+         * 是否开启线程池容量建议，默认关闭
+         */
+        private Boolean enable = Boolean.FALSE;
+
+        /**
+         * 观测窗口（单位：秒）
+         */
+        private Long window = 300L;
+
+        /**
+         * 目标 CPU 利用率，取值 (0, 1]
+         */
+        private Double targetCpuUtilization = 0.8D;
+
+        /**
+         * 目标平均排队耗时（单位：毫秒）
+         */
+        private Long targetQueueWait = 10L;
+
+        /**
+         * 最大可接受排队耗时（单位：毫秒），用于计算队列容量
+         */
+        private Long maxQueueWait = 1000L;
     }
 
     /**
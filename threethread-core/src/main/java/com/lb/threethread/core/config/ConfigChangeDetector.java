@@ -0,0 +1,203 @@
+package com.lb.threethread.core.config;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 配置变更检测器
+ * <p>
+ * 记录最近一次成功应用的配置内容摘要和每个配置分段的指纹，用于增量刷新：
+ * 配置内容完全一致时直接跳过；否则只返回发生变化的线程池配置分段，由调用方绑定、比对和应用
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 配置中心重复推送相同内容（如重连、客户端重新拉取）时，不再重复解析、绑定和比对所有线程池
+ * 2. 线程池较多时，仅变更少数线程池的推送只处理对应分段，降低刷新耗时
+ * 3. 指纹在应用成功后才提交，应用失败的配置下次推送会被重新处理
+ * </p>
+ * <p>
+ * 配置分段划分：onethread.executors[i] 下的配置按线程池唯一标识各自为一个分段，其余配置为全局分段
+ * </p>
+ */
+public class ConfigChangeDetector {
+
+    private static final String EXECUTORS_PREFIX = BootstrapConfigProperties.PREFIX + ".executors[";
+
+    private static final String GLOBAL_SECTION = "global";
+
+    private static final String EXECUTOR_SECTION_PREFIX = "executor:";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 最近一次成功应用的配置内容摘要
+     */
+    private String appliedContentHash;
+
+    /**
+     * 最近一次成功应用的配置分段指纹，key 为分段名称
+     */
+    private Map<String, String> appliedFingerprints = Collections.emptyMap();
+
+    /**
+     * 计算配置内容摘要
+     *
+     * @param content 配置内容
+     * @return SHA-256 摘要十六进制字符串
+     */
+    public static String hash(String content) {
+        return sha256(content == null ? "" : content);
+    }
+
+    /**
+     * 判断配置内容是否与最近一次成功应用的配置完全一致
+     *
+     * @param contentHash 配置内容摘要
+     */
+    public synchronized boolean isUnchanged(String contentHash) {
+        return Objects.equals(appliedContentHash, contentHash);
+    }
+
+    /**
+     * 检测配置分段变更
+     *
+     * @param contentHash 配置内容摘要
+     * @param configMap   扁平化后的配置键值对
+     * @return 配置变更集合
+     */
+    public synchronized ChangeSet detect(String contentHash, Map<Object, Object> configMap) {
+        Map<Object, Object> globalEntries = new LinkedHashMap<>();
+        Map<Integer, Map<String, Object>> executorSections = new TreeMap<>();
+        for (Map.Entry<Object, Object> entry : configMap.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            int indexEnd = key.startsWith(EXECUTORS_PREFIX) ? key.indexOf(']', EXECUTORS_PREFIX.length()) : -1;
+            if (indexEnd < 0) {
+                globalEntries.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            int index = Integer.parseInt(key.substring(EXECUTORS_PREFIX.length(), indexEnd));
+            executorSections.computeIfAbsent(index, each -> new TreeMap<>())
+                    .put(key.substring(indexEnd + 1), entry.getValue());
+        }
+
+        Map<String, String> fingerprints = new HashMap<>();
+        String globalFingerprint = fingerprint(globalEntries);
+        fingerprints.put(GLOBAL_SECTION, globalFingerprint);
+        boolean globalChanged = !Objects.equals(appliedFingerprints.get(GLOBAL_SECTION), globalFingerprint);
+
+        // 变更的线程池分段重新编号为连续下标，便于按列表绑定
+        Map<Object, Object> changedExecutorEntries = new LinkedHashMap<>();
+        int changedCount = 0;
+        for (Map.Entry<Integer, Map<String, Object>> section : executorSections.entrySet()) {
+            Map<String, Object> sectionEntries = section.getValue();
+            String sectionName = EXECUTOR_SECTION_PREFIX + resolveThreadPoolId(section.getKey(), sectionEntries);
+            String sectionFingerprint = fingerprint(sectionEntries);
+            fingerprints.put(sectionName, sectionFingerprint);
+            if (Objects.equals(appliedFingerprints.get(sectionName), sectionFingerprint)) {
+                continue;
+            }
+            String newPrefix = EXECUTORS_PREFIX + changedCount++ + "]";
+            sectionEntries.forEach((key, value) -> changedExecutorEntries.put(newPrefix + key, value));
+        }
+        return new ChangeSet(contentHash, fingerprints, globalChanged, globalEntries, changedCount, changedExecutorEntries);
+    }
+
+    /**
+     * 配置应用成功后提交本次配置摘要和分段指纹
+     *
+     * @param changeSet 配置变更集合
+     */
+    public synchronized void commit(ChangeSet changeSet) {
+        this.appliedContentHash = changeSet.contentHash;
+        this.appliedFingerprints = changeSet.fingerprints;
+    }
+
+    private static String resolveThreadPoolId(int index, Map<String, Object> sectionEntries) {
+        Object threadPoolId = sectionEntries.get(".thread-pool-id");
+        if (threadPoolId == null) {
+            threadPoolId = sectionEntries.get(".threadPoolId");
+        }
+        return threadPoolId == null ? "#" + index : threadPoolId.toString();
+    }
+
+    private static String fingerprint(Map<?, ?> entries) {
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(toStringKeys(entries)).forEach((key, value) -> builder.append(key).append('=').append(value).append('\n'));
+        return sha256(builder.toString());
+    }
+
+    private static Map<String, Object> toStringKeys(Map<?, ?> entries) {
+        Map<String, Object> result = new HashMap<>(entries.size() * 2);
+        entries.forEach((key, value) -> result.put(String.valueOf(key), value));
+        return result;
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            char[] chars = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                chars[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported.", ex);
+        }
+    }
+
+    /**
+     * 配置变更集合
+     */
+    @Getter
+    public static class ChangeSet {
+
+        private final String contentHash;
+
+        private final Map<String, String> fingerprints;
+
+        /**
+         * 全局分段是否变化
+         */
+        private final boolean globalChanged;
+
+        /**
+         * 全局分段配置键值对
+         */
+        private final Map<Object, Object> globalEntries;
+
+        /**
+         * 发生变化的线程池分段数量
+         */
+        private final int changedExecutorCount;
+
+        /**
+         * 发生变化的线程池分段配置键值对，下标已重新编号为 0 ~ changedExecutorCount - 1
+         */
+        private final Map<Object, Object> changedExecutorEntries;
+
+        private ChangeSet(String contentHash,
+                          Map<String, String> fingerprints,
+                          boolean globalChanged,
+                          Map<Object, Object> globalEntries,
+                          int changedExecutorCount,
+                          Map<Object, Object> changedExecutorEntries) {
+            this.contentHash = contentHash;
+            this.fingerprints = fingerprints;
+            this.globalChanged = globalChanged;
+            this.globalEntries = globalEntries;
+            this.changedExecutorCount = changedExecutorCount;
+            this.changedExecutorEntries = changedExecutorEntries;
+        }
+
+    }
+}
@@ -0,0 +1,160 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.monitor.jmx.ConfigRefreshMXBean;
+import com.lb.threethread.core.toolkit.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 配置刷新执行器
+ * <p>
+ * 所有配置中心刷新器共享的单线程执行器，配置推送回调只负责登记最新配置内容，
+ * 由刷新线程串行应用，同一来源尚未处理的多次推送合并为一次，仅应用最新内容
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 进程内只有一个刷新线程，避免每次推送创建线程池导致线程泄漏
+ * 2. 短时间内的连续推送按来源合并，后到的内容覆盖尚未处理的内容，减少重复解析和应用
+ * 3. 配置中心回调线程只做登记，不会被配置解析、线程池参数调整阻塞
+ * 4. 统计成功刷新从推送到应用完成的耗时，合并的推送以其中最早一次推送时间为起点，统计结果通过 {@link ConfigRefreshMXBean} 暴露
+ * </p>
+ */
+@Slf4j
+public class ConfigRefreshExecutor implements ConfigRefreshMXBean {
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(ThreadFactoryBuilder.builder()
+            .namePrefix("onethread-config-refresher_")
+            .daemon(true)
+            .build());
+
+    /**
+     * 各来源尚未处理的最新推送，key 为刷新来源标识
+     */
+    private final Map<String, PendingRefresh> pendingRefreshes = new ConcurrentHashMap<>();
+
+    private final LongAdder receivedCount = new LongAdder();
+
+    private final LongAdder appliedCount = new LongAdder();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final AtomicLong maxRefreshLatencyNanos = new AtomicLong();
+
+    private volatile long lastRefreshLatencyNanos;
+
+    /**
+     * 提交一次配置推送
+     *
+     * @param source    刷新来源标识，同一来源的推送相互合并
+     * @param content   推送的配置内容
+     * @param refresher 应用配置内容的刷新逻辑
+     */
+    public void submit(String source, String content, Consumer<String> refresher) {
+        long pushTime = System.nanoTime();
+        receivedCount.increment();
+        // 覆盖尚未处理的推送，已登记的处理任务会取到最新内容
+        PendingRefresh refresh = pendingRefreshes.compute(source, (key, previous) -> previous == null
+                ? new PendingRefresh(content, refresher, pushTime, 1)
+                : new PendingRefresh(content, refresher, previous.firstPushTime, previous.pushCount + 1));
+        if (refresh.pushCount > 1) {
+            coalescedCount.increment();
+            return;
+        }
+        try {
+            worker.execute(() -> drain(source));
+        } catch (RejectedExecutionException ex) {
+            pendingRefreshes.remove(source, refresh);
+            log.warn("Config refresh executor is shut down, push from {} ignored.", source);
+        }
+    }
+
+    private void drain(String source) {
+        PendingRefresh refresh = pendingRefreshes.remove(source);
+        if (refresh == null) {
+            return;
+        }
+        try {
+            refresh.refresher.accept(refresh.content);
+        } catch (Throwable ex) {
+            failedCount.increment();
+            log.error("Failed to refresh dynamic thread pool config from {}.", source, ex);
+            return;
+        }
+        // 仅统计成功应用的刷新耗时，失败的刷新不计入
+        appliedCount.increment();
+        long latency = System.nanoTime() - refresh.firstPushTime;
+        lastRefreshLatencyNanos = latency;
+        maxRefreshLatencyNanos.accumulateAndGet(latency, Math::max);
+        if (refresh.pushCount > 1) {
+            log.info("Dynamic thread pool config refresh from {} coalesced {} pushes, push to applied: {} ms",
+                    source, refresh.pushCount, TimeUnit.NANOSECONDS.toMillis(latency));
+        }
+    }
+
+    @Override
+    public long getReceivedCount() {
+        return receivedCount.sum();
+    }
+
+    @Override
+    public long getAppliedCount() {
+        return appliedCount.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    @Override
+    public long getLastRefreshLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastRefreshLatencyNanos);
+    }
+
+    @Override
+    public long getMaxRefreshLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRefreshLatencyNanos.get());
+    }
+
+    /**
+     * 关闭刷新线程，尚未处理的推送将被丢弃
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+        pendingRefreshes.clear();
+    }
+
+    /**
+     * 尚未处理的配置推送
+     */
+    private static final class PendingRefresh {
+
+        private final String content;
+        private final Consumer<String> refresher;
+        private final long firstPushTime;
+        private final int pushCount;
+
+        private PendingRefresh(String content, Consumer<String> refresher, long firstPushTime, int pushCount) {
+            this.content = content;
+            this.refresher = refresher;
+            this.firstPushTime = firstPushTime;
+            this.pushCount = pushCount;
+        }
+    }
+}
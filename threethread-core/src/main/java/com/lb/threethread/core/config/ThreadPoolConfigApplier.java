@@ -0,0 +1,617 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.executor.ForkJoinPoolHolder;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadForkJoinPool;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.RejectedPolicyTypeEnum;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池配置事务化应用器
+ * <p>
+ * 将一次配置推送中所有线程池的变更作为一个批次处理：先校验全部配置并生成不可变的变更计划，
+ * 再逐个线程池应用，任一线程池应用失败时按快照回滚本批次已应用的所有线程池
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 避免非法配置（如拒绝策略名称错误）导致前面的线程池已变更、后面的线程池被跳过的半完成状态
+ * 2. 拒绝策略、新的工作队列等对象在校验阶段提前创建，应用阶段只做参数赋值和队列替换，缩小失败窗口
+ * 3. 单个线程池的参数调整在持有者锁内完成，并发刷新时不会交错
+ * 4. 返回单一的汇总结果，由调用方决定是否提交配置指纹、发送变更通知
+ * </p>
+ * <p>
+ * 处理流程：
+ * 1. 计划：定位线程池，计算生效值并校验，记录应用前快照
+ * 2. 校验存在错误时整个批次拒绝，不修改任何线程池
+ * 3. 应用：按计划顺序逐个应用，失败时逆序回滚
+ * 4. 提交：全部应用成功后替换持有者中的线程池配置属性，开启渐进调整的线程池再分步调整线程数和队列容量
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolConfigApplier {
+
+    /**
+     * ForkJoinPool 支持的最大并行度
+     */
+    private static final int MAX_FORK_JOIN_PARALLELISM = 0x7fff;
+
+    /**
+     * 线程池渐进调整器，为空时线程数和队列容量一次性调整到目标值
+     */
+    private final ThreadPoolResizeRamper resizeRamper;
+
+    public ThreadPoolConfigApplier() {
+        this(null);
+    }
+
+    /**
+     * 构造线程池配置事务化应用器
+     *
+     * @param resizeRamper 线程池渐进调整器，开启渐进调整的线程池由其分步调整线程数和队列容量
+     */
+    public ThreadPoolConfigApplier(ThreadPoolResizeRamper resizeRamper) {
+        this.resizeRamper = resizeRamper;
+    }
+
+    /**
+     * 应用一批线程池配置
+     *
+     * @param remoteExecutors 配置中心中发生变化的线程池配置
+     * @return 批次应用结果
+     */
+    public synchronized ApplyResult apply(List<ThreadPoolExecutorProperties> remoteExecutors) {
+        // 计划阶段：校验全部配置，不修改任何线程池
+        List<PoolChange> plan = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (ThreadPoolExecutorProperties remoteProperties : remoteExecutors) {
+            PoolChange change = plan(remoteProperties, errors);
+            if (change != null) {
+                plan.add(change);
+            }
+        }
+        if (!errors.isEmpty()) {
+            return new ApplyResult(ApplyStatus.REJECTED, Collections.emptyList(), errors);
+        }
+
+        // 应用阶段：逐个线程池应用，失败时回滚本批次已应用的线程池
+        List<PoolChange> applied = new ArrayList<>();
+        for (PoolChange change : plan) {
+            applied.add(change);
+            try {
+                change.apply();
+            } catch (RuntimeException ex) {
+                log.error("[{}] Failed to apply dynamic thread pool config, rolling back {} pool(s) in this batch.",
+                        change.getThreadPoolId(), applied.size(), ex);
+                rollback(applied);
+                return new ApplyResult(ApplyStatus.ROLLED_BACK, Collections.emptyList(),
+                        List.of(change.getThreadPoolId() + ": " + ex.getMessage()));
+            }
+        }
+
+        // 提交阶段：全部应用成功后替换持有者中的配置属性
+        plan.forEach(PoolChange::commit);
+        List<PoolChange> changed = plan.stream().filter(PoolChange::isParameterChanged).toList();
+        return new ApplyResult(ApplyStatus.SUCCESS, changed, Collections.emptyList());
+    }
+
+    private void rollback(List<PoolChange> applied) {
+        for (int i = applied.size() - 1; i >= 0; i--) {
+            PoolChange change = applied.get(i);
+            try {
+                change.rollback();
+            } catch (RuntimeException ex) {
+                log.error("[{}] Failed to roll back dynamic thread pool config.", change.getThreadPoolId(), ex);
+            }
+        }
+    }
+
+    private PoolChange plan(ThreadPoolExecutorProperties remoteProperties, List<String> errors) {
+        String threadPoolId = remoteProperties.getThreadPoolId();
+        ForkJoinPoolHolder forkJoinPoolHolder = OneThreadRegistry.getForkJoinPoolHolder(threadPoolId);
+        if (forkJoinPoolHolder != null) {
+            return planForkJoinPool(forkJoinPoolHolder, remoteProperties, errors);
+        }
+
+        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+        if (holder == null) {
+            log.warn("No thread pool found for thread pool id: {}", threadPoolId);
+            return null;
+        }
+        return planExecutor(holder, remoteProperties, errors);
+    }
+
+    private PoolChange planForkJoinPool(ForkJoinPoolHolder holder, ThreadPoolExecutorProperties remoteProperties, List<String> errors) {
+        ThreadPoolExecutorProperties originalProperties = holder.getExecutorProperties();
+        Integer parallelism = remoteProperties.getParallelism();
+        if (!isChanged(originalProperties.getParallelism(), parallelism)) {
+            return null;
+        }
+        if (parallelism <= 0 || parallelism > MAX_FORK_JOIN_PARALLELISM) {
+            errors.add(remoteProperties.getThreadPoolId() + ": parallelism must be between 1 and " + MAX_FORK_JOIN_PARALLELISM + ", but was " + parallelism);
+            return null;
+        }
+        if (!OneThreadForkJoinPool.isParallelismAdjustable()) {
+            errors.add(remoteProperties.getThreadPoolId() + ": changing parallelism at runtime requires JDK 19+, restart the application to apply parallelism " + parallelism);
+            return null;
+        }
+        return new ForkJoinPoolChange(holder, originalProperties, remoteProperties, holder.getPool().getParallelism());
+    }
+
+    private PoolChange planExecutor(ThreadPoolExecutorHolder holder, ThreadPoolExecutorProperties remoteProperties, List<String> errors) {
+        String threadPoolId = remoteProperties.getThreadPoolId();
+        ThreadPoolExecutor executor = holder.getExecutor();
+        ThreadPoolExecutorProperties originalProperties = holder.getExecutorProperties();
+        ExecutorState current = ExecutorState.capture(executor);
+        int errorCount = errors.size();
+
+        // 计算生效值，未配置的参数保持当前值
+        int corePoolSize = Objects.requireNonNullElse(remoteProperties.getCorePoolSize(), current.corePoolSize);
+        int maximumPoolSize = Objects.requireNonNullElse(remoteProperties.getMaximumPoolSize(), current.maximumPoolSize);
+        long keepAliveTime = Objects.requireNonNullElse(remoteProperties.getKeepAliveTime(), current.keepAliveSeconds);
+        boolean allowCoreThreadTimeOut = Objects.requireNonNullElse(remoteProperties.getAllowCoreThreadTimeOut(), current.allowCoreThreadTimeOut);
+
+        if (corePoolSize < 0) {
+            errors.add(threadPoolId + ": corePoolSize must not be negative, but was " + corePoolSize);
+        }
+        if (maximumPoolSize <= 0) {
+            errors.add(threadPoolId + ": maximumPoolSize must be greater than 0, but was " + maximumPoolSize);
+        }
+        if (corePoolSize > maximumPoolSize) {
+            errors.add(threadPoolId + ": corePoolSize " + corePoolSize + " must not be greater than maximumPoolSize " + maximumPoolSize);
+        }
+        if (keepAliveTime < 0) {
+            errors.add(threadPoolId + ": keepAliveTime must not be negative, but was " + keepAliveTime);
+        } else if (keepAliveTime == 0 && allowCoreThreadTimeOut) {
+            errors.add(threadPoolId + ": keepAliveTime must be greater than 0 when allowCoreThreadTimeOut is enabled");
+        }
+
+        RejectedExecutionHandler rejectedHandler = current.rejectedHandler;
+        if (isChanged(originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler())) {
+            try {
+                rejectedHandler = RejectedPolicyTypeEnum.createPolicy(remoteProperties.getRejectedHandler());
+            } catch (IllegalArgumentException ex) {
+                errors.add(threadPoolId + ": " + ex.getMessage());
+            }
+        }
+
+        // 工作队列类型变化时提前创建新队列，容量取本次配置值，未配置时沿用原配置
+        BlockingQueue<Runnable> workQueue = current.workQueue;
+        boolean workQueueChanged = false;
+        if (isChanged(originalProperties.getWorkQueue(), remoteProperties.getWorkQueue())) {
+            if (executor.getQueue() instanceof SwappableBlockingQueue) {
+                Integer capacity = Objects.requireNonNullElse(remoteProperties.getQueueCapacity(), originalProperties.getQueueCapacity());
+                try {
+                    workQueue = BlockingQueueTypeEnum.createBlockingQueue(remoteProperties.getWorkQueue(), capacity);
+                    workQueueChanged = true;
+                } catch (IllegalArgumentException ex) {
+                    errors.add(threadPoolId + ": " + ex.getMessage());
+                }
+            } else {
+                log.warn("[{}] Work queue of thread pool does not support runtime replacement, ignored change: {} => {}",
+                        threadPoolId, originalProperties.getWorkQueue(), remoteProperties.getWorkQueue());
+            }
+        }
+
+        boolean queueCapacityChanged = !workQueueChanged && isQueueCapacityChanged(originalProperties, remoteProperties, executor);
+        int queueCapacity = queueCapacityChanged ? remoteProperties.getQueueCapacity() : current.queueCapacity;
+        if (queueCapacityChanged && queueCapacity <= 0) {
+            errors.add(threadPoolId + ": queueCapacity must be greater than 0, but was " + queueCapacity);
+        }
+        if (workQueueChanged) {
+            queueCapacity = workQueue.remainingCapacity();
+        }
+
+        if (errors.size() > errorCount) {
+            return null;
+        }
+
+        long executeTimeout = isChanged(originalProperties.getExecuteTimeout(), remoteProperties.getExecuteTimeout())
+                ? remoteProperties.getExecuteTimeout()
+                : current.executeTimeout;
+        boolean parameterChanged = hasDifference(originalProperties, remoteProperties) || queueCapacityChanged || workQueueChanged;
+
+        // 开启渐进调整时，线程数和队列容量保持当前值，提交后由渐进调整器分步调整到目标值；替换的新队列按配置容量直接生效
+        ExecutorState target;
+        ExecutorState rampTarget = null;
+        if (isRampEnabled(remoteProperties) && (corePoolSize != current.corePoolSize
+                || maximumPoolSize != current.maximumPoolSize || (queueCapacityChanged && queueCapacity != current.queueCapacity))) {
+            int holdQueueCapacity = workQueueChanged ? queueCapacity : current.queueCapacity;
+            target = new ExecutorState(current.corePoolSize, current.maximumPoolSize, keepAliveTime, allowCoreThreadTimeOut,
+                    rejectedHandler, executeTimeout, holdQueueCapacity, workQueue);
+            rampTarget = new ExecutorState(corePoolSize, maximumPoolSize, keepAliveTime, allowCoreThreadTimeOut,
+                    rejectedHandler, executeTimeout, queueCapacityChanged ? queueCapacity : holdQueueCapacity, workQueue);
+        } else {
+            target = new ExecutorState(corePoolSize, maximumPoolSize, keepAliveTime, allowCoreThreadTimeOut,
+                    rejectedHandler, executeTimeout, queueCapacity, workQueue);
+        }
+        return new ExecutorChange(holder, originalProperties, remoteProperties, parameterChanged, target, rampTarget, queueCapacityChanged);
+    }
+
+    private boolean isRampEnabled(ThreadPoolExecutorProperties remoteProperties) {
+        return resizeRamper != null
+                && remoteProperties.getRamp() != null
+                && Boolean.TRUE.equals(remoteProperties.getRamp().getEnable());
+    }
+
+    private boolean hasDifference(ThreadPoolExecutorProperties originalProperties, ThreadPoolExecutorProperties remoteProperties) {
+        return isChanged(originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize())
+                || isChanged(originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize())
+                || isChanged(originalProperties.getAllowCoreThreadTimeOut(), remoteProperties.getAllowCoreThreadTimeOut())
+                || isChanged(originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime())
+                || isChanged(originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler())
+                || isChanged(originalProperties.getExecuteTimeout(), remoteProperties.getExecuteTimeout());
+    }
+
+    private static <T> boolean isChanged(T before, T after) {
+        return after != null && !Objects.equals(before, after);
+    }
+
+    /**
+     * 检查队列容量是否发生变化，仅对 ResizableCapacityLinkedBlockingQueue 生效，其他队列需同时变更队列类型才能调整容量
+     */
+    private static boolean isQueueCapacityChanged(ThreadPoolExecutorProperties originalProperties,
+                                                  ThreadPoolExecutorProperties remoteProperties,
+                                                  ThreadPoolExecutor executor) {
+        return isChanged(originalProperties.getQueueCapacity(), remoteProperties.getQueueCapacity())
+                && Objects.equals(BlockingQueueTypeEnum.RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE.getName(), SwappableBlockingQueue.unwrap(executor.getQueue()).getClass().getSimpleName());
+    }
+
+    /**
+     * 批次应用状态
+     */
+    public enum ApplyStatus {
+
+        /**
+         * 全部线程池应用成功
+         */
+        SUCCESS,
+
+        /**
+         * 校验失败，未修改任何线程池
+         */
+        REJECTED,
+
+        /**
+         * 应用过程中失败，本批次已应用的线程池均已回滚
+         */
+        ROLLED_BACK
+    }
+
+    /**
+     * 批次应用结果
+     */
+    @Getter
+    public static class ApplyResult {
+
+        private final ApplyStatus status;
+
+        /**
+         * 线程池参数发生变化的线程池，仅应用成功时有值
+         */
+        private final List<PoolChange> changes;
+
+        /**
+         * 校验或应用错误信息
+         */
+        private final List<String> errors;
+
+        private ApplyResult(ApplyStatus status, List<PoolChange> changes, List<String> errors) {
+            this.status = status;
+            this.changes = changes;
+            this.errors = errors;
+        }
+
+        public boolean isSuccess() {
+            return status == ApplyStatus.SUCCESS;
+        }
+
+        /**
+         * 获取汇总描述，用于日志输出
+         */
+        public String getSummary() {
+            if (isSuccess()) {
+                return "status=SUCCESS, changedPools=" + changes.size();
+            }
+            return "status=" + status + ", errors=" + errors;
+        }
+    }
+
+    /**
+     * 单个线程池的不可变变更计划
+     */
+    @Getter
+    public abstract static class PoolChange {
+
+        private final String threadPoolId;
+
+        private final ThreadPoolExecutorProperties originalProperties;
+
+        private final ThreadPoolExecutorProperties remoteProperties;
+
+        /**
+         * 线程池参数是否发生变化，为 false 时仅刷新告警、通知配置
+         */
+        private final boolean parameterChanged;
+
+        private PoolChange(ThreadPoolExecutorProperties originalProperties, ThreadPoolExecutorProperties remoteProperties, boolean parameterChanged) {
+            this.threadPoolId = remoteProperties.getThreadPoolId();
+            this.originalProperties = originalProperties;
+            this.remoteProperties = remoteProperties;
+            this.parameterChanged = parameterChanged;
+        }
+
+        /**
+         * 是否为 ForkJoin 线程池
+         */
+        public abstract boolean isForkJoinPool();
+
+        abstract void apply();
+
+        abstract void rollback();
+
+        abstract void commit();
+    }
+
+    private final class ExecutorChange extends PoolChange {
+
+        private final ThreadPoolExecutorHolder holder;
+        private final ExecutorState target;
+        private final ExecutorState rampTarget;
+        private final boolean queueCapacityChanged;
+        private ExecutorState snapshot;
+        private boolean rampPaused;
+
+        private ExecutorChange(ThreadPoolExecutorHolder holder,
+                               ThreadPoolExecutorProperties originalProperties,
+                               ThreadPoolExecutorProperties remoteProperties,
+                               boolean parameterChanged,
+                               ExecutorState target,
+                               ExecutorState rampTarget,
+                               boolean queueCapacityChanged) {
+            super(originalProperties, remoteProperties, parameterChanged);
+            this.holder = holder;
+            this.target = target;
+            this.rampTarget = rampTarget;
+            this.queueCapacityChanged = queueCapacityChanged;
+        }
+
+        @Override
+        public boolean isForkJoinPool() {
+            return false;
+        }
+
+        @Override
+        void apply() {
+            if (!isParameterChanged()) {
+                return;
+            }
+            // 暂停进行中的渐进调整，提交后取消、回滚后恢复；快照取应用前的实际参数，用于回滚
+            rampPaused = resizeRamper != null && resizeRamper.pause(getThreadPoolId());
+            synchronized (holder) {
+                snapshot = ExecutorState.capture(holder.getExecutor());
+                target.applyTo(holder.getExecutor());
+            }
+        }
+
+        @Override
+        void rollback() {
+            if (snapshot != null) {
+                synchronized (holder) {
+                    snapshot.applyTo(holder.getExecutor());
+                }
+            }
+            if (rampPaused) {
+                resizeRamper.resume(getThreadPoolId());
+            }
+        }
+
+        @Override
+        void commit() {
+            applyQueueContentionTracking();
+            applySlowTaskThreshold();
+            applyResourceAccounting();
+            if (isParameterChanged()) {
+                if (rampPaused) {
+                    resizeRamper.cancel(getThreadPoolId());
+                }
+                holder.setExecutorProperties(getRemoteProperties());
+                if (rampTarget != null) {
+                    resizeRamper.start(holder, getRemoteProperties().getRamp(), rampTarget.corePoolSize, rampTarget.maximumPoolSize,
+                            queueCapacityChanged ? rampTarget.queueCapacity : null);
+                }
+                return;
+            }
+            // 告警、通知、渐进调整配置不影响线程池参数，直接替换
+            ThreadPoolExecutorProperties originalProperties = getOriginalProperties();
+            if (!Objects.equals(originalProperties.getAlarm(), getRemoteProperties().getAlarm())) {
+                log.info("[{}] Dynamic thread pool alarm config changed: {} => {}", getThreadPoolId(),
+                        originalProperties.getAlarm(), getRemoteProperties().getAlarm());
+            }
+            originalProperties.setAlarm(getRemoteProperties().getAlarm());
+            originalProperties.setNotify(getRemoteProperties().getNotify());
+            originalProperties.setRamp(getRemoteProperties().getRamp());
+            originalProperties.setQueueContentionTracking(getRemoteProperties().getQueueContentionTracking());
+            originalProperties.setSlowTaskThreshold(getRemoteProperties().getSlowTaskThreshold());
+            originalProperties.setAccounting(getRemoteProperties().getAccounting());
+        }
+
+        /**
+         * 队列锁竞争统计为诊断开关，不影响线程池参数，无需回滚
+         */
+        private void applyQueueContentionTracking() {
+            Boolean queueContentionTracking = getRemoteProperties().getQueueContentionTracking();
+            if (queueContentionTracking != null && holder.getExecutor() instanceof OneThreadExecutor oneThreadExecutor
+                    && oneThreadExecutor.isQueueContentionTracking() != queueContentionTracking) {
+                oneThreadExecutor.setQueueContentionTracking(queueContentionTracking);
+                log.info("[{}] Dynamic thread pool queue contention tracking changed: {}", getThreadPoolId(), queueContentionTracking);
+            }
+        }
+
+        /**
+         * 慢任务检测为诊断开关，不影响线程池参数，无需回滚
+         */
+        private void applySlowTaskThreshold() {
+            long slowTaskThreshold = Optional.ofNullable(getRemoteProperties().getSlowTaskThreshold()).orElse(0L);
+            if (holder.getExecutor() instanceof OneThreadExecutor oneThreadExecutor
+                    && oneThreadExecutor.getSlowTaskThreshold() != slowTaskThreshold) {
+                oneThreadExecutor.setSlowTaskThreshold(slowTaskThreshold);
+                log.info("[{}] Dynamic thread pool slow task threshold changed: {} ms", getThreadPoolId(), slowTaskThreshold);
+            }
+        }
+
+        /**
+         * 资源消耗统计为诊断开关，不影响线程池参数，无需回滚
+         */
+        private void applyResourceAccounting() {
+            ThreadPoolExecutorProperties.AccountingConfig accounting = getRemoteProperties().getAccounting();
+            if (!(holder.getExecutor() instanceof OneThreadExecutor oneThreadExecutor)
+                    || Objects.equals(getOriginalProperties().getAccounting(), accounting)) {
+                return;
+            }
+            ThreadPoolExecutorProperties.AccountingConfig.applyTo(oneThreadExecutor, accounting);
+            log.info("[{}] Dynamic thread pool resource accounting changed: {}", getThreadPoolId(), accounting);
+        }
+    }
+
+    private static final class ForkJoinPoolChange extends PoolChange {
+
+        private final ForkJoinPoolHolder holder;
+        private final int originalParallelism;
+
+        private ForkJoinPoolChange(ForkJoinPoolHolder holder,
+                                   ThreadPoolExecutorProperties originalProperties,
+                                   ThreadPoolExecutorProperties remoteProperties,
+                                   int originalParallelism) {
+            super(originalProperties, remoteProperties, true);
+            this.holder = holder;
+            this.originalParallelism = originalParallelism;
+        }
+
+        @Override
+        public boolean isForkJoinPool() {
+            return true;
+        }
+
+        @Override
+        void apply() {
+            holder.updateParallelism(getRemoteProperties().getParallelism());
+        }
+
+        @Override
+        void rollback() {
+            holder.updateParallelism(originalParallelism);
+        }
+
+        @Override
+        void commit() {
+            holder.setExecutorProperties(getRemoteProperties());
+        }
+    }
+
+    /**
+     * 线程池可调整参数的快照，既用于描述目标状态，也用于回滚
+     */
+    private static final class ExecutorState {
+
+        private final int corePoolSize;
+        private final int maximumPoolSize;
+        private final long keepAliveSeconds;
+        private final boolean allowCoreThreadTimeOut;
+        private final RejectedExecutionHandler rejectedHandler;
+        private final long executeTimeout;
+        private final int queueCapacity;
+
+        /**
+         * 可替换队列的委派队列，线程池工作队列不可替换时为原工作队列，替换前后对象不同时才执行替换
+         */
+        private final BlockingQueue<Runnable> workQueue;
+
+        private ExecutorState(int corePoolSize,
+                              int maximumPoolSize,
+                              long keepAliveSeconds,
+                              boolean allowCoreThreadTimeOut,
+                              RejectedExecutionHandler rejectedHandler,
+                              long executeTimeout,
+                              int queueCapacity,
+                              BlockingQueue<Runnable> workQueue) {
+            this.corePoolSize = corePoolSize;
+            this.maximumPoolSize = maximumPoolSize;
+            this.keepAliveSeconds = keepAliveSeconds;
+            this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
+            this.rejectedHandler = rejectedHandler;
+            this.executeTimeout = executeTimeout;
+            this.queueCapacity = queueCapacity;
+            this.workQueue = workQueue;
+        }
+
+        private static ExecutorState capture(ThreadPoolExecutor executor) {
+            BlockingQueue<Runnable> queue = SwappableBlockingQueue.unwrap(executor.getQueue());
+            return new ExecutorState(
+                    executor.getCorePoolSize(),
+                    executor.getMaximumPoolSize(),
+                    executor.getKeepAliveTime(TimeUnit.SECONDS),
+                    executor.allowsCoreThreadTimeOut(),
+                    executor.getRejectedExecutionHandler(),
+                    executor instanceof OneThreadExecutor oneThreadExecutor ? oneThreadExecutor.getExecuteTimeout() : 0L,
+                    queue instanceof ResizableCapacityLinkedBlockingQueue<?> resizableQueue
+                            ? resizableQueue.getCapacity()
+                            : queue.size() + queue.remainingCapacity(),
+                    queue);
+        }
+
+        private void applyTo(ThreadPoolExecutor executor) {
+            // 新的核心线程数大于当前最大线程数时，需要先调整最大线程数，避免出现临时的非法状态
+            if (corePoolSize > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(maximumPoolSize);
+                executor.setCorePoolSize(corePoolSize);
+            } else {
+                executor.setCorePoolSize(corePoolSize);
+                executor.setMaximumPoolSize(maximumPoolSize);
+            }
+            // 允许核心线程超时要求存活时间大于 0：开启时先设置存活时间，关闭时先关闭超时
+            if (allowCoreThreadTimeOut) {
+                executor.setKeepAliveTime(keepAliveSeconds, TimeUnit.SECONDS);
+                executor.allowCoreThreadTimeOut(true);
+            } else {
+                executor.allowCoreThreadTimeOut(false);
+                executor.setKeepAliveTime(keepAliveSeconds, TimeUnit.SECONDS);
+            }
+            if (executor.getRejectedExecutionHandler() != rejectedHandler) {
+                executor.setRejectedExecutionHandler(rejectedHandler);
+            }
+            if (executor instanceof OneThreadExecutor oneThreadExecutor) {
+                oneThreadExecutor.setExecuteTimeout(executeTimeout);
+            }
+            // 替换工作队列时迁移已排队任务，回滚时替换回原队列对象
+            if (executor.getQueue() instanceof SwappableBlockingQueue<Runnable> swappableQueue
+                    && swappableQueue.getDelegate() != workQueue) {
+                if (executor instanceof OneThreadExecutor oneThreadExecutor) {
+                    oneThreadExecutor.swapWorkQueue(workQueue);
+                } else {
+                    swappableQueue.swap(workQueue, executor.getPoolSize());
+                }
+            }
+            if (SwappableBlockingQueue.unwrap(executor.getQueue()) instanceof ResizableCapacityLinkedBlockingQueue<?> resizableQueue
+                    && queueCapacity != resizableQueue.getCapacity()) {
+                resizableQueue.setCapacity(queueCapacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+
+import java.util.List;
+
+/**
+ * 线程池配置更新处理器
+ * <p>
+ * JMX 等运行时管理入口通过该接口提交配置变更，由 Spring 集成层提供与配置中心刷新一致的实现：
+ * 校验并事务化应用配置、合并启动配置属性、记录变更日志并发送变更通知；
+ * 未集成时可直接使用 {@link ThreadPoolConfigApplier#apply(List)}
+ * </p>
+ */
+@FunctionalInterface
+public interface ThreadPoolConfigUpdateHandler {
+
+    /**
+     * 更新线程池配置
+     *
+     * @param changedExecutors 发生变化的线程池完整配置
+     * @return 应用结果
+     */
+    ThreadPoolConfigApplier.ApplyResult update(List<ThreadPoolExecutorProperties> changedExecutors);
+}
@@ -0,0 +1,299 @@
+package com.lb.threethread.core.config;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import com.lb.threethread.core.monitor.LatencyHistogram;
+import com.lb.threethread.core.toolkit.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池渐进调整器
+ * <p>
+ * 将核心线程数、最大线程数和队列容量在配置的调整时长内分步调整到目标值，
+ * 避免一次性大幅缩容引发集中拒绝，或一次性大幅扩容引发线程集中创建
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 每一步按起始值与目标值线性插值，核心线程数不超过同一步的最大线程数
+ * 2. 第一个间隔不调整参数，仅观察拒绝次数和排队耗时作为调整前基线
+ * 3. 每一步调整后若拒绝次数超出基线与容忍值之和，或排队耗时 P99 超过基线的劣化倍数，则终止调整并回退到上一步；
+ *    配置了排队耗时劣化倍数时，调整期间持有排队耗时统计引用，每一步直接读取线程池的排队耗时直方图
+ * 4. 同一线程池再次变更时先暂停进行中的调整，变更提交后取消、回滚后恢复，以最终生效的配置为准
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolResizeRamper {
+
+    /**
+     * 排队耗时 P99 基线下限（单位：微秒），避免空闲线程池基线为 0 时任意排队都判定为劣化
+     */
+    private static final long MIN_QUEUE_WAIT_P99_BASELINE = 1000L;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            ThreadFactoryBuilder.builder()
+                    .namePrefix("onethread-resize-ramper_")
+                    .daemon(true)
+                    .build()
+    );
+
+    /**
+     * 进行中的渐进调整，key 为线程池唯一标识
+     */
+    private final Map<String, Ramp> ramps = new ConcurrentHashMap<>();
+
+    /**
+     * 开始渐进调整，取消该线程池进行中的调整
+     *
+     * @param holder          线程池持有者
+     * @param config          渐进调整配置
+     * @param corePoolSize    目标核心线程数
+     * @param maximumPoolSize 目标最大线程数
+     * @param queueCapacity   目标队列容量，为空时不调整队列容量
+     */
+    public void start(ThreadPoolExecutorHolder holder, ThreadPoolExecutorProperties.RampConfig config,
+                      int corePoolSize, int maximumPoolSize, Integer queueCapacity) {
+        String threadPoolId = holder.getThreadPoolId();
+        cancel(threadPoolId);
+
+        int steps = Math.max(1, config.getSteps());
+        long intervalMillis = Math.max(1L, TimeUnit.SECONDS.toMillis(config.getDuration()) / steps);
+        Ramp ramp = new Ramp(holder, config, steps, corePoolSize, maximumPoolSize, queueCapacity);
+        ramps.put(threadPoolId, ramp);
+        ramp.future = scheduler.scheduleWithFixedDelay(ramp, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[{}] Dynamic thread pool resize ramp started, steps: {}, interval: {} ms, target corePoolSize: {}, maximumPoolSize: {}, queueCapacity: {}",
+                threadPoolId, steps, intervalMillis, corePoolSize, maximumPoolSize, queueCapacity);
+    }
+
+    /**
+     * 取消线程池进行中的渐进调整，已调整的参数保持不变
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 是否存在进行中的调整
+     */
+    public boolean cancel(String threadPoolId) {
+        Ramp ramp = ramps.remove(threadPoolId);
+        if (ramp == null) {
+            return false;
+        }
+        ramp.cancel();
+        return true;
+    }
+
+    /**
+     * 暂停线程池进行中的渐进调整，暂停期间不调整参数，仅跟进拒绝次数
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 是否存在进行中的调整
+     */
+    public boolean pause(String threadPoolId) {
+        Ramp ramp = ramps.get(threadPoolId);
+        if (ramp == null) {
+            return false;
+        }
+        ramp.paused = true;
+        return true;
+    }
+
+    /**
+     * 恢复线程池被暂停的渐进调整
+     *
+     * @param threadPoolId 线程池唯一标识
+     */
+    public void resume(String threadPoolId) {
+        Ramp ramp = ramps.get(threadPoolId);
+        if (ramp != null) {
+            ramp.paused = false;
+        }
+    }
+
+    /**
+     * 判断线程池是否正在渐进调整
+     *
+     * @param threadPoolId 线程池唯一标识
+     */
+    public boolean isRamping(String threadPoolId) {
+        return ramps.containsKey(threadPoolId);
+    }
+
+    /**
+     * 关闭渐进调整器，取消所有进行中的调整
+     */
+    public void shutdown() {
+        ramps.keySet().forEach(this::cancel);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 单个线程池的渐进调整过程
+     */
+    private final class Ramp implements Runnable {
+
+        private final ThreadPoolExecutorHolder holder;
+        private final ThreadPoolExecutorProperties.RampConfig config;
+        private final int steps;
+        private final int startCorePoolSize;
+        private final int startMaximumPoolSize;
+        private final int startQueueCapacity;
+        private final int targetCorePoolSize;
+        private final int targetMaximumPoolSize;
+        private final Integer targetQueueCapacity;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean cancelled;
+        private volatile boolean paused;
+        private final OneThreadExecutor queueWaitTrackedExecutor;
+        private final LatencyHistogram.Cursor queueWaitCursor;
+        private boolean queueWaitTrackingReleased;
+        private int step;
+        private long lastRejectCount;
+        private long baselineRejects;
+        private long baselineQueueWaitP99;
+
+        private Ramp(ThreadPoolExecutorHolder holder, ThreadPoolExecutorProperties.RampConfig config, int steps,
+                     int targetCorePoolSize, int targetMaximumPoolSize, Integer targetQueueCapacity) {
+            ThreadPoolExecutor executor = holder.getExecutor();
+            this.holder = holder;
+            this.config = config;
+            this.steps = steps;
+            this.startCorePoolSize = executor.getCorePoolSize();
+            this.startMaximumPoolSize = executor.getMaximumPoolSize();
+            BlockingQueue<Runnable> queue = SwappableBlockingQueue.unwrap(executor.getQueue());
+            this.startQueueCapacity = queue instanceof ResizableCapacityLinkedBlockingQueue<?> resizableQueue
+                    ? resizableQueue.getCapacity()
+                    : queue.size() + queue.remainingCapacity();
+            this.targetCorePoolSize = targetCorePoolSize;
+            this.targetMaximumPoolSize = targetMaximumPoolSize;
+            this.targetQueueCapacity = targetQueueCapacity;
+            this.lastRejectCount = holder.getRejectCount();
+            if (config.getQueueWaitP99Ratio() != null && executor instanceof OneThreadExecutor oneThreadExecutor) {
+                oneThreadExecutor.retainQueueWaitTracking();
+                this.queueWaitTrackedExecutor = oneThreadExecutor;
+                this.queueWaitCursor = oneThreadExecutor.getQueueWaitHistogram().newCursor();
+            } else {
+                this.queueWaitTrackedExecutor = null;
+                this.queueWaitCursor = null;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (holder) {
+                    if (cancelled) {
+                        cancel();
+                        return;
+                    }
+                    long rejectCount = holder.getRejectCount();
+                    long stepRejects = rejectCount - lastRejectCount;
+                    lastRejectCount = rejectCount;
+                    long queueWaitP99 = queueWaitCursor == null ? -1L : queueWaitCursor.percentiles(0.99D)[0];
+                    if (paused) {
+                        return;
+                    }
+
+                    if (step == 0) {
+                        // 第一个间隔仅记录基线
+                        baselineRejects = stepRejects;
+                        baselineQueueWaitP99 = Math.max(queueWaitP99, MIN_QUEUE_WAIT_P99_BASELINE);
+                    } else if (isRegressed(stepRejects, queueWaitP99)) {
+                        abort(stepRejects, queueWaitP99);
+                        return;
+                    }
+
+                    step++;
+                    applyStep(step);
+                    if (step >= steps) {
+                        finish();
+                        log.info("[{}] Dynamic thread pool resize ramp completed, corePoolSize: {}, maximumPoolSize: {}, queueCapacity: {}",
+                                holder.getThreadPoolId(), targetCorePoolSize, targetMaximumPoolSize, targetQueueCapacity);
+                    }
+                }
+            } catch (RuntimeException ex) {
+                finish();
+                log.error("[{}] Dynamic thread pool resize ramp failed at step {}.", holder.getThreadPoolId(), step, ex);
+            }
+        }
+
+        private boolean isRegressed(long stepRejects, long queueWaitP99) {
+            long rejectTolerance = config.getRejectTolerance() == null ? 0L : config.getRejectTolerance();
+            if (stepRejects > baselineRejects + rejectTolerance) {
+                return true;
+            }
+            Double ratio = config.getQueueWaitP99Ratio();
+            return ratio != null && queueWaitP99 > baselineQueueWaitP99 * ratio;
+        }
+
+        /**
+         * 终止调整并回退到上一步参数，同步更新持有者中的配置属性为实际生效值
+         */
+        private void abort(long stepRejects, long queueWaitP99) {
+            applyStep(step - 1);
+
+            ThreadPoolExecutor executor = holder.getExecutor();
+            ThreadPoolExecutorProperties actualProperties = BeanUtil.copyProperties(holder.getExecutorProperties(), ThreadPoolExecutorProperties.class);
+            actualProperties.setCorePoolSize(executor.getCorePoolSize())
+                    .setMaximumPoolSize(executor.getMaximumPoolSize());
+            if (targetQueueCapacity != null) {
+                actualProperties.setQueueCapacity(interpolate(startQueueCapacity, targetQueueCapacity, step - 1));
+            }
+            holder.setExecutorProperties(actualProperties);
+            finish();
+            log.warn("[{}] Dynamic thread pool resize ramp aborted at step {}/{}, rejects in step: {} (baseline: {}), queue wait p99: {} us (baseline: {} us). " +
+                            "Rolled back to corePoolSize: {}, maximumPoolSize: {}, queueCapacity: {}",
+                    holder.getThreadPoolId(), step, steps, stepRejects, baselineRejects, queueWaitP99, baselineQueueWaitP99,
+                    actualProperties.getCorePoolSize(), actualProperties.getMaximumPoolSize(), actualProperties.getQueueCapacity());
+        }
+
+        private void applyStep(int currentStep) {
+            ThreadPoolExecutor executor = holder.getExecutor();
+            int maximumPoolSize = interpolate(startMaximumPoolSize, targetMaximumPoolSize, currentStep);
+            int corePoolSize = Math.min(interpolate(startCorePoolSize, targetCorePoolSize, currentStep), maximumPoolSize);
+            if (corePoolSize > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(maximumPoolSize);
+                executor.setCorePoolSize(corePoolSize);
+            } else {
+                executor.setCorePoolSize(corePoolSize);
+                executor.setMaximumPoolSize(maximumPoolSize);
+            }
+            if (targetQueueCapacity != null && SwappableBlockingQueue.unwrap(executor.getQueue()) instanceof ResizableCapacityLinkedBlockingQueue<?> resizableQueue) {
+                resizableQueue.setCapacity(interpolate(startQueueCapacity, targetQueueCapacity, currentStep));
+            }
+        }
+
+        private int interpolate(int start, int target, int currentStep) {
+            return (int) (start + Math.round((double) (target - start) * currentStep / steps));
+        }
+
+        private void finish() {
+            ramps.remove(holder.getThreadPoolId(), this);
+            cancel();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+            releaseQueueWaitTracking();
+        }
+
+        private synchronized void releaseQueueWaitTracking() {
+            if (queueWaitTrackedExecutor != null && !queueWaitTrackingReleased) {
+                queueWaitTrackingReleased = true;
+                queueWaitTrackedExecutor.releaseQueueWaitTracking();
+            }
+        }
+    }
+}
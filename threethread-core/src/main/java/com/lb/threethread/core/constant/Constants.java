@@ -8,16 +8,23 @@ public class Constants {
     public static final String CHANGE_THREAD_POOL_TEXT = "[{}] Dynamic thread pool parameter changed:"
             + "\n    corePoolSize: {}"
             + "\n    maximumPoolSize: {}"
+            + "\n    workQueue: {}"
             + "\n    capacity: {}"
             + "\n    keepAliveTime: {}"
             + "\n    rejectedType: {}"
-            + "\n    allowCoreThreadTimeOut: {}";
+            + "\n    allowCoreThreadTimeOut: {}"
+            + "\n    executeTimeout: {}";
 
     /**
      * 线程池参数变更前后分隔符常量
      */
     public static final String CHANGE_DELIMITER = "%s => %s";
 
+    /**
+     * 钉钉机器人 markdown 消息请求体，依次为已转义的标题、正文和 @ 手机号数组
+     */
+    public static final String DING_MARKDOWN_REQUEST_TEXT = "{\"msgtype\":\"markdown\",\"markdown\":{\"title\":%s,\"text\":%s},\"at\":{\"atMobiles\":%s}}";
+
     /**
      * 钉钉配置变更消息文本
      */
@@ -52,4 +59,96 @@ public class Constants {
             
             **变更时间：%s**
             """;
+
+    /**
+     * 钉钉合并配置变更消息头部文本
+     */
+    public static final String DING_CONFIG_CHANGE_BATCH_HEADER_TEXT = """
+            **<font color=#2a9d8f>[通知] </font>%s - 动态线程池参数变更（%s 个线程池）**
+            
+            <font color='#708090' size=2>应用实例：%s</font>\s
+            
+            """;
+
+    /**
+     * 钉钉合并配置变更消息中单个线程池的变更文本
+     */
+    public static final String DING_CONFIG_CHANGE_BATCH_ITEM_TEXT = """
+             ---
+            
+            <font color='#708090' size=2>线程池ID：%s</font>\s
+            
+            <font color='#708090' size=2>核心线程数：%s</font>\s
+            
+            <font color='#708090' size=2>最大线程数：%s</font>\s
+            
+            <font color='#708090' size=2>线程存活时间：%s</font>\s
+            
+            <font color='#708090' size=2>队列类型：%s</font>\s
+            
+            <font color='#708090' size=2>队列容量：%s</font>\s
+            
+            <font color='#708090' size=2>拒绝策略：%s</font>\s
+            
+            """;
+
+    /**
+     * 钉钉合并配置变更消息尾部文本
+     */
+    public static final String DING_CONFIG_CHANGE_BATCH_FOOTER_TEXT = """
+             ---
+            
+            <font color='#708090' size=2>OWNER：@%s</font>\s
+            
+            <font color='#708090' size=2>提示：同一次配置刷新的线程池变更合并通知</font>\s
+            
+             ---
+            
+            **变更时间：%s**
+            """;
+
+    /**
+     * 钉钉告警消息文本
+     */
+    public static final String DING_ALARM_MESSAGE_TEXT = """
+            **<font color=#e63946>[告警] </font>%s - 动态线程池运行告警**
+            
+             ---
+            
+            <font color='#708090' size=2>线程池ID：%s</font>\s
+            
+            <font color='#708090' size=2>应用实例：%s</font>\s
+            
+            <font color='#708090' size=2>告警类型：%s</font>\s
+            
+            <font color='#708090' size=2>当前值 / 阈值：%s / %s（窗口 %s 秒）</font>\s
+            
+            <font color='#708090' size=2>核心线程数：%s</font>\s
+            
+            <font color='#708090' size=2>最大线程数：%s</font>\s
+            
+            <font color='#708090' size=2>当前线程数：%s</font>\s
+            
+            <font color='#708090' size=2>活跃线程数：%s</font>\s
+            
+            <font color='#708090' size=2>历史最大线程数：%s</font>\s
+            
+            <font color='#708090' size=2>队列类型：%s</font>\s
+            
+            <font color='#708090' size=2>队列容量：%s</font>\s
+            
+            <font color='#708090' size=2>队列元素个数：%s</font>\s
+            
+            <font color='#708090' size=2>拒绝策略：%s</font>\s
+            
+            <font color='#708090' size=2>拒绝策略执行次数：%s</font>\s
+            
+            <font color='#708090' size=2>OWNER：@%s</font>\s
+            
+            <font color='#708090' size=2>提示：%s 秒内同一告警规则不会重复发送</font>\s
+            
+             ---
+            
+            **告警时间：%s**
+            """;
 }
@@ -0,0 +1,97 @@
+package com.lb.threethread.core.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * ForkJoin 线程池持有者
+ * <p>
+ * 用于包装动态 ForkJoin 线程池及其相关属性配置，
+ * 提供统一的线程池信息访问接口和并行度调整入口
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 将 ForkJoin 线程池实例与其配置信息进行封装，便于统一管理
+ * 2. 提供运行时调整并行度的统一入口，仅 JDK 19+ 支持原地调整，低版本 JDK 明确拒绝，避免替换线程池导致已注入的引用失效
+ * 3. 提供窃取任务数、外部提交队列任务数、运行线程数等 ForkJoin 特有指标
+ * </p>
+ */
+@Data
+@AllArgsConstructor
+public class ForkJoinPoolHolder {
+
+    /**
+     * 线程池唯一标识
+     */
+    private String threadPoolId;
+
+    /**
+     * 动态 ForkJoin 线程池实例
+     */
+    private OneThreadForkJoinPool pool;
+
+    /**
+     * 线程池属性参数
+     */
+    private ThreadPoolExecutorProperties executorProperties;
+
+    /**
+     * 原地调整线程池并行度
+     * <p>
+     * 仅 JDK 19+ 支持；低版本 JDK 替换线程池会使 Spring 容器中已注入的引用指向已关闭的线程池，因此直接拒绝
+     * </p>
+     *
+     * @param parallelism 新的并行度
+     * @throws UnsupportedOperationException 运行环境低于 JDK 19 且并行度发生变化
+     */
+    public synchronized void updateParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0: " + parallelism);
+        }
+        if (pool.getParallelism() != parallelism && !pool.updateParallelism(parallelism)) {
+            throw new UnsupportedOperationException("[" + threadPoolId + "] Changing fork join pool parallelism at runtime requires JDK 19+");
+        }
+    }
+
+    /**
+     * 获取任务窃取总次数
+     */
+    public long getStealCount() {
+        return pool.getStealCount();
+    }
+
+    /**
+     * 获取外部提交且尚未执行的任务数
+     */
+    public int getQueuedSubmissionCount() {
+        return pool.getQueuedSubmissionCount();
+    }
+
+    /**
+     * 获取工作线程队列中的任务数
+     */
+    public long getQueuedTaskCount() {
+        return pool.getQueuedTaskCount();
+    }
+
+    /**
+     * 获取未阻塞在 join 或其他同步操作上的运行线程数
+     */
+    public int getRunningThreadCount() {
+        return pool.getRunningThreadCount();
+    }
+
+    /**
+     * 获取正在窃取或执行任务的线程数
+     */
+    public int getActiveThreadCount() {
+        return pool.getActiveThreadCount();
+    }
+
+    /**
+     * 获取已启动但尚未终止的工作线程数
+     */
+    public int getPoolSize() {
+        return pool.getPoolSize();
+    }
+}
@@ -1,9 +1,30 @@
 package com.lb.threethread.core.executor;
 
+import com.lb.threethread.core.executor.support.QueueContentionStats;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.executor.support.SlowTask;
+import com.lb.threethread.core.executor.support.TaskResourceAccounting;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import com.lb.threethread.core.monitor.LatencyHistogram;
+import com.lb.threethread.core.monitor.TaskExecutionListener;
+import com.lb.threethread.core.monitor.jfr.PoolResizedEvent;
+import com.lb.threethread.core.monitor.jfr.TaskEnqueuedEvent;
+import com.lb.threethread.core.monitor.jfr.TaskExecutionEvent;
+import com.lb.threethread.core.monitor.jfr.TaskRejectedEvent;
+import com.lb.threethread.core.monitor.jfr.ThreadPoolJfrEvents;
+import com.lb.threethread.core.toolkit.HashedWheelTimer;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 动态线程池执行器
@@ -15,10 +36,42 @@ import java.util.concurrent.*;
  * 设计目的：
  * 1. 为线程池增加唯一标识，便于统一管理和动态调整参数
  * 2. 作为动态线程池的核心执行器，支持运行时监控和调整
+ * 3. 支持任务执行超时控制，超时后中断执行线程（或取消 Future）
+ * 4. 工作队列在构造时始终包装为 {@link SwappableBlockingQueue}，运行时可通过公开方法替换队列实现或调整容量，无需反射修改 {@link ThreadPoolExecutor} 私有字段
+ * 5. 支持慢任务检测，工作线程在任务开始时记录开始时间，由外部定期扫描，不为每个任务创建定时器
+ * 6. 支持按线程池、任务类统计任务执行消耗的 CPU 时间与堆内存分配量
  * </p>
  */
+@Slf4j
 public class OneThreadExecutor extends ThreadPoolExecutor {
 
+    /**
+     * 当前工作线程正在执行任务的超时守卫，仅在开启超时控制时设置
+     */
+    private static final ThreadLocal<TaskTimeoutGuard> CURRENT_TIMEOUT_GUARD = new ThreadLocal<>();
+
+    /**
+     * 当前工作线程正在执行任务的 JFR 执行事件，仅事件开启且任务被采样时设置
+     */
+    private static final ThreadLocal<TaskExecutionEvent> CURRENT_EXECUTION_EVENT = new ThreadLocal<>();
+
+    /**
+     * 当前工作线程正在执行任务的开始时间与排队耗时，仅存在任务执行监听器时写入，按线程复用避免每个任务创建对象
+     */
+    private static final ThreadLocal<long[]> CURRENT_TASK_TIMING = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final TaskExecutionListener[] EMPTY_LISTENERS = new TaskExecutionListener[0];
+
+    /**
+     * 当前工作线程正在执行任务的资源消耗起点，仅开启资源消耗统计且任务被采样时写入，按线程复用
+     */
+    private static final ThreadLocal<ResourceSample> CURRENT_RESOURCE_SAMPLE = ThreadLocal.withInitial(ResourceSample::new);
+
+    /**
+     * 当前线程投递的任务被拒绝时不执行拒绝策略，仅由内部调度线程投递任务时设置
+     */
+    private static final ThreadLocal<Boolean> REJECT_WITHOUT_POLICY = new ThreadLocal<>();
+
     /**
      * 线程池唯一标识，用来动态变更参数等
      * <p>
@@ -29,6 +82,96 @@ public class OneThreadExecutor extends ThreadPoolExecutor {
     @Getter
     private final String threadPoolId;
 
+    /**
+     * 任务默认执行超时时间（单位：毫秒），小于等于 0 表示不限制
+     */
+    @Getter
+    private volatile long executeTimeout;
+
+    /**
+     * 任务执行超时次数
+     */
+    private final LongAdder executeTimeoutCount = new LongAdder();
+
+    /**
+     * 任务拒绝次数
+     */
+    private final LongAdder rejectCount = new LongAdder();
+
+    /**
+     * 是否统计任务排队等待耗时
+     * <p>
+     * 通过 submit 提交的任务直接记录入队时间；通过 execute 提交的普通任务会被包装以记录入队时间，
+     * {@link #shutdownNow()}、{@link #remove(Runnable)} 和拒绝策略会还原为原始任务，{@link #getQueue()} 中仍为包装后的任务
+     * </p>
+     */
+    @Getter
+    private volatile boolean queueWaitTracking;
+
+    /**
+     * 排队耗时统计引用数，告警、渐进调整等使用方各自持有引用，引用数大于 0 时开启统计
+     */
+    private int queueWaitTrackingReferences;
+
+    /**
+     * 任务排队等待耗时直方图
+     */
+    @Getter
+    private final LatencyHistogram queueWaitHistogram = new LatencyHistogram();
+
+    /**
+     * 线程池持有的可替换工作队列，与{@link #getQueue()}为同一对象
+     */
+    private final SwappableBlockingQueue<Runnable> swappableWorkQueue;
+
+    /**
+     * 是否在首个任务提交时预启动全部核心线程，预启动后复位
+     */
+    private final AtomicBoolean prestartOnFirstUse = new AtomicBoolean();
+
+    /**
+     * 是否统计工作队列锁竞争，仅工作队列为{@link ResizableCapacityLinkedBlockingQueue}时生效
+     */
+    @Getter
+    private volatile boolean queueContentionTracking;
+
+    /**
+     * 工作队列锁竞争统计，替换工作队列后继续累加
+     */
+    private final QueueContentionStats queueContentionStats = new QueueContentionStats();
+
+    /**
+     * 任务执行监听器，写时复制，执行路径只读取数组引用
+     */
+    private volatile TaskExecutionListener[] taskExecutionListeners = EMPTY_LISTENERS;
+
+    /**
+     * 慢任务阈值（单位：毫秒），小于等于 0 表示不检测
+     */
+    @Getter
+    private volatile long slowTaskThreshold;
+
+    /**
+     * 慢任务数
+     */
+    private final LongAdder slowTaskCount = new LongAdder();
+
+    /**
+     * 各工作线程当前执行的任务，key 为工作线程，每个工作线程复用同一记录对象，仅开启慢任务检测时写入
+     */
+    private final Map<Thread, RunningTask> runningTasks = new ConcurrentHashMap<>();
+
+    /**
+     * 是否统计任务执行消耗的 CPU 时间与堆内存分配量
+     */
+    @Getter
+    private volatile boolean resourceAccountingEnabled;
+
+    /**
+     * 资源消耗统计，关闭后再开启时继续累加
+     */
+    private final TaskResourceAccounting resourceAccounting = new TaskResourceAccounting();
+
     /**
      * 构造一个动态线程池执行器
      *
@@ -37,7 +180,7 @@ public class OneThreadExecutor extends ThreadPoolExecutor {
      * @param maximumPoolSize   最大线程数
      * @param keepAliveTime     空闲线程存活时间
      * @param unit              时间单位
-     * @param workQueue         工作队列
+     * @param workQueue         工作队列，非{@link SwappableBlockingQueue}时在构造时包装为可替换队列
      * @param threadFactory     线程工厂
      * @param handler           拒绝策略
      */
@@ -50,9 +193,740 @@ public class OneThreadExecutor extends ThreadPoolExecutor {
             @NonNull BlockingQueue<Runnable> workQueue,
             @NonNull ThreadFactory threadFactory,
             @NonNull RejectedExecutionHandler handler) {
-        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, swappable(workQueue), threadFactory, handler);
 
         // 设置动态线程池扩展属性：线程池 ID 标识
         this.threadPoolId = threadPoolId;
+        this.swappableWorkQueue = (SwappableBlockingQueue<Runnable>) getQueue();
+        // 包装拒绝策略以统计拒绝次数
+        setRejectedExecutionHandler(handler);
+    }
+
+    private static BlockingQueue<Runnable> swappable(BlockingQueue<Runnable> workQueue) {
+        return workQueue instanceof SwappableBlockingQueue<Runnable> ? workQueue : new SwappableBlockingQueue<>(workQueue);
+    }
+
+    /**
+     * 获取实际存储任务的工作队列
+     * <p>
+     * {@link #getQueue()} 返回的是可替换队列，队列类型、容量等信息应以该方法返回的队列为准
+     * </p>
+     */
+    public BlockingQueue<Runnable> getWorkQueueDelegate() {
+        return swappableWorkQueue.getDelegate();
+    }
+
+    /**
+     * 替换工作队列实现，已排队的任务迁移到新队列，阻塞在旧队列上的空闲工作线程由可替换队列投递的唤醒标记切换到新队列
+     *
+     * @param workQueue 新的工作队列，必须为空
+     * @return 被替换的工作队列
+     */
+    public BlockingQueue<Runnable> swapWorkQueue(@NonNull BlockingQueue<Runnable> workQueue) {
+        applyQueueContentionTracking(workQueue);
+        BlockingQueue<Runnable> previous = swappableWorkQueue.swap(workQueue, getPoolSize());
+        if (previous != workQueue && previous instanceof ResizableCapacityLinkedBlockingQueue<Runnable> resizableQueue) {
+            resizableQueue.setContentionStats(null);
+        }
+        return previous;
+    }
+
+    /**
+     * 调整工作队列容量，仅当前工作队列为{@link ResizableCapacityLinkedBlockingQueue}时生效
+     *
+     * @param capacity 新的队列容量
+     * @return 是否调整成功
+     */
+    public boolean setQueueCapacity(int capacity) {
+        if (getWorkQueueDelegate() instanceof ResizableCapacityLinkedBlockingQueue<Runnable> resizableQueue) {
+            resizableQueue.setCapacity(capacity);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 设置是否统计工作队列锁竞争
+     *
+     * @param queueContentionTracking 是否统计
+     */
+    public void setQueueContentionTracking(boolean queueContentionTracking) {
+        this.queueContentionTracking = queueContentionTracking;
+        applyQueueContentionTracking(getWorkQueueDelegate());
+    }
+
+    /**
+     * 获取工作队列锁竞争统计
+     *
+     * @return 统计对象，未开启统计或工作队列不支持统计时返回 null
+     */
+    public QueueContentionStats getQueueContentionStats() {
+        return queueContentionTracking && getWorkQueueDelegate() instanceof ResizableCapacityLinkedBlockingQueue
+                ? queueContentionStats
+                : null;
+    }
+
+    private void applyQueueContentionTracking(BlockingQueue<Runnable> workQueue) {
+        if (workQueue instanceof ResizableCapacityLinkedBlockingQueue<Runnable> resizableQueue) {
+            resizableQueue.setContentionStats(queueContentionTracking ? queueContentionStats : null);
+        }
+    }
+
+    /**
+     * 添加任务执行监听器
+     *
+     * @param listener 任务执行监听器
+     */
+    public synchronized void addTaskExecutionListener(@NonNull TaskExecutionListener listener) {
+        TaskExecutionListener[] listeners = Arrays.copyOf(taskExecutionListeners, taskExecutionListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        taskExecutionListeners = listeners;
+    }
+
+    /**
+     * 移除任务执行监听器
+     *
+     * @param listener 任务执行监听器
+     */
+    public synchronized void removeTaskExecutionListener(TaskExecutionListener listener) {
+        TaskExecutionListener[] listeners = Arrays.stream(taskExecutionListeners)
+                .filter(each -> each != listener)
+                .toArray(TaskExecutionListener[]::new);
+        taskExecutionListeners = listeners.length == 0 ? EMPTY_LISTENERS : listeners;
+    }
+
+    /**
+     * 设置拒绝策略
+     * <p>
+     * 实际设置的是统计拒绝次数的包装拒绝策略，{@link #getRejectedExecutionHandler()} 仍返回原始拒绝策略
+     * </p>
+     *
+     * @param handler 拒绝策略
+     */
+    @Override
+    public void setRejectedExecutionHandler(@NonNull RejectedExecutionHandler handler) {
+        RejectedExecutionHandler actual = handler instanceof RejectCountingHandler countingHandler ? countingHandler.delegate : handler;
+        super.setRejectedExecutionHandler(new RejectCountingHandler(actual, rejectCount));
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+        return handler instanceof RejectCountingHandler countingHandler ? countingHandler.delegate : handler;
+    }
+
+    /**
+     * 获取任务拒绝次数
+     */
+    public long getRejectCount() {
+        return rejectCount.sum();
+    }
+
+    /**
+     * 设置任务默认执行超时时间
+     *
+     * @param executeTimeout 超时时间（单位：毫秒），小于等于 0 表示不限制
+     */
+    public void setExecuteTimeout(long executeTimeout) {
+        this.executeTimeout = executeTimeout;
+    }
+
+    /**
+     * 增加排队耗时统计引用，首个引用开启统计
+     */
+    public synchronized void retainQueueWaitTracking() {
+        queueWaitTracking = ++queueWaitTrackingReferences > 0;
+    }
+
+    /**
+     * 释放排队耗时统计引用，最后一个引用释放后关闭统计
+     */
+    public synchronized void releaseQueueWaitTracking() {
+        if (queueWaitTrackingReferences > 0) {
+            queueWaitTracking = --queueWaitTrackingReferences > 0;
+        }
+    }
+
+    /**
+     * 设置慢任务阈值
+     *
+     * @param slowTaskThreshold 慢任务阈值（单位：毫秒），小于等于 0 表示不检测
+     */
+    public void setSlowTaskThreshold(long slowTaskThreshold) {
+        this.slowTaskThreshold = slowTaskThreshold;
+        if (slowTaskThreshold <= 0) {
+            runningTasks.clear();
+        }
+    }
+
+    /**
+     * 获取慢任务数
+     */
+    public long getSlowTaskCount() {
+        return slowTaskCount.sum();
+    }
+
+    /**
+     * 检测执行时间超过慢任务阈值的任务
+     * <p>
+     * 每个慢任务只在首次检测到时返回并计数，任务结束或工作线程开始执行下一个任务后重新计算；
+     * 检测粒度取决于调用频率，由慢任务检测器随指标采集定期调用
+     * </p>
+     *
+     * @return 本次新检测到的慢任务，未开启检测时返回空列表
+     */
+    public List<SlowTask> detectSlowTasks() {
+        long thresholdMillis = slowTaskThreshold;
+        if (thresholdMillis <= 0 || runningTasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        long now = System.nanoTime();
+        List<SlowTask> slowTasks = new ArrayList<>();
+        for (RunningTask runningTask : runningTasks.values()) {
+            if (!runningTask.worker.isAlive()) {
+                runningTasks.remove(runningTask.worker, runningTask);
+                continue;
+            }
+            long startTime = runningTask.startTime;
+            Runnable task = runningTask.task;
+            // 读取任务期间工作线程已切换到下一个任务时跳过，下次检测再判断
+            if (startTime == 0L || task == null || startTime != runningTask.startTime
+                    || runningTask.detectedStartTime == startTime || now - startTime < thresholdNanos) {
+                continue;
+            }
+            runningTask.detectedStartTime = startTime;
+            slowTaskCount.increment();
+            slowTasks.add(new SlowTask(threadPoolId, runningTask.worker, task.getClass().getName(), TimeUnit.NANOSECONDS.toMillis(now - startTime)));
+        }
+        return slowTasks;
+    }
+
+    /**
+     * 设置是否统计任务执行消耗的 CPU 时间与堆内存分配量
+     *
+     * @param enabled        是否统计
+     * @param sampleInterval 采样间隔，每 N 个任务统计 1 个
+     * @param maxTaskClasses 按任务类汇总的任务类数量上限，小于等于 0 表示只按线程池汇总
+     */
+    public void setResourceAccounting(boolean enabled, int sampleInterval, int maxTaskClasses) {
+        resourceAccounting.configure(sampleInterval, maxTaskClasses);
+        this.resourceAccountingEnabled = enabled;
+    }
+
+    /**
+     * 获取资源消耗统计
+     * <p>
+     * 统计对象始终存在，关闭统计后保留累计值不再增长，对外暴露的计数保持单调递增；
+     * 是否正在统计通过 {@link #isResourceAccountingEnabled()} 判断
+     * </p>
+     *
+     * @return 统计对象
+     */
+    public TaskResourceAccounting getResourceAccounting() {
+        return resourceAccounting;
+    }
+
+    /**
+     * 设置是否在首个任务提交时预启动全部核心线程
+     *
+     * @param prestartOnFirstUse 是否首次使用时预启动
+     */
+    public void setPrestartOnFirstUse(boolean prestartOnFirstUse) {
+        this.prestartOnFirstUse.set(prestartOnFirstUse);
+    }
+
+    /**
+     * 获取任务执行超时次数
+     */
+    public long getExecuteTimeoutCount() {
+        return executeTimeoutCount.sum();
+    }
+
+    /**
+     * 提交任务并指定本次任务的执行超时时间，覆盖线程池默认超时时间
+     * <p>
+     * 超时后会中断执行该任务的工作线程，任务需要响应中断才能真正结束
+     * </p>
+     *
+     * @param command 任务
+     * @param timeout 超时时间
+     * @param unit    超时时间单位
+     */
+    public void execute(@NonNull Runnable command, long timeout, @NonNull TimeUnit unit) {
+        execute(new TimeoutRunnable(command, unit.toMillis(timeout)));
+    }
+
+    /**
+     * 提交任务并指定本次任务的执行超时时间，覆盖线程池默认超时时间
+     * <p>
+     * 超时后会取消返回的 Future 并中断执行线程，调用方获取结果时将抛出 {@link CancellationException}
+     * </p>
+     *
+     * @param task    任务
+     * @param timeout 超时时间
+     * @param unit    超时时间单位
+     * @return 任务 Future
+     */
+    public <T> Future<T> submit(@NonNull Callable<T> task, long timeout, @NonNull TimeUnit unit) {
+        TimeoutFutureTask<T> futureTask = new TimeoutFutureTask<>(task, unit.toMillis(timeout));
+        execute(futureTask);
+        return futureTask;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        if (prestartOnFirstUse.get() && prestartOnFirstUse.compareAndSet(true, false)) {
+            prestartAllCoreThreads();
+        }
+        if (queueWaitTracking) {
+            if (command instanceof OneThreadFutureTask<?> futureTask) {
+                // 线程池创建的任务直接记录入队时间，保持 Future 身份不变
+                futureTask.enqueueTime = System.nanoTime();
+            } else {
+                command = new QueueTimedRunnable(command, System.nanoTime());
+            }
+        }
+        super.execute(command);
+        // 入队事件不计时，在提交完成后再创建，事件对象不跨越 super.execute 调用，关闭时可被逃逸分析消除
+        TaskEnqueuedEvent event = new TaskEnqueuedEvent();
+        if (event.isEnabled() && ThreadPoolJfrEvents.sampleTask()) {
+            event.setThreadPoolId(threadPoolId);
+            event.setPoolSize(getPoolSize());
+            event.setQueueSize(getQueue().size());
+            event.setSampleInterval(ThreadPoolJfrEvents.getTaskSampleInterval());
+            event.commit();
+        }
+    }
+
+    /**
+     * 投递任务，被拒绝时只统计拒绝次数并抛出 {@link RejectedExecutionException}，不执行拒绝策略
+     * <p>
+     * 供时间轮等内部调度线程投递任务，避免 CallerRunsPolicy 在调度线程中执行用户任务、丢弃策略静默丢弃任务，
+     * 由调用方自行结束被拒绝的任务
+     * </p>
+     *
+     * @param command 任务
+     */
+    void executeWithoutRejectionPolicy(Runnable command) {
+        REJECT_WITHOUT_POLICY.set(Boolean.TRUE);
+        try {
+            execute(command);
+        } finally {
+            REJECT_WITHOUT_POLICY.remove();
+        }
+    }
+
+    /**
+     * submit 提交的任务创建为{@link OneThreadFutureTask}，排队耗时统计无需包装任务，资源消耗统计可按原始任务类汇总
+     */
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new OneThreadFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new OneThreadFutureTask<>(callable);
+    }
+
+    /**
+     * 关闭线程池，返回的未执行任务为提交时的原始任务
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        tasks.replaceAll(OneThreadExecutor::unwrap);
+        return tasks;
+    }
+
+    /**
+     * 从工作队列移除任务，支持移除开启排队耗时统计后被包装的任务
+     */
+    @Override
+    public boolean remove(Runnable task) {
+        if (super.remove(task)) {
+            return true;
+        }
+        for (Runnable each : getQueue()) {
+            if (each instanceof QueueTimedRunnable queueTimedRunnable && queueTimedRunnable.delegate == task) {
+                return super.remove(each);
+            }
+        }
+        return false;
+    }
+
+    private static Runnable unwrap(Runnable task) {
+        return task instanceof QueueTimedRunnable queueTimedRunnable ? queueTimedRunnable.delegate : task;
+    }
+
+    @Override
+    public void setCorePoolSize(int corePoolSize) {
+        int previousCorePoolSize = getCorePoolSize();
+        super.setCorePoolSize(corePoolSize);
+        commitPoolResized(previousCorePoolSize, getMaximumPoolSize());
+    }
+
+    @Override
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        int previousMaximumPoolSize = getMaximumPoolSize();
+        super.setMaximumPoolSize(maximumPoolSize);
+        commitPoolResized(getCorePoolSize(), previousMaximumPoolSize);
+    }
+
+    private void commitPoolResized(int previousCorePoolSize, int previousMaximumPoolSize) {
+        int corePoolSize = getCorePoolSize();
+        int maximumPoolSize = getMaximumPoolSize();
+        if (previousCorePoolSize == corePoolSize && previousMaximumPoolSize == maximumPoolSize) {
+            return;
+        }
+        PoolResizedEvent event = new PoolResizedEvent();
+        if (event.shouldCommit()) {
+            event.setThreadPoolId(threadPoolId);
+            event.setPreviousCorePoolSize(previousCorePoolSize);
+            event.setCorePoolSize(corePoolSize);
+            event.setPreviousMaximumPoolSize(previousMaximumPoolSize);
+            event.setMaximumPoolSize(maximumPoolSize);
+            event.commit();
+        }
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        long queueWaitNanos = -1L;
+        long enqueueTime = 0L;
+        if (r instanceof QueueTimedRunnable queueTimedRunnable) {
+            enqueueTime = queueTimedRunnable.enqueueTime;
+            r = queueTimedRunnable.delegate;
+        } else if (r instanceof OneThreadFutureTask<?> futureTask && futureTask.enqueueTime != 0L) {
+            // 周期任务会被再次投递，读取后复位，避免关闭统计后沿用旧的入队时间
+            enqueueTime = futureTask.enqueueTime;
+            futureTask.enqueueTime = 0L;
+        }
+        if (enqueueTime != 0L) {
+            queueWaitNanos = System.nanoTime() - enqueueTime;
+            queueWaitHistogram.record(queueWaitNanos);
+        }
+        if (slowTaskThreshold > 0) {
+            runningTasks.computeIfAbsent(t, RunningTask::new).begin(r);
+        }
+        if (taskExecutionListeners.length > 0) {
+            long[] timing = CURRENT_TASK_TIMING.get();
+            timing[0] = System.nanoTime();
+            timing[1] = queueWaitNanos;
+        }
+        TaskExecutionEvent event = new TaskExecutionEvent();
+        if (event.isEnabled() && ThreadPoolJfrEvents.sampleTask()) {
+            event.setQueueWaitTime(queueWaitNanos);
+            CURRENT_EXECUTION_EVENT.set(event);
+            event.begin();
+        }
+        long timeoutMillis = r instanceof TimeoutAware ? ((TimeoutAware) r).getTimeoutMillis() : executeTimeout;
+        if (timeoutMillis > 0) {
+            TaskTimeoutGuard guard = new TaskTimeoutGuard(t, r, timeoutMillis);
+            guard.timeout = TimeoutTimerHolder.INSTANCE.newTimeout(guard, timeoutMillis, TimeUnit.MILLISECONDS);
+            CURRENT_TIMEOUT_GUARD.set(guard);
+        }
+        if (resourceAccountingEnabled) {
+            // 最后读取资源消耗起点，尽量不把埋点自身开销计入任务
+            ResourceSample sample = CURRENT_RESOURCE_SAMPLE.get();
+            if (resourceAccounting.sample()) {
+                sample.taskClass = r instanceof OneThreadFutureTask<?> futureTask ? futureTask.taskClass : r.getClass();
+                sample.allocatedBytes = TaskResourceAccounting.currentThreadAllocatedBytes();
+                sample.cpuTime = TaskResourceAccounting.currentThreadCpuTime();
+                sample.startTime = System.nanoTime();
+            } else {
+                sample.startTime = 0L;
+            }
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        if (resourceAccountingEnabled) {
+            recordResourceUsage();
+        }
+        TaskTimeoutGuard guard = CURRENT_TIMEOUT_GUARD.get();
+        if (guard != null) {
+            CURRENT_TIMEOUT_GUARD.remove();
+            guard.complete();
+        }
+        TaskExecutionEvent event = CURRENT_EXECUTION_EVENT.get();
+        if (event != null) {
+            CURRENT_EXECUTION_EVENT.remove();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setThreadPoolId(threadPoolId);
+                event.setFailed(t != null);
+                event.setSampleInterval(ThreadPoolJfrEvents.getTaskSampleInterval());
+                event.commit();
+            }
+        }
+        if (!runningTasks.isEmpty()) {
+            RunningTask runningTask = runningTasks.get(Thread.currentThread());
+            if (runningTask != null) {
+                runningTask.end();
+            }
+        }
+        notifyTaskExecuted(t != null);
+    }
+
+    private void recordResourceUsage() {
+        ResourceSample sample = CURRENT_RESOURCE_SAMPLE.get();
+        if (sample.startTime == 0L) {
+            return;
+        }
+        long wallTime = System.nanoTime() - sample.startTime;
+        long cpuTime = sample.cpuTime < 0 ? -1L : TaskResourceAccounting.currentThreadCpuTime() - sample.cpuTime;
+        long allocated = sample.allocatedBytes < 0 ? -1L : TaskResourceAccounting.currentThreadAllocatedBytes() - sample.allocatedBytes;
+        resourceAccounting.record(sample.taskClass, cpuTime, wallTime, allocated);
+        sample.startTime = 0L;
+        sample.taskClass = null;
+    }
+
+    private void notifyTaskExecuted(boolean failed) {
+        TaskExecutionListener[] listeners = taskExecutionListeners;
+        if (listeners.length == 0) {
+            return;
+        }
+        long[] timing = CURRENT_TASK_TIMING.get();
+        // 任务开始后才添加的监听器没有开始时间，跳过本次回调
+        if (timing[0] == 0L) {
+            return;
+        }
+        long executeNanos = System.nanoTime() - timing[0];
+        long queueWaitNanos = timing[1];
+        timing[0] = 0L;
+        for (TaskExecutionListener listener : listeners) {
+            try {
+                listener.onTaskExecuted(queueWaitNanos, executeNanos, failed);
+            } catch (Throwable ex) {
+                log.warn("[{}] Task execution listener failed: {}", threadPoolId, listener, ex);
+            }
+        }
+    }
+
+    /**
+     * 任务执行超时守卫
+     * <p>
+     * 由时间轮在超时到期时回调，与任务结束回调通过对象锁互斥，
+     * 保证不会中断到同一工作线程后续执行的其他任务
+     * </p>
+     */
+    private final class TaskTimeoutGuard implements Runnable {
+
+        private final Thread worker;
+        private final Runnable task;
+        private final long timeoutMillis;
+        private HashedWheelTimer.Timeout timeout;
+        private boolean finished;
+        private boolean timedOut;
+
+        private TaskTimeoutGuard(Thread worker, Runnable task, long timeoutMillis) {
+            this.worker = worker;
+            this.task = task;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                timedOut = true;
+                executeTimeoutCount.increment();
+                if (task instanceof Future) {
+                    ((Future<?>) task).cancel(true);
+                } else {
+                    worker.interrupt();
+                }
+            }
+            log.warn("[{}] Task execution timed out after {} ms, worker thread: {}", threadPoolId, timeoutMillis, worker.getName());
+        }
+
+        private void complete() {
+            timeout.cancel();
+            synchronized (this) {
+                finished = true;
+            }
+            if (timedOut) {
+                // 清除超时中断标识，避免影响工作线程后续任务
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * 工作线程当前执行的任务，由工作线程写入、慢任务检测线程读取
+     */
+    private static final class RunningTask {
+
+        private final Thread worker;
+
+        private volatile Runnable task;
+
+        /**
+         * 任务开始时间（单位：纳秒），0 表示空闲
+         */
+        private volatile long startTime;
+
+        /**
+         * 已计为慢任务的任务开始时间，避免同一任务被重复计数
+         */
+        private volatile long detectedStartTime;
+
+        private RunningTask(Thread worker) {
+            this.worker = worker;
+        }
+
+        private void begin(Runnable task) {
+            this.task = task;
+            this.startTime = System.nanoTime();
+        }
+
+        private void end() {
+            this.startTime = 0L;
+            this.task = null;
+        }
+    }
+
+    /**
+     * 工作线程当前任务的资源消耗起点
+     */
+    private static final class ResourceSample {
+
+        /**
+         * 任务开始时间（单位：纳秒），0 表示当前任务未被采样
+         */
+        private long startTime;
+        private long cpuTime;
+        private long allocatedBytes;
+        private Class<?> taskClass;
+    }
+
+    /**
+     * 线程池创建的 FutureTask，记录原始任务类与入队时间
+     * <p>
+     * 开启排队耗时统计时直接写入入队时间而不包装任务，{@link Future} 类型转换、{@link #remove(Runnable)} 等保持可用
+     * </p>
+     */
+    static class OneThreadFutureTask<V> extends FutureTask<V> {
+
+        /**
+         * 原始任务类，用于按任务类汇总资源消耗
+         */
+        private final Class<?> taskClass;
+
+        /**
+         * 入队时间（单位：纳秒），0 表示未记录；由提交线程在入队前写入，工作线程出队后读取
+         */
+        private long enqueueTime;
+
+        OneThreadFutureTask(Callable<V> callable) {
+            super(callable);
+            this.taskClass = callable.getClass();
+        }
+
+        OneThreadFutureTask(Runnable runnable, V result) {
+            super(runnable, result);
+            this.taskClass = runnable.getClass();
+        }
+    }
+
+    /**
+     * 统计拒绝次数的拒绝策略包装类
+     */
+    private static final class RejectCountingHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+        private final LongAdder rejectCount;
+
+        private RejectCountingHandler(RejectedExecutionHandler delegate, LongAdder rejectCount) {
+            this.delegate = delegate;
+            this.rejectCount = rejectCount;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejectCount.increment();
+            TaskRejectedEvent event = new TaskRejectedEvent();
+            if (event.isEnabled() && ThreadPoolJfrEvents.sampleTask()) {
+                event.setThreadPoolId(((OneThreadExecutor) executor).getThreadPoolId());
+                event.setRejectedPolicy(delegate.getClass().getSimpleName());
+                event.setPoolSize(executor.getPoolSize());
+                event.setActiveCount(executor.getActiveCount());
+                event.setQueueSize(executor.getQueue().size());
+                event.setSampleInterval(ThreadPoolJfrEvents.getTaskSampleInterval());
+                event.commit();
+            }
+            if (REJECT_WITHOUT_POLICY.get() != null) {
+                throw new RejectedExecutionException("Task " + r + " rejected from " + executor);
+            }
+            delegate.rejectedExecution(unwrap(r), executor);
+        }
+    }
+
+    /**
+     * 记录入队时间的任务包装类，用于统计排队等待耗时
+     */
+    private static final class QueueTimedRunnable implements Runnable {
+
+        private final Runnable delegate;
+        private final long enqueueTime;
+
+        private QueueTimedRunnable(Runnable delegate, long enqueueTime) {
+            this.delegate = delegate;
+            this.enqueueTime = enqueueTime;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+    /**
+     * 携带执行超时时间的任务标识
+     */
+    private interface TimeoutAware {
+
+        long getTimeoutMillis();
+    }
+
+    private static final class TimeoutRunnable implements Runnable, TimeoutAware {
+
+        private final Runnable delegate;
+        @Getter
+        private final long timeoutMillis;
+
+        private TimeoutRunnable(Runnable delegate, long timeoutMillis) {
+            this.delegate = delegate;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+    private static final class TimeoutFutureTask<T> extends OneThreadFutureTask<T> implements TimeoutAware {
+
+        @Getter
+        private final long timeoutMillis;
+
+        private TimeoutFutureTask(Callable<T> callable, long timeoutMillis) {
+            super(callable);
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+
+    /**
+     * 所有动态线程池共享的任务超时时间轮，首次使用时才创建
+     */
+    private static final class TimeoutTimerHolder {
+
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer("onethread-execute-timeout-timer_", 10, TimeUnit.MILLISECONDS, 512);
     }
-}
\ No newline at end of file
+}
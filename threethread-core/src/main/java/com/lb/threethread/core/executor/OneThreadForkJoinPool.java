@@ -0,0 +1,100 @@
+package com.lb.threethread.core.executor;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 动态 ForkJoin 线程池
+ * <p>
+ * 扩展自{@link ForkJoinPool}，增加了线程池唯一标识功能，
+ * 用于支持 ForkJoin 线程池的注册、并行度动态调整和监控
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 为 CPU 密集型任务、并行流所使用的 ForkJoinPool 增加唯一标识，纳入统一管理
+ * 2. 在 JDK 19+ 上通过{@link ForkJoinPool}#setParallelism 原地调整并行度，
+ * 低版本 JDK 只能在注册时通过{@link #copyWithParallelism(int)}按配置的并行度重建，运行时不支持调整
+ * </p>
+ */
+public class OneThreadForkJoinPool extends ForkJoinPool {
+
+    /**
+     * JDK 19+ 提供的 ForkJoinPool#setParallelism 方法句柄，低版本 JDK 为 null
+     */
+    private static final MethodHandle SET_PARALLELISM_HANDLE = findSetParallelismHandle();
+
+    /**
+     * 线程池唯一标识，用来动态变更参数等
+     */
+    @Getter
+    private final String threadPoolId;
+
+    /**
+     * 构造一个动态 ForkJoin 线程池
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param parallelism  并行度
+     * @param factory      工作线程工厂
+     * @param handler      未捕获异常处理器，可为空
+     * @param asyncMode    是否为异步模式（FIFO 调度本地任务）
+     */
+    public OneThreadForkJoinPool(@NonNull String threadPoolId,
+                                 int parallelism,
+                                 @NonNull ForkJoinWorkerThreadFactory factory,
+                                 Thread.UncaughtExceptionHandler handler,
+                                 boolean asyncMode) {
+        super(parallelism, factory, handler, asyncMode);
+        this.threadPoolId = threadPoolId;
+    }
+
+    /**
+     * 当前运行环境是否支持原地调整并行度（JDK 19+）
+     */
+    public static boolean isParallelismAdjustable() {
+        return SET_PARALLELISM_HANDLE != null;
+    }
+
+    /**
+     * 原地调整并行度
+     *
+     * @param parallelism 新的并行度
+     * @return 是否调整成功，运行环境不支持时返回 false
+     */
+    public boolean updateParallelism(int parallelism) {
+        if (SET_PARALLELISM_HANDLE == null) {
+            return false;
+        }
+        try {
+            SET_PARALLELISM_HANDLE.invoke((ForkJoinPool) this, parallelism);
+            return true;
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Failed to update parallelism of fork join pool: " + threadPoolId, ex);
+        }
+    }
+
+    /**
+     * 基于当前线程池的配置创建一个新并行度的线程池，仅用于低版本 JDK 在线程池交给使用方之前按配置重建
+     *
+     * @param parallelism 新的并行度
+     * @return 新的动态 ForkJoin 线程池
+     */
+    public OneThreadForkJoinPool copyWithParallelism(int parallelism) {
+        return new OneThreadForkJoinPool(threadPoolId, parallelism, getFactory(), getUncaughtExceptionHandler(), getAsyncMode());
+    }
+
+    private static MethodHandle findSetParallelismHandle() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(ForkJoinPool.class, "setParallelism", MethodType.methodType(int.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.lb.threethread.core.executor;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -15,6 +19,7 @@ import java.util.concurrent.ThreadPoolExecutor;
  * 1. 提供全局的线程池管理容器，统一管理所有动态线程池实例
  * 2. 支持通过线程池ID快速获取对应的线程池实例
  * 3. 为动态线程池的监控和参数调整提供基础支持
+ * 4. 通过 {@link ThreadPoolRegistryListener} 通知线程池的注册与移除，便于外部组件自动绑定和清理
  * </p>
  */
 public class OneThreadRegistry {
@@ -28,6 +33,16 @@ public class OneThreadRegistry {
      */
     private static final Map<String, ThreadPoolExecutorHolder> HOLDER_MAP = new ConcurrentHashMap<>();
 
+    /**
+     * ForkJoin 线程池持有者缓存，key 为线程池唯一标识，value 为 ForkJoin 线程池包装类
+     */
+    private static final Map<String, ForkJoinPoolHolder> FORK_JOIN_HOLDER_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * 线程池注册监听器
+     */
+    private static final List<ThreadPoolRegistryListener> LISTENERS = new CopyOnWriteArrayList<>();
+
     /**
      * 注册线程池到管理器
      * <p>
@@ -42,6 +57,45 @@ public class OneThreadRegistry {
     public static void put(String threadPoolId, ThreadPoolExecutor executor, ThreadPoolExecutorProperties properties) {
         ThreadPoolExecutorHolder executorHolder = new ThreadPoolExecutorHolder(threadPoolId, executor, properties);
         HOLDER_MAP.put(threadPoolId, executorHolder);
+        LISTENERS.forEach(each -> each.onRegistered(executorHolder));
+    }
+
+    /**
+     * 从管理器中移除线程池
+     * <p>
+     * 仅当注册的线程池实例与传入实例一致时才移除，避免同 ID 线程池重新注册后被旧实例的销毁流程误删
+     * </p>
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param executor     线程池执行器实例
+     * @return 被移除的线程池包装对象，未移除时返回 null
+     */
+    public static ThreadPoolExecutorHolder remove(String threadPoolId, ThreadPoolExecutor executor) {
+        ThreadPoolExecutorHolder executorHolder = HOLDER_MAP.get(threadPoolId);
+        if (executorHolder == null || executorHolder.getExecutor() != executor || !HOLDER_MAP.remove(threadPoolId, executorHolder)) {
+            return null;
+        }
+        LISTENERS.forEach(each -> each.onRemoved(executorHolder));
+        return executorHolder;
+    }
+
+    /**
+     * 添加线程池注册监听器，并对已注册的线程池补发注册回调
+     *
+     * @param listener 线程池注册监听器
+     */
+    public static void addListener(ThreadPoolRegistryListener listener) {
+        LISTENERS.add(listener);
+        HOLDER_MAP.values().forEach(listener::onRegistered);
+    }
+
+    /**
+     * 移除线程池注册监听器
+     *
+     * @param listener 线程池注册监听器
+     */
+    public static void removeListener(ThreadPoolRegistryListener listener) {
+        LISTENERS.remove(listener);
     }
 
     /**
@@ -57,4 +111,71 @@ public class OneThreadRegistry {
     public static ThreadPoolExecutorHolder getHolder(String threadPoolId) {
         return HOLDER_MAP.get(threadPoolId);
     }
+
+    /**
+     * 注册 ForkJoin 线程池到管理器
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param pool         动态 ForkJoin 线程池实例
+     * @param properties   线程池参数配置
+     */
+    public static void putForkJoinPool(String threadPoolId, OneThreadForkJoinPool pool, ThreadPoolExecutorProperties properties) {
+        ForkJoinPoolHolder poolHolder = new ForkJoinPoolHolder(threadPoolId, pool, properties);
+        FORK_JOIN_HOLDER_MAP.put(threadPoolId, poolHolder);
+    }
+
+    /**
+     * 从管理器中移除 ForkJoin 线程池，仅当注册的线程池实例与传入实例一致时才移除
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param pool         动态 ForkJoin 线程池实例
+     * @return 被移除的 ForkJoin 线程池包装对象，未移除时返回 null
+     */
+    public static ForkJoinPoolHolder removeForkJoinPool(String threadPoolId, OneThreadForkJoinPool pool) {
+        ForkJoinPoolHolder poolHolder = FORK_JOIN_HOLDER_MAP.get(threadPoolId);
+        if (poolHolder == null || poolHolder.getPool() != pool || !FORK_JOIN_HOLDER_MAP.remove(threadPoolId, poolHolder)) {
+            return null;
+        }
+        return poolHolder;
+    }
+
+    /**
+     * 根据线程池 ID 获取对应的 ForkJoin 线程池包装对象
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return ForkJoin 线程池持有者对象，未注册时返回 null
+     */
+    public static ForkJoinPoolHolder getForkJoinPoolHolder(String threadPoolId) {
+        return FORK_JOIN_HOLDER_MAP.get(threadPoolId);
+    }
+
+    /**
+     * 获取所有已注册的 ForkJoin 线程池包装对象
+     *
+     * @return ForkJoin 线程池持有者对象只读集合
+     */
+    public static Collection<ForkJoinPoolHolder> getAllForkJoinPoolHolders() {
+        return Collections.unmodifiableCollection(FORK_JOIN_HOLDER_MAP.values());
+    }
+
+    /**
+     * 获取所有已注册的线程池包装对象
+     *
+     * @return 线程池持有者对象只读集合
+     */
+    public static Collection<ThreadPoolExecutorHolder> getAllHolders() {
+        return Collections.unmodifiableCollection(HOLDER_MAP.values());
+    }
+
+    /**
+     * 获取指定线程池的任务执行超时次数
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 任务执行超时次数，线程池不存在时返回 0
+     */
+    public static long getExecuteTimeoutCount(String threadPoolId) {
+        return Optional.ofNullable(HOLDER_MAP.get(threadPoolId))
+                .map(ThreadPoolExecutorHolder::getExecuteTimeoutCount)
+                .orElse(0L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.lb.threethread.core.executor;
+
+/**
+ * 核心线程预启动模式
+ * <p>
+ * 控制动态线程池在注册完成后何时创建核心线程，仅在启动注册时生效，配置中心刷新不会重新预启动
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 默认按需创建工作线程，应用启动阶段不为尚未使用的线程池创建线程，缩短启动耗时
+ * 2. 对延迟敏感的线程池可在启动时预启动全部核心线程，避免首批任务承担线程创建开销
+ * 3. 首次使用时预启动兼顾两者：启动阶段不创建线程，首个任务提交时一次性创建全部核心线程
+ * </p>
+ */
+public enum PrestartModeEnum {
+
+    /**
+     * 不预启动，提交任务时按需创建工作线程
+     */
+    NONE {
+        @Override
+        public void apply(OneThreadExecutor executor) {
+            executor.setPrestartOnFirstUse(false);
+        }
+    },
+
+    /**
+     * 注册时预启动全部核心线程
+     */
+    EAGER {
+        @Override
+        public void apply(OneThreadExecutor executor) {
+            executor.setPrestartOnFirstUse(false);
+            executor.prestartAllCoreThreads();
+        }
+    },
+
+    /**
+     * 首个任务提交时预启动全部核心线程
+     */
+    FIRST_USE {
+        @Override
+        public void apply(OneThreadExecutor executor) {
+            executor.setPrestartOnFirstUse(true);
+        }
+    };
+
+    /**
+     * 对线程池应用预启动模式
+     *
+     * @param executor 动态线程池执行器
+     */
+    public abstract void apply(OneThreadExecutor executor);
+}
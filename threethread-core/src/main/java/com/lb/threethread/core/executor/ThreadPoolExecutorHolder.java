@@ -1,5 +1,6 @@
 package com.lb.threethread.core.executor;
 
+import com.lb.threethread.core.executor.support.TaskResourceAccounting;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -46,4 +47,53 @@ public class ThreadPoolExecutorHolder {
      * </p>
      */
     private ThreadPoolExecutorProperties executorProperties;
+
+    /**
+     * 获取任务执行超时次数
+     * <p>
+     * 仅动态线程池 {@link OneThreadExecutor} 支持执行超时控制，其他线程池返回 0
+     * </p>
+     *
+     * @return 任务执行超时次数
+     */
+    public long getExecuteTimeoutCount() {
+        return executor instanceof OneThreadExecutor oneThreadExecutor ? oneThreadExecutor.getExecuteTimeoutCount() : 0L;
+    }
+
+    /**
+     * 获取任务拒绝次数
+     * <p>
+     * 仅动态线程池 {@link OneThreadExecutor} 统计拒绝次数，其他线程池返回 0
+     * </p>
+     *
+     * @return 任务拒绝次数
+     */
+    public long getRejectCount() {
+        return executor instanceof OneThreadExecutor oneThreadExecutor ? oneThreadExecutor.getRejectCount() : 0L;
+    }
+
+    /**
+     * 获取慢任务数
+     * <p>
+     * 仅动态线程池 {@link OneThreadExecutor} 支持慢任务检测，其他线程池返回 0
+     * </p>
+     *
+     * @return 慢任务数
+     */
+    public long getSlowTaskCount() {
+        return executor instanceof OneThreadExecutor oneThreadExecutor ? oneThreadExecutor.getSlowTaskCount() : 0L;
+    }
+
+    /**
+     * 获取任务资源消耗统计
+     * <p>
+     * 仅动态线程池 {@link OneThreadExecutor} 支持，包含线程池汇总和按任务类汇总的 CPU 时间、执行耗时与堆内存分配量；
+     * 未开启统计时累计值保持不变
+     * </p>
+     *
+     * @return 资源消耗统计，非动态线程池返回 null
+     */
+    public TaskResourceAccounting getResourceAccounting() {
+        return executor instanceof OneThreadExecutor oneThreadExecutor ? oneThreadExecutor.getResourceAccounting() : null;
+    }
 }
\ No newline at end of file
@@ -88,11 +88,106 @@ public class ThreadPoolExecutorProperties {
      */
     private Boolean allowCoreThreadTimeOut;
 
+    /**
+     * 任务执行超时时间（单位：毫秒）
+     * <p>
+     * 任务执行超过该时间后将中断执行线程，为空或小于等于 0 表示不限制
+     * </p>
+     */
+    private Long executeTimeout;
+
+    /**
+     * 并行度
+     * <p>
+     * 仅对 ForkJoin 线程池生效，ForkJoin 线程池忽略核心线程数、最大线程数、队列等参数
+     * </p>
+     */
+    private Integer parallelism;
+
+    /**
+     * 核心线程预启动模式
+     * <p>
+     * 仅在应用启动注册线程池时生效，为空表示不预启动
+     * </p>
+     */
+    private PrestartModeEnum prestartMode;
+
+    /**
+     * 是否统计工作队列锁竞争
+     * <p>
+     * 仅对 ResizableCapacityLinkedBlockingQueue 工作队列生效，用于排查入队、出队锁竞争，支持配置中心动态开关
+     * </p>
+     */
+    private Boolean queueContentionTracking;
+
+    /**
+     * 慢任务阈值（单位：毫秒）
+     * <p>
+     * 任务执行超过该时间后计为慢任务并采集工作线程堆栈，不中断任务；为空或小于等于 0 表示不检测，支持配置中心动态调整
+     * </p>
+     */
+    private Long slowTaskThreshold;
+
+    /**
+     * 任务资源消耗统计配置
+     */
+    private AccountingConfig accounting;
+
     /**
      * 通知配置
      */
     private NotifyConfig notify;
 
+    /**
+     * 告警配置
+     */
+    private AlarmConfig alarm;
+
+    /**
+     * 任务资源消耗统计配置
+     * <p>
+     * 开启后在任务开始、结束时读取工作线程 CPU 时间与堆内存分配量，按线程池汇总，可选按任务类汇总，支持配置中心动态开关
+     * </p>
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountingConfig {
+
+        /**
+         * 是否开启资源消耗统计
+         */
+        private Boolean enable = Boolean.FALSE;
+
+        /**
+         * 采样间隔，每 N 个任务统计 1 个，任务耗时很短时可调大以降低读取线程 CPU 时间的开销
+         */
+        private Integer sampleInterval = 1;
+
+        /**
+         * 按任务类汇总的任务类数量上限，超出的任务类合并统计，为 0 表示只按线程池汇总
+         */
+        private Integer maxTaskClasses = 0;
+
+        /**
+         * 按配置开启或关闭动态线程池的资源消耗统计
+         *
+         * @param executor 动态线程池
+         * @param config   资源消耗统计配置，为空表示关闭
+         */
+        public static void applyTo(OneThreadExecutor executor, AccountingConfig config) {
+            boolean enabled = config != null && Boolean.TRUE.equals(config.getEnable());
+            executor.setResourceAccounting(enabled,
+                    enabled && config.getSampleInterval() != null ? config.getSampleInterval() : 1,
+                    enabled && config.getMaxTaskClasses() != null ? config.getMaxTaskClasses() : 0);
+        }
+    }
+
+    /**
+     * 线程数、队列容量渐进调整配置
+     */
+    private RampConfig ramp;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -103,4 +198,100 @@ public class ThreadPoolExecutorProperties {
          */
         private String receives;
     }
-}
\ No newline at end of file
+
+    /**
+     * 线程池告警配置
+     * <p>
+     * 阈值为空表示不开启对应告警规则，除拒绝次数外各规则均取时间窗口内的平均值或峰值进行判断
+     * </p>
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AlarmConfig {
+
+        /**
+         * 是否开启告警
+         */
+        private Boolean enable = Boolean.TRUE;
+
+        /**
+         * 队列使用率阈值（单位：%），窗口内平均队列使用率达到该值时告警
+         */
+        private Integer queueThreshold;
+
+        /**
+         * 活跃度阈值（单位：%），窗口内平均活跃线程数 / 最大线程数达到该值时告警
+         */
+        private Integer activeThreshold;
+
+        /**
+         * 拒绝次数阈值，窗口内拒绝次数达到该值时告警
+         */
+        private Long rejectThreshold;
+
+        /**
+         * 任务排队等待耗时 P99 阈值（单位：毫秒），窗口内采集间隔 P99 峰值达到该值时告警
+         * <p>
+         * 配置后将开启线程池排队耗时统计
+         * </p>
+         */
+        private Long queueWaitP99Threshold;
+
+        /**
+         * 慢任务数阈值，窗口内检测到的慢任务数达到该值时告警，需同时配置线程池慢任务阈值
+         */
+        private Long slowTaskCountThreshold;
+
+        /**
+         * 评估时间窗口（单位：秒）
+         */
+        private Long window = 60L;
+
+        /**
+         * 同一线程池同一告警规则的最小告警间隔（单位：秒），用于去重和限流
+         */
+        private Long interval = 300L;
+    }
+
+    /**
+     * 线程数、队列容量渐进调整配置
+     * <p>
+     * 开启后核心线程数、最大线程数和队列容量不再一次性调整到目标值，而是在调整时长内分步逼近；
+     * 调整期间拒绝次数或排队耗时相比调整前出现劣化时终止调整，并回退到上一步的参数
+     * </p>
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RampConfig {
+
+        /**
+         * 是否开启渐进调整
+         */
+        private Boolean enable = Boolean.FALSE;
+
+        /**
+         * 调整时长（单位：秒），每一步的间隔为调整时长 / 步数
+         */
+        private Long duration = 60L;
+
+        /**
+         * 调整步数
+         */
+        private Integer steps = 10;
+
+        /**
+         * 每一步允许比调整前多出的拒绝次数，超过时终止调整
+         */
+        private Long rejectTolerance = 0L;
+
+        /**
+         * 排队耗时 P99 劣化倍数，超过调整前 P99 的该倍数时终止调整
+         * <p>
+         * 开启渐进调整后会开启线程池排队耗时统计，依赖指标采集器的采样结果
+         * </p>
+         */
+        private Double queueWaitP99Ratio = 2.0D;
+    }
+}
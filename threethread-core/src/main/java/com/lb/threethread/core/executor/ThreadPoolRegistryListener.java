@@ -0,0 +1,32 @@
+package com.lb.threethread.core.executor;
+
+/**
+ * 线程池注册监听器
+ * <p>
+ * 监听 {@link OneThreadRegistry} 中线程池的注册与移除，用于指标、管理端点等外部组件跟随注册中心自动绑定和清理
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 线程池在容器启动后任意时刻注册，监听方无需轮询注册中心即可感知新增线程池
+ * 2. 线程池移除时通知监听方释放关联资源，避免已销毁线程池的指标长期残留
+ * 3. 添加监听器时会对已注册线程池补发注册回调，同一线程池可能收到多次注册回调，实现需保证幂等
+ * </p>
+ */
+public interface ThreadPoolRegistryListener {
+
+    /**
+     * 线程池注册回调，同一线程池 ID 重复注册时以最新的线程池包装对象回调
+     *
+     * @param holder 线程池包装对象
+     */
+    default void onRegistered(ThreadPoolExecutorHolder holder) {
+    }
+
+    /**
+     * 线程池移除回调
+     *
+     * @param holder 被移除的线程池包装对象
+     */
+    default void onRemoved(ThreadPoolExecutorHolder holder) {
+    }
+}
@@ -18,7 +18,7 @@ import java.util.concurrent.SynchronousQueue;
  */
 public enum BlockingQueueTypeEnum {
 
-    ARRAY_BLOCKING_QUEUE("ArrayBlockingQueue") {
+    ARRAY_BLOCKING_QUEUE("ArrayBlockingQueue", true) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new ArrayBlockingQueue<>(capacity);
@@ -30,7 +30,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    LINKED_BLOCKING_QUEUE("LinkedBlockingQueue") {
+    LINKED_BLOCKING_QUEUE("LinkedBlockingQueue", true) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new LinkedBlockingQueue<>(capacity);
@@ -42,7 +42,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    LINKED_BLOCKING_DEQUE("LinkedBlockingDeque") {
+    LINKED_BLOCKING_DEQUE("LinkedBlockingDeque", true) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new LinkedBlockingDeque<>(capacity);
@@ -54,7 +54,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    SYNCHRONOUS_QUEUE("SynchronousQueue") {
+    SYNCHRONOUS_QUEUE("SynchronousQueue", false) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new SynchronousQueue<>();
@@ -66,7 +66,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    LINKED_TRANSFER_QUEUE("LinkedTransferQueue") {
+    LINKED_TRANSFER_QUEUE("LinkedTransferQueue", false) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new LinkedTransferQueue<>();
@@ -78,7 +78,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    PRIORITY_BLOCKING_QUEUE("PriorityBlockingQueue") {
+    PRIORITY_BLOCKING_QUEUE("PriorityBlockingQueue", false) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new PriorityBlockingQueue<>(capacity);
@@ -90,7 +90,7 @@ public enum BlockingQueueTypeEnum {
         }
     },
 
-    RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE("ResizableCapacityLinkedBlockingQueue") {
+    RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE("ResizableCapacityLinkedBlockingQueue", true) {
         @Override
         <T> BlockingQueue<T> of(Integer capacity) {
             return new ResizableCapacityLinkedBlockingQueue<>(capacity);
@@ -105,12 +105,19 @@ public enum BlockingQueueTypeEnum {
     @Getter
     private final String name;
 
+    /**
+     * 队列容量是否由配置决定，为 false 时容量配置被忽略（无容量或无界队列）
+     */
+    @Getter
+    private final boolean capacityConfigurable;
+
     abstract <T> BlockingQueue<T> of(Integer capacity);
 
     abstract <T> BlockingQueue<T> of();
 
-    BlockingQueueTypeEnum(String name) {
+    BlockingQueueTypeEnum(String name, boolean capacityConfigurable) {
         this.name = name;
+        this.capacityConfigurable = capacityConfigurable;
     }
 
     private static final Map<String, BlockingQueueTypeEnum> NAME_TO_ENUM_MAP;
@@ -132,6 +139,28 @@ public enum BlockingQueueTypeEnum {
         throw new IllegalArgumentException("No matching type of blocking queue was found: " + blockingQueueName);
     }
 
+    /**
+     * 判断已有队列是否与配置的队列类型和容量一致，一致时无需重新创建队列
+     *
+     * @param queue             已有的阻塞队列
+     * @param blockingQueueName 配置的队列类型名称
+     * @param capacity          配置的队列容量，为空表示未指定，沿用已有队列容量
+     * @return 是否一致
+     */
+    public static boolean matches(BlockingQueue<?> queue, String blockingQueueName, Integer capacity) {
+        final BlockingQueueTypeEnum typeEnum = NAME_TO_ENUM_MAP.get(blockingQueueName);
+        if (typeEnum == null || !Objects.equals(typeEnum.name, queue.getClass().getSimpleName())) {
+            return false;
+        }
+        if (capacity == null || !typeEnum.capacityConfigurable) {
+            return true;
+        }
+        if (queue instanceof ResizableCapacityLinkedBlockingQueue<?> resizableQueue) {
+            return resizableQueue.getCapacity() == capacity;
+        }
+        return queue.size() + queue.remainingCapacity() == capacity;
+    }
+
     private static <T> BlockingQueue<T> of(String blockingQueueName, Integer capacity) {
         final BlockingQueueTypeEnum typeEnum = NAME_TO_ENUM_MAP.get(blockingQueueName);
         if (typeEnum == null) {
@@ -1,5 +1,7 @@
 package com.lb.threethread.core.executor.support;
 
+import com.lb.threethread.core.monitor.jfr.QueueCapacityChangedEvent;
+
 import java.util.AbstractQueue;
 import java.util.Collection;
 import java.util.Iterator;
@@ -45,11 +47,106 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
 
     private final Condition notFull = putLock.newCondition();
 
+    /**
+     * 锁竞争统计，为 null 时不统计
+     */
+    private transient volatile QueueContentionStats contentionStats;
+
+    /**
+     * 设置锁竞争统计
+     * <p>
+     * 统计对象可由多个队列先后共用，替换队列时传入同一对象即可连续计数
+     * </p>
+     *
+     * @param contentionStats 统计对象，为 null 时关闭统计
+     */
+    public void setContentionStats(QueueContentionStats contentionStats) {
+        this.contentionStats = contentionStats;
+    }
+
+    /**
+     * 获取锁竞争统计
+     *
+     * @return 统计对象，未开启统计时返回 null
+     */
+    public QueueContentionStats getContentionStats() {
+        return contentionStats;
+    }
+
+    private void acquire(ReentrantLock lock) {
+        QueueContentionStats stats = contentionStats;
+        if (stats == null) {
+            lock.lock();
+            return;
+        }
+        boolean contended = !lock.tryLock();
+        if (contended) {
+            lock.lock();
+        }
+        stats.recordLockAcquired(lock == putLock, contended);
+    }
+
+    private void acquireInterruptibly(ReentrantLock lock) throws InterruptedException {
+        QueueContentionStats stats = contentionStats;
+        if (stats == null) {
+            lock.lockInterruptibly();
+            return;
+        }
+        boolean contended = !lock.tryLock();
+        if (contended) {
+            lock.lockInterruptibly();
+        }
+        stats.recordLockAcquired(lock == putLock, contended);
+    }
+
+    private void await(Condition condition) throws InterruptedException {
+        QueueContentionStats stats = contentionStats;
+        if (stats == null) {
+            condition.await();
+            return;
+        }
+        long begin = System.nanoTime();
+        try {
+            condition.await();
+        } finally {
+            stats.recordWait(condition == notFull, System.nanoTime() - begin);
+        }
+    }
+
+    private long awaitNanos(Condition condition, long nanos) throws InterruptedException {
+        QueueContentionStats stats = contentionStats;
+        if (stats == null) {
+            return condition.awaitNanos(nanos);
+        }
+        long begin = System.nanoTime();
+        try {
+            return condition.awaitNanos(nanos);
+        } finally {
+            stats.recordWait(condition == notFull, System.nanoTime() - begin);
+        }
+    }
+
+    private void signal(Condition condition) {
+        condition.signal();
+        QueueContentionStats stats = contentionStats;
+        if (stats != null) {
+            stats.recordSignal(condition == notFull);
+        }
+    }
+
+    private void signalAll(Condition condition) {
+        condition.signalAll();
+        QueueContentionStats stats = contentionStats;
+        if (stats != null) {
+            stats.recordSignal(condition == notFull);
+        }
+    }
+
     private void signalNotEmpty() {
         final ReentrantLock takeLock = this.takeLock;
-        takeLock.lock();
+        acquire(takeLock);
         try {
-            notEmpty.signal();
+            signal(notEmpty);
         } finally {
             takeLock.unlock();
         }
@@ -57,9 +154,9 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
 
     private void signalNotFull() {
         final ReentrantLock putLock = this.putLock;
-        putLock.lock();
+        acquire(putLock);
         try {
-            notFull.signal();
+            signal(notFull);
         } finally {
             putLock.unlock();
         }
@@ -78,8 +175,8 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
     }
 
     private void fullyLock() {
-        putLock.lock();
-        takeLock.lock();
+        acquire(putLock);
+        acquire(takeLock);
     }
 
     private void fullyUnlock() {
@@ -111,6 +208,17 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         return count.get();
     }
 
+    /**
+     * 获取队列当前容量
+     *
+     * <p>直接读取容量字段，不受并发入队出队影响；{@code size() + remainingCapacity()} 两次读取计数之间可能发生变化，不能用于判断容量
+     *
+     * @return 队列容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
     public void setCapacity(int capacity) {
         final int oldCapacity = this.capacity;
         this.capacity = capacity;
@@ -118,6 +226,15 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         if (capacity > size && size >= oldCapacity) {
             signalNotFull();
         }
+        if (oldCapacity != capacity) {
+            QueueCapacityChangedEvent event = new QueueCapacityChangedEvent();
+            if (event.shouldCommit()) {
+                event.setPreviousCapacity(oldCapacity);
+                event.setCapacity(capacity);
+                event.setQueueSize(size);
+                event.commit();
+            }
+        }
     }
 
     @Override
@@ -133,20 +250,20 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         int c = -1;
         final ReentrantLock putLock = this.putLock;
         final AtomicInteger count = this.count;
-        putLock.lockInterruptibly();
+        acquireInterruptibly(putLock);
         try {
             try {
                 while (count.get() >= capacity) {
-                    notFull.await();
+                    await(notFull);
                 }
             } catch (InterruptedException ie) {
-                notFull.signal(); // propagate to a non-interrupted thread
+                signal(notFull); // propagate to a non-interrupted thread
                 throw ie;
             }
             insert(o);
             c = count.getAndIncrement();
             if (c + 1 < capacity) {
-                notFull.signal();
+                signal(notFull);
             }
         } finally {
             putLock.unlock();
@@ -166,14 +283,14 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         int c = -1;
         final ReentrantLock putLock = this.putLock;
         final AtomicInteger count = this.count;
-        putLock.lockInterruptibly();
+        acquireInterruptibly(putLock);
         try {
             for (; ; ) {
                 if (count.get() < capacity) {
                     insert(o);
                     c = count.getAndIncrement();
                     if (c + 1 < capacity) {
-                        notFull.signal();
+                        signal(notFull);
                     }
                     break;
                 }
@@ -181,9 +298,9 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
                     return false;
                 }
                 try {
-                    nanos = notFull.awaitNanos(nanos);
+                    nanos = awaitNanos(notFull, nanos);
                 } catch (InterruptedException ie) {
-                    notFull.signal(); // propagate to a non-interrupted thread
+                    signal(notFull); // propagate to a non-interrupted thread
                     throw ie;
                 }
             }
@@ -207,13 +324,13 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         }
         int c = -1;
         final ReentrantLock putLock = this.putLock;
-        putLock.lock();
+        acquire(putLock);
         try {
             if (count.get() < capacity) {
                 insert(o);
                 c = count.getAndIncrement();
                 if (c + 1 < capacity) {
-                    notFull.signal();
+                    signal(notFull);
                 }
             }
         } finally {
@@ -231,21 +348,21 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         int c = -1;
         final AtomicInteger count = this.count;
         final ReentrantLock takeLock = this.takeLock;
-        takeLock.lockInterruptibly();
+        acquireInterruptibly(takeLock);
         try {
             try {
                 while (count.get() == 0) {
-                    notEmpty.await();
+                    await(notEmpty);
                 }
             } catch (InterruptedException ie) {
-                notEmpty.signal(); // propagate to a non-interrupted thread
+                signal(notEmpty); // propagate to a non-interrupted thread
                 throw ie;
             }
 
             x = extract();
             c = count.getAndDecrement();
             if (c > 1) {
-                notEmpty.signal();
+                signal(notEmpty);
             }
         } finally {
             takeLock.unlock();
@@ -263,14 +380,14 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         long nanos = unit.toNanos(timeout);
         final AtomicInteger count = this.count;
         final ReentrantLock takeLock = this.takeLock;
-        takeLock.lockInterruptibly();
+        acquireInterruptibly(takeLock);
         try {
             for (; ; ) {
                 if (count.get() > 0) {
                     x = extract();
                     c = count.getAndDecrement();
                     if (c > 1) {
-                        notEmpty.signal();
+                        signal(notEmpty);
                     }
                     break;
                 }
@@ -278,9 +395,9 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
                     return null;
                 }
                 try {
-                    nanos = notEmpty.awaitNanos(nanos);
+                    nanos = awaitNanos(notEmpty, nanos);
                 } catch (InterruptedException ie) {
-                    notEmpty.signal(); // propagate to a non-interrupted thread
+                    signal(notEmpty); // propagate to a non-interrupted thread
                     throw ie;
                 }
             }
@@ -302,13 +419,13 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         E x = null;
         int c = -1;
         final ReentrantLock takeLock = this.takeLock;
-        takeLock.lock();
+        acquire(takeLock);
         try {
             if (count.get() > 0) {
                 x = extract();
                 c = count.getAndDecrement();
                 if (c > 1) {
-                    notEmpty.signal();
+                    signal(notEmpty);
                 }
             }
         } finally {
@@ -326,7 +443,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
             return null;
         }
         final ReentrantLock takeLock = this.takeLock;
-        takeLock.lock();
+        acquire(takeLock);
         try {
             Node<E> first = head.next;
             if (first == null) {
@@ -361,7 +478,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
                 p.item = null;
                 trail.next = p.next;
                 if (count.getAndDecrement() >= capacity) {
-                    notFull.signalAll();
+                    signalAll(notFull);
                 }
             }
         } finally {
@@ -421,7 +538,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
         try {
             head.next = null;
             if (count.getAndSet(0) >= capacity) {
-                notFull.signalAll();
+                signalAll(notFull);
             }
         } finally {
             fullyUnlock();
@@ -442,7 +559,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
             first = head.next;
             head.next = null;
             if (count.getAndSet(0) >= capacity) {
-                notFull.signalAll();
+                signalAll(notFull);
             }
         } finally {
             fullyUnlock();
@@ -481,7 +598,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
             if (n != 0) {
                 head.next = p;
                 if (count.getAndAdd(-n) >= capacity) {
-                    notFull.signalAll();
+                    signalAll(notFull);
                 }
             }
             return n;
@@ -568,7 +685,7 @@ public class ResizableCapacityLinkedBlockingQueue<E> extends AbstractQueue<E>
                     trail.next = p.next;
                     int c = count.getAndDecrement();
                     if (c >= capacity) {
-                        notFull.signalAll();
+                        signalAll(notFull);
                     }
                 }
             } finally {
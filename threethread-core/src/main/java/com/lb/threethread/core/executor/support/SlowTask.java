@@ -0,0 +1,47 @@
+package com.lb.threethread.core.executor.support;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 慢任务信息
+ * <p>
+ * 由动态线程池在慢任务检测时生成，每个执行超过阈值的任务只生成一次
+ * </p>
+ */
+@Getter
+public class SlowTask {
+
+    /**
+     * 线程池唯一标识
+     */
+    private final String threadPoolId;
+
+    /**
+     * 执行该任务的工作线程
+     */
+    private final Thread worker;
+
+    /**
+     * 任务类名，通过 submit 提交的任务为 FutureTask，需结合堆栈定位业务代码
+     */
+    private final String taskClassName;
+
+    /**
+     * 检测时任务已执行耗时（单位：毫秒）
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 检测时工作线程堆栈，受采集频率限制未采集时为 null
+     */
+    @Setter
+    private StackTraceElement[] stackTrace;
+
+    public SlowTask(String threadPoolId, Thread worker, String taskClassName, long elapsedMillis) {
+        this.threadPoolId = threadPoolId;
+        this.worker = worker;
+        this.taskClassName = taskClassName;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,337 @@
+package com.lb.threethread.core.executor.support;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 可替换底层实现的阻塞队列
+ * <p>
+ * 线程池持有的工作队列引用不可变，通过该队列委派到真实的阻塞队列，
+ * 运行时即可将底层队列替换为其他类型或容量的队列，并迁移已排队的任务
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 替换时先切换委派队列，新提交的任务立即进入新队列，提交方不会被阻塞
+ * 2. 旧队列中的任务按新队列剩余容量迁移，放不下的任务（如新队列为 SynchronousQueue）暂存在溢出队列，
+ *    消费方优先从溢出队列获取，保证任务不丢失且尽量保持先进先出
+ * 3. 与替换并发、仍投递到旧队列的任务，由提交方检测到委派队列已切换后自行移入新队列
+ * 4. 消费方直接阻塞在委派队列上，获取任务路径不额外加锁或计数；替换时向旧队列投递唤醒标记，
+ *    阻塞在旧队列上的消费方取到标记后切换到新队列，不修改线程池参数也不中断工作线程
+ * </p>
+ * <p>
+ * 唤醒标记同时实现 {@link Runnable} 与 {@link Comparable}，并排在任何元素之前，旧队列为 PriorityBlockingQueue 时同样可以投递
+ * </p>
+ */
+public final class SwappableBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * 唤醒标记，只投递到已被替换的旧队列
+     */
+    private static final Object WAKE_UP = new WakeUp();
+
+    /**
+     * 投递唤醒标记的最长等待时间（单位：毫秒），有界旧队列已满或同步队列无消费方等待时放弃投递
+     */
+    private static final long WAKE_UP_OFFER_TIMEOUT_MILLIS = 10L;
+
+    /**
+     * 当前委派队列
+     */
+    private volatile BlockingQueue<E> delegate;
+
+    /**
+     * 替换队列时新队列放不下的任务，消费方优先获取
+     */
+    private final ConcurrentLinkedQueue<E> overflow = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 溢出队列是否可能有任务，消费方仅在替换后检查溢出队列
+     */
+    private volatile boolean overflowPending;
+
+    public SwappableBlockingQueue(BlockingQueue<E> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    /**
+     * 获取当前委派队列
+     */
+    public BlockingQueue<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 获取真实的阻塞队列，非可替换队列原样返回
+     *
+     * @param queue 阻塞队列
+     * @return 可替换队列的当前委派队列或原队列
+     */
+    public static <E> BlockingQueue<E> unwrap(BlockingQueue<E> queue) {
+        return queue instanceof SwappableBlockingQueue<E> swappableQueue ? swappableQueue.getDelegate() : queue;
+    }
+
+    /**
+     * 替换委派队列并迁移已排队的任务，不唤醒阻塞在旧队列上的消费方
+     *
+     * @param newQueue 新的阻塞队列，必须为空
+     * @return 被替换的旧队列
+     */
+    public BlockingQueue<E> swap(BlockingQueue<E> newQueue) {
+        return swap(newQueue, 0);
+    }
+
+    /**
+     * 替换委派队列并迁移已排队的任务，随后向旧队列投递唤醒标记
+     * <p>
+     * 每个标记唤醒一个阻塞在旧队列上的消费方；有容量的旧队列中剩余的标记留给替换前已读取旧队列、尚未开始阻塞的消费方，
+     * 投递超时即停止，说明已没有消费方阻塞在旧队列上
+     * </p>
+     *
+     * @param newQueue  新的阻塞队列，必须为空
+     * @param consumers 最多可能阻塞在旧队列上的消费方数量，用作线程池工作队列时传入工作线程数
+     * @return 被替换的旧队列
+     */
+    public synchronized BlockingQueue<E> swap(BlockingQueue<E> newQueue, int consumers) {
+        Objects.requireNonNull(newQueue);
+        BlockingQueue<E> oldQueue = delegate;
+        if (newQueue == oldQueue) {
+            return oldQueue;
+        }
+        // 回滚时会替换回曾被替换的队列，先清除其中残留的唤醒标记
+        newQueue.removeIf(each -> each == WAKE_UP);
+        delegate = newQueue;
+
+        // 旧队列中较早的任务进入溢出队列（消费方优先获取），较晚的任务按新队列剩余容量迁移
+        List<E> pending = new ArrayList<>();
+        oldQueue.drainTo(pending);
+        pending.removeIf(each -> each == WAKE_UP);
+        int overflowCount = Math.max(0, pending.size() - newQueue.remainingCapacity());
+        for (int i = 0; i < pending.size(); i++) {
+            E element = pending.get(i);
+            if (i < overflowCount || !newQueue.offer(element)) {
+                overflow.add(element);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            overflowPending = true;
+        }
+        wakeUpConsumers(oldQueue, consumers);
+        return oldQueue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void wakeUpConsumers(BlockingQueue<E> oldQueue, int consumers) {
+        E marker = (E) WAKE_UP;
+        try {
+            for (int i = 0; i < consumers; i++) {
+                if (!oldQueue.offer(marker, WAKE_UP_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        BlockingQueue<E> queue = delegate;
+        if (!queue.offer(e)) {
+            return false;
+        }
+        return queue == delegate || !queue.remove(e) || delegate.offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        BlockingQueue<E> queue = delegate;
+        if (!queue.offer(e, timeout, unit)) {
+            return false;
+        }
+        return queue == delegate || !queue.remove(e) || delegate.offer(e);
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        BlockingQueue<E> queue = delegate;
+        queue.put(e);
+        if (queue != delegate && queue.remove(e)) {
+            delegate.put(e);
+        }
+    }
+
+    @Override
+    public E poll() {
+        E element = pollOverflow();
+        if (element != null) {
+            return element;
+        }
+        do {
+            element = delegate.poll();
+        } while (element == WAKE_UP);
+        return element;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        while (true) {
+            E element = pollOverflow();
+            if (element == null) {
+                element = delegate.take();
+            }
+            if (element != WAKE_UP) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * 限时获取任务，取到唤醒标记时在新队列上按原超时时间重新等待，空闲线程的存活时间最多因一次替换延长一个周期
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        while (true) {
+            E element = pollOverflow();
+            if (element == null) {
+                element = delegate.poll(timeout, unit);
+            }
+            if (element != WAKE_UP) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * 获取替换队列时暂存的溢出任务，溢出队列取空后复位标记
+     */
+    private E pollOverflow() {
+        if (!overflowPending) {
+            return null;
+        }
+        E element = overflow.poll();
+        if (element == null) {
+            synchronized (this) {
+                if (overflow.isEmpty()) {
+                    overflowPending = false;
+                }
+            }
+        }
+        return element;
+    }
+
+    @Override
+    public E peek() {
+        E element = overflow.peek();
+        return element != null ? element : delegate.peek();
+    }
+
+    @Override
+    public int size() {
+        return (overflow.isEmpty() ? 0 : overflow.size()) + delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return overflow.isEmpty() && delegate.isEmpty();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return delegate.remainingCapacity();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return overflow.remove(o) || delegate.remove(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return overflow.contains(o) || delegate.contains(o);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = overflow.poll()) != null) {
+            c.add(element);
+            drained++;
+        }
+        return drained < maxElements ? drained + delegate.drainTo(c, maxElements - drained) : drained;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> overflowIterator = overflow.iterator();
+        Iterator<E> delegateIterator = delegate.iterator();
+        return new Iterator<>() {
+
+            private Iterator<E> current = overflowIterator;
+
+            private Iterator<E> lastReturned;
+
+            @Override
+            public boolean hasNext() {
+                if (current.hasNext()) {
+                    return true;
+                }
+                if (current == overflowIterator) {
+                    current = delegateIterator;
+                    return current.hasNext();
+                }
+                return false;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = current;
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                lastReturned.remove();
+                lastReturned = null;
+            }
+        };
+    }
+
+    /**
+     * 唤醒标记，排在任何元素之前
+     */
+    private static final class WakeUp implements Runnable, Comparable<Object> {
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public int compareTo(Object other) {
+            return other == this ? 0 : -1;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.lb.threethread.core.executor.support;
+
+import lombok.Getter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 线程池资源消耗统计
+ * <p>
+ * 在任务开始、结束时读取工作线程的 CPU 时间与堆内存分配量，按线程池汇总，并可按任务类汇总，
+ * 用于将 CPU 与 GC 压力归因到具体线程池和任务
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 基于 {@link ThreadMXBean} 的当前线程 CPU 时间与分配字节数，只统计任务执行区间，不包含工作线程空闲等待时间
+ * 2. 读取线程 CPU 时间有一定开销，支持每 N 个任务统计 1 个，统计值按采样间隔放大为估算值
+ * 3. 按任务类汇总时限制任务类数量，超过上限的任务类计入 {@link #OTHER_TASK_CLASS}，避免类名基数失控
+ * 4. 统计对象由线程池持有，关闭后再开启时累计值连续累加
+ * </p>
+ */
+public final class TaskResourceAccounting {
+
+    /**
+     * 超过任务类数量上限后的汇总任务类名称
+     */
+    public static final String OTHER_TASK_CLASS = "other";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN =
+            THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean sunThreadMXBean && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                    ? sunThreadMXBean
+                    : null;
+
+    /**
+     * 线程池汇总
+     */
+    @Getter
+    private final TaskResourceUsage total = new TaskResourceUsage();
+
+    private final TaskResourceUsage other = new TaskResourceUsage();
+
+    private final Map<Class<?>, TaskResourceUsage> taskClassUsages = new ConcurrentHashMap<>();
+
+    /**
+     * 已占用的任务类名额，新任务类先预占名额再写入，并发记录时任务类数量不会超过上限
+     */
+    private final AtomicInteger taskClassCount = new AtomicInteger();
+
+    /**
+     * 采样间隔，每 N 个任务统计 1 个
+     */
+    @Getter
+    private volatile int sampleInterval = 1;
+
+    /**
+     * 按任务类汇总的任务类数量上限，小于等于 0 表示不按任务类汇总
+     */
+    @Getter
+    private volatile int maxTaskClasses;
+
+    /**
+     * 设置采样间隔与任务类数量上限
+     *
+     * @param sampleInterval 采样间隔，小于 1 时按 1 处理
+     * @param maxTaskClasses 任务类数量上限，小于等于 0 表示不按任务类汇总
+     */
+    public void configure(int sampleInterval, int maxTaskClasses) {
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.maxTaskClasses = maxTaskClasses;
+    }
+
+    /**
+     * 判断当前任务是否需要统计
+     */
+    public boolean sample() {
+        int interval = sampleInterval;
+        return interval <= 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+    }
+
+    /**
+     * 记录一个任务的资源消耗，由工作线程在任务结束时调用
+     *
+     * @param taskClass 任务类
+     * @param cpuTime   CPU 时间（单位：纳秒），不支持时为 -1
+     * @param wallTime  执行耗时（单位：纳秒）
+     * @param allocated 分配字节数，不支持时为 -1
+     */
+    public void record(Class<?> taskClass, long cpuTime, long wallTime, long allocated) {
+        long weight = sampleInterval;
+        total.record(weight, cpuTime, wallTime, allocated);
+        int limit = maxTaskClasses;
+        if (limit <= 0 || taskClass == null) {
+            return;
+        }
+        TaskResourceUsage usage = taskClassUsages.get(taskClass);
+        if (usage == null) {
+            usage = registerTaskClass(taskClass, limit);
+        }
+        usage.record(weight, cpuTime, wallTime, allocated);
+    }
+
+    private TaskResourceUsage registerTaskClass(Class<?> taskClass, int limit) {
+        while (true) {
+            int count = taskClassCount.get();
+            if (count >= limit) {
+                TaskResourceUsage existing = taskClassUsages.get(taskClass);
+                return existing != null ? existing : other;
+            }
+            if (taskClassCount.compareAndSet(count, count + 1)) {
+                TaskResourceUsage existing = taskClassUsages.putIfAbsent(taskClass, new TaskResourceUsage());
+                if (existing != null) {
+                    // 其他线程已写入同一任务类，归还预占的名额
+                    taskClassCount.decrementAndGet();
+                    return existing;
+                }
+                return taskClassUsages.get(taskClass);
+            }
+        }
+    }
+
+    /**
+     * 获取按任务类汇总的资源消耗，按 CPU 时间倒序
+     * <p>
+     * Lambda 等隐藏类的类名去掉了 JVM 生成的地址后缀，便于在不同节点间对比；
+     * 去掉后缀后同名的多个任务类合并为一条累计值
+     * </p>
+     *
+     * @return 任务类名称到资源消耗的只读映射
+     */
+    public Map<String, TaskResourceUsage> getTaskClassUsages() {
+        Map<String, TaskResourceUsage> merged = new HashMap<>();
+        taskClassUsages.forEach((taskClass, usage) -> merged.merge(taskClassName(taskClass), usage, TaskResourceUsage::combine));
+        Map<String, TaskResourceUsage> usages = new LinkedHashMap<>();
+        merged.entrySet().stream()
+                .sorted((left, right) -> Long.compare(right.getValue().getCpuTimeNanos(), left.getValue().getCpuTimeNanos()))
+                .forEach(each -> usages.put(each.getKey(), each.getValue()));
+        if (other.getTaskCount() > 0) {
+            usages.put(OTHER_TASK_CLASS, other);
+        }
+        return Collections.unmodifiableMap(usages);
+    }
+
+    /**
+     * 获取当前线程已消耗的 CPU 时间
+     *
+     * @return CPU 时间（单位：纳秒），不支持时返回 -1
+     */
+    public static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+    }
+
+    /**
+     * 获取当前线程已分配的堆内存
+     *
+     * @return 分配字节数，不支持时返回 -1
+     */
+    public static long currentThreadAllocatedBytes() {
+        return ALLOCATION_MX_BEAN != null ? ALLOCATION_MX_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    private static String taskClassName(Class<?> taskClass) {
+        String name = taskClass.getName();
+        int hiddenClassSuffix = name.indexOf('/');
+        return hiddenClassSuffix > 0 ? name.substring(0, hiddenClassSuffix) : name;
+    }
+}
@@ -0,0 +1,69 @@
+package com.lb.threethread.core.executor.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 任务资源消耗累计值
+ * <p>
+ * 记录任务数、CPU 时间、执行耗时和堆内存分配量，按线程池或任务类汇总；
+ * 开启采样时每条记录按采样间隔放大，累计值为估算值
+ * </p>
+ */
+public final class TaskResourceUsage {
+
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder cpuTimeNanos = new LongAdder();
+    private final LongAdder wallTimeNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    void record(long weight, long cpuTime, long wallTime, long allocated) {
+        taskCount.add(weight);
+        wallTimeNanos.add(wallTime * weight);
+        if (cpuTime >= 0) {
+            cpuTimeNanos.add(cpuTime * weight);
+        }
+        if (allocated >= 0) {
+            allocatedBytes.add(allocated * weight);
+        }
+    }
+
+    /**
+     * 合并两条累计值，返回新的累计值快照，不修改入参
+     */
+    static TaskResourceUsage combine(TaskResourceUsage left, TaskResourceUsage right) {
+        TaskResourceUsage combined = new TaskResourceUsage();
+        combined.taskCount.add(left.getTaskCount() + right.getTaskCount());
+        combined.cpuTimeNanos.add(left.getCpuTimeNanos() + right.getCpuTimeNanos());
+        combined.wallTimeNanos.add(left.getWallTimeNanos() + right.getWallTimeNanos());
+        combined.allocatedBytes.add(left.getAllocatedBytes() + right.getAllocatedBytes());
+        return combined;
+    }
+
+    /**
+     * 获取任务数
+     */
+    public long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    /**
+     * 获取任务执行消耗的 CPU 时间（单位：纳秒），JVM 不支持线程 CPU 时间统计时为 0
+     */
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos.sum();
+    }
+
+    /**
+     * 获取任务执行耗时（单位：纳秒），包含阻塞、等待锁等非 CPU 时间
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos.sum();
+    }
+
+    /**
+     * 获取任务执行期间工作线程分配的堆内存（单位：字节），JVM 不支持线程内存分配统计时为 0
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+}
@@ -0,0 +1,136 @@
+package com.lb.threethread.core.monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 轻量级耗时直方图
+ * <p>
+ * 以微秒为单位按 2 的幂次划分桶，第 i 个桶统计 [2^(i-1), 2^i) 微秒的样本，
+ * 计算分位值时在桶内线性插值
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 记录操作为一次 LongAdder 自增，适合在任务执行路径上高频调用
+ * 2. 内存占用固定，桶计数只增不减，每个读取方通过各自的 {@link Cursor} 计算两次读取之间的分位值，
+ *    采集线程与渐进调整等多个读取方互不影响
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * 桶数量，最大桶上界约为 2^40 微秒（约 12.7 天），超出的样本计入最后一个桶
+     */
+    private static final int BUCKET_COUNT = 41;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * 默认读取游标，供 {@link #percentilesAndReset(double...)} 使用
+     */
+    private final Cursor defaultCursor;
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+        defaultCursor = new Cursor();
+    }
+
+    /**
+     * 创建独立的读取游标，游标从当前样本开始计算
+     */
+    public Cursor newCursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（单位：纳秒）
+     */
+    public void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0L));
+        int index = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+        buckets[index].increment();
+    }
+
+    /**
+     * 通过默认游标计算自上次调用以来的分位值
+     * <p>
+     * 读取各桶非原子操作，期间并发记录的少量样本可能计入下一个间隔
+     * </p>
+     *
+     * @param percentile 分位，如 0.99
+     * @return 分位值（单位：微秒），没有样本时返回 0
+     */
+    public long percentileAndReset(double percentile) {
+        return percentilesAndReset(percentile)[0];
+    }
+
+    /**
+     * 通过默认游标基于同一批样本计算多个分位值
+     *
+     * @param percentiles 分位，如 0.5、0.99
+     * @return 与入参顺序一致的分位值（单位：微秒），没有样本时均为 0
+     */
+    public long[] percentilesAndReset(double... percentiles) {
+        return defaultCursor.percentiles(percentiles);
+    }
+
+    /**
+     * 直方图读取游标，记录上次读取时各桶的累计计数
+     */
+    public final class Cursor {
+
+        private final long[] previous = new long[BUCKET_COUNT];
+
+        private Cursor() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                previous[i] = buckets[i].sum();
+            }
+        }
+
+        /**
+         * 基于自上次读取以来的样本计算多个分位值
+         *
+         * @param percentiles 分位，如 0.5、0.99
+         * @return 与入参顺序一致的分位值（单位：微秒），没有样本时均为 0
+         */
+        public synchronized long[] percentiles(double... percentiles) {
+            long[] counts = new long[BUCKET_COUNT];
+            long total = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long current = buckets[i].sum();
+                counts[i] = current - previous[i];
+                previous[i] = current;
+                total += counts[i];
+            }
+            long[] result = new long[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                result[i] = percentile(counts, total, percentiles[i]);
+            }
+            return result;
+        }
+    }
+
+    static long percentile(long[] counts, long total, double percentile) {
+        if (total == 0L) {
+            return 0L;
+        }
+        long rank = Math.max((long) Math.ceil(total * percentile), 1L);
+        long cumulative = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0L) {
+                continue;
+            }
+            if (cumulative + counts[i] >= rank) {
+                long lower = i == 0 ? 0L : 1L << (i - 1);
+                long upper = 1L << i;
+                return lower + (upper - lower) * (rank - cumulative) / counts[i];
+            }
+            cumulative += counts[i];
+        }
+        return 1L << (counts.length - 1);
+    }
+}
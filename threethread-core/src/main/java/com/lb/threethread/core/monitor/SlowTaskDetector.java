@@ -0,0 +1,120 @@
+package com.lb.threethread.core.monitor;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.support.SlowTask;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 慢任务检测器
+ * <p>
+ * 在每次运行时指标采集完成后，扫描开启慢任务检测的动态线程池中正在执行的任务，
+ * 执行时间超过线程池慢任务阈值的任务计为慢任务，记录日志并按频率限制采集工作线程堆栈
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 复用工作线程在任务开始时记录的开始时间，由采集线程统一扫描，不为每个任务创建定时器
+ * 2. 慢任务数计入线程池指标，配置慢任务数告警阈值后由告警引擎通过通知服务发送告警
+ * 3. 采集堆栈需要暂停目标线程，同一线程池在采集间隔内最多采集一次，避免大量慢任务时放大开销
+ * </p>
+ * <p>
+ * 检测粒度为指标采集间隔，慢任务最晚在超过阈值后一个采集间隔被发现；慢任务检测不中断任务，需要中断请使用执行超时控制
+ * </p>
+ */
+@Slf4j
+public class SlowTaskDetector {
+
+    /**
+     * 日志输出的最大堆栈深度
+     */
+    private static final int MAX_STACK_DEPTH = 32;
+
+    private final ThreadPoolMetricsCollector collector;
+
+    /**
+     * 同一线程池两次堆栈采集的最小间隔（单位：毫秒）
+     */
+    private final long stackCaptureIntervalMillis;
+
+    /**
+     * 最近一次堆栈采集时间，key 为线程池唯一标识
+     */
+    private final Map<String, Long> lastStackCaptureTimeMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param collector           运行时指标采集器
+     * @param stackCaptureInterval 同一线程池两次堆栈采集的最小间隔
+     * @param unit                时间单位
+     */
+    public SlowTaskDetector(ThreadPoolMetricsCollector collector, long stackCaptureInterval, TimeUnit unit) {
+        this.collector = collector;
+        this.stackCaptureIntervalMillis = unit.toMillis(stackCaptureInterval);
+    }
+
+    /**
+     * 启动慢任务检测器，注册为指标采集完成监听器
+     */
+    public void start() {
+        collector.addCollectListener(this::detect);
+    }
+
+    /**
+     * 检测所有已注册动态线程池的慢任务
+     *
+     * @return 本次新检测到的慢任务
+     */
+    public List<SlowTask> detect() {
+        long now = System.currentTimeMillis();
+        List<SlowTask> detected = new ArrayList<>();
+        for (ThreadPoolExecutorHolder holder : OneThreadRegistry.getAllHolders()) {
+            if (!(holder.getExecutor() instanceof OneThreadExecutor oneThreadExecutor)) {
+                continue;
+            }
+            for (SlowTask slowTask : oneThreadExecutor.detectSlowTasks()) {
+                if (tryAcquireStackCapture(slowTask.getThreadPoolId(), now)) {
+                    slowTask.setStackTrace(slowTask.getWorker().getStackTrace());
+                }
+                logSlowTask(slowTask, oneThreadExecutor.getSlowTaskThreshold());
+                detected.add(slowTask);
+            }
+        }
+        return detected;
+    }
+
+    private boolean tryAcquireStackCapture(String threadPoolId, long now) {
+        Long lastCaptureTime = lastStackCaptureTimeMap.get(threadPoolId);
+        if (lastCaptureTime != null && now - lastCaptureTime < stackCaptureIntervalMillis) {
+            return false;
+        }
+        lastStackCaptureTimeMap.put(threadPoolId, now);
+        return true;
+    }
+
+    private static void logSlowTask(SlowTask slowTask, long thresholdMillis) {
+        StackTraceElement[] stackTrace = slowTask.getStackTrace();
+        if (stackTrace == null) {
+            log.warn("[{}] Slow task detected, task: {}, worker thread: {}, elapsed: {} ms, threshold: {} ms, stack capture skipped by rate limit",
+                    slowTask.getThreadPoolId(), slowTask.getTaskClassName(), slowTask.getWorker().getName(),
+                    slowTask.getElapsedMillis(), thresholdMillis);
+            return;
+        }
+        StringBuilder stack = new StringBuilder();
+        int depth = Math.min(stackTrace.length, MAX_STACK_DEPTH);
+        for (int i = 0; i < depth; i++) {
+            stack.append("\n\tat ").append(stackTrace[i]);
+        }
+        if (stackTrace.length > depth) {
+            stack.append("\n\t... ").append(stackTrace.length - depth).append(" more");
+        }
+        log.warn("[{}] Slow task detected, task: {}, worker thread: {}, elapsed: {} ms, threshold: {} ms, worker stack:{}",
+                slowTask.getThreadPoolId(), slowTask.getTaskClassName(), slowTask.getWorker().getName(),
+                slowTask.getElapsedMillis(), thresholdMillis, stack);
+    }
+}
@@ -0,0 +1,27 @@
+package com.lb.threethread.core.monitor;
+
+/**
+ * 任务执行监听器
+ * <p>
+ * 由 {@link com.lb.threethread.core.executor.OneThreadExecutor} 在每个任务执行结束后于工作线程中回调，
+ * 用于将排队耗时、执行耗时接入外部指标系统
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 回调只传递基本类型参数，监听方可预先创建好指标对象，记录路径不产生额外对象
+ * 2. 未添加监听器时执行器不读取时钟，不影响任务执行开销
+ * 3. 回调在工作线程中同步执行，实现应保持轻量，抛出的异常会被捕获并记录日志，不影响工作线程
+ * </p>
+ */
+@FunctionalInterface
+public interface TaskExecutionListener {
+
+    /**
+     * 任务执行结束回调
+     *
+     * @param queueWaitNanos 排队等待耗时（单位：纳秒），未开启排队耗时统计时为 -1
+     * @param executeNanos   执行耗时（单位：纳秒）
+     * @param failed         任务是否抛出异常
+     */
+    void onTaskExecuted(long queueWaitNanos, long executeNanos, boolean failed);
+}
@@ -0,0 +1,139 @@
+package com.lb.threethread.core.monitor;
+
+import lombok.Getter;
+
+/**
+ * 线程池运行时指标类型枚举
+ * <p>
+ * 枚举序号即为指标在{@link ThreadPoolMetricsSeries}中的存储下标，新增指标只需追加枚举项
+ * </p>
+ */
+public enum ThreadPoolMetricTypeEnum {
+
+    CORE_POOL_SIZE("corePoolSize", false),
+
+    MAXIMUM_POOL_SIZE("maximumPoolSize", false),
+
+    POOL_SIZE("poolSize", false),
+
+    ACTIVE_COUNT("activeCount", false),
+
+    LARGEST_POOL_SIZE("largestPoolSize", false),
+
+    QUEUE_SIZE("queueSize", false),
+
+    /**
+     * 队列容量，无界队列为{@link Integer#MAX_VALUE}，ForkJoin 线程池为 0
+     */
+    QUEUE_CAPACITY("queueCapacity", false),
+
+    COMPLETED_TASK_COUNT("completedTaskCount", true),
+
+    REJECT_COUNT("rejectCount", true),
+
+    EXECUTE_TIMEOUT_COUNT("executeTimeoutCount", true),
+
+    /**
+     * 采集间隔内任务排队等待耗时 P99（单位：微秒），仅开启排队耗时统计的动态线程池
+     */
+    QUEUE_WAIT_P99("queueWaitP99", false),
+
+    /**
+     * 任务窃取次数，仅 ForkJoin 线程池
+     */
+    STEAL_COUNT("stealCount", true),
+
+    /**
+     * 外部提交且尚未执行的任务数，仅 ForkJoin 线程池
+     */
+    QUEUED_SUBMISSION_COUNT("queuedSubmissionCount", false),
+
+    /**
+     * 未阻塞在 join 等同步操作上的运行线程数，仅 ForkJoin 线程池
+     */
+    RUNNING_THREAD_COUNT("runningThreadCount", false),
+
+    /**
+     * 工作队列入队锁获取次数，以下队列锁竞争指标仅开启队列锁竞争统计的动态线程池
+     */
+    QUEUE_PUT_LOCK_ACQUIRE_COUNT("queuePutLockAcquireCount", true),
+
+    /**
+     * 工作队列入队锁需要排队获取的次数
+     */
+    QUEUE_PUT_LOCK_CONTENDED_COUNT("queuePutLockContendedCount", true),
+
+    /**
+     * 工作队列出队锁获取次数
+     */
+    QUEUE_TAKE_LOCK_ACQUIRE_COUNT("queueTakeLockAcquireCount", true),
+
+    /**
+     * 工作队列出队锁需要排队获取的次数
+     */
+    QUEUE_TAKE_LOCK_CONTENDED_COUNT("queueTakeLockContendedCount", true),
+
+    /**
+     * 生产者在工作队列 notFull 条件上的累计阻塞耗时（单位：微秒）
+     */
+    QUEUE_NOT_FULL_WAIT_TIME("queueNotFullWaitTime", true),
+
+    /**
+     * 消费者在工作队列 notEmpty 条件上的累计阻塞耗时（单位：微秒）
+     */
+    QUEUE_NOT_EMPTY_WAIT_TIME("queueNotEmptyWaitTime", true),
+
+    /**
+     * 工作队列 notFull 条件唤醒次数
+     */
+    QUEUE_NOT_FULL_SIGNAL_COUNT("queueNotFullSignalCount", true),
+
+    /**
+     * 工作队列 notEmpty 条件唤醒次数
+     */
+    QUEUE_NOT_EMPTY_SIGNAL_COUNT("queueNotEmptySignalCount", true),
+
+    /**
+     * 采集间隔内任务排队等待耗时 P50（单位：微秒），仅开启排队耗时统计的动态线程池
+     */
+    QUEUE_WAIT_P50("queueWaitP50", false),
+
+    /**
+     * 累计慢任务数，仅开启慢任务检测的动态线程池
+     */
+    SLOW_TASK_COUNT("slowTaskCount", true),
+
+    /**
+     * 累计任务执行 CPU 时间（单位：微秒），仅开启资源消耗统计的动态线程池，采样时为估算值
+     */
+    TASK_CPU_TIME("taskCpuTime", true),
+
+    /**
+     * 累计任务执行耗时（单位：微秒），仅开启资源消耗统计的动态线程池，与任务执行 CPU 时间同口径统计
+     */
+    TASK_WALL_TIME("taskWallTime", true),
+
+    /**
+     * 累计任务执行期间分配的堆内存（单位：字节），仅开启资源消耗统计的动态线程池，采样时为估算值
+     */
+    TASK_ALLOCATED_BYTES("taskAllocatedBytes", true),
+
+    /**
+     * 资源消耗统计覆盖的累计任务数，仅开启资源消耗统计的动态线程池，用于计算单个任务的平均 CPU 时间与执行耗时
+     */
+    ACCOUNTED_TASK_COUNT("accountedTaskCount", true);
+
+    @Getter
+    private final String name;
+
+    /**
+     * 是否为累计值指标，累计值指标通常关注窗口内增量而非峰值
+     */
+    @Getter
+    private final boolean cumulative;
+
+    ThreadPoolMetricTypeEnum(String name, boolean cumulative) {
+        this.name = name;
+        this.cumulative = cumulative;
+    }
+}
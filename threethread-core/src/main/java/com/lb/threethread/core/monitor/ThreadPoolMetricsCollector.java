@@ -0,0 +1,313 @@
+package com.lb.threethread.core.monitor;
+
+import com.lb.threethread.core.executor.ForkJoinPoolHolder;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.support.QueueContentionStats;
+import com.lb.threethread.core.executor.support.TaskResourceAccounting;
+import com.lb.threethread.core.executor.support.TaskResourceUsage;
+import com.lb.threethread.core.toolkit.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池运行时指标采集器
+ * <p>
+ * 按固定间隔采集注册中心中所有线程池（包括 ForkJoin 线程池）的运行时指标，
+ * 写入每个线程池独立的{@link ThreadPoolMetricsSeries}环形缓冲区
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 统一采集线程池运行状态，告警、看板、自动调优等消费方直接查询时间序列，不再各自轮询线程池
+ * 2. 每个线程池的采样容量固定，已注销线程池的时间序列在下次采集时清理，内存占用有上限
+ * 3. 提供按时间窗口查询最近采样、峰值和增量的便捷方法
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolMetricsCollector {
+
+    private static final int METRIC_COUNT = ThreadPoolMetricTypeEnum.values().length;
+
+    /**
+     * 采集间隔（单位：毫秒）
+     */
+    @Getter
+    private final long collectIntervalMillis;
+
+    /**
+     * 每个线程池保留的采样数
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 线程池指标时间序列，key 为线程池唯一标识
+     */
+    private final Map<String, ThreadPoolMetricsSeries> seriesMap = new ConcurrentHashMap<>();
+
+    /**
+     * 采样缓冲，仅采集线程使用，record 时复制到时间序列中
+     */
+    private final long[] sampleBuffer = new long[METRIC_COUNT];
+
+    /**
+     * 采集完成监听器，每次定时采集完成后在采集线程中回调，如告警规则评估
+     */
+    private final List<Runnable> collectListeners = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 构造一个线程池运行时指标采集器
+     *
+     * @param collectInterval 采集间隔
+     * @param unit            采集间隔时间单位
+     * @param capacity        每个线程池保留的采样数
+     */
+    public ThreadPoolMetricsCollector(long collectInterval, TimeUnit unit, int capacity) {
+        if (collectInterval <= 0) {
+            throw new IllegalArgumentException("collectInterval must be greater than 0: " + collectInterval);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0: " + capacity);
+        }
+        this.collectIntervalMillis = Math.max(unit.toMillis(collectInterval), 1L);
+        this.capacity = capacity;
+    }
+
+    /**
+     * 启动定时采集
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder()
+                        .namePrefix("onethread-metrics-collector_")
+                        .daemon(true)
+                        .build()
+        );
+        scheduler.scheduleWithFixedDelay(this::safeCollect, collectIntervalMillis, collectIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Thread pool metrics collector started, interval: {} ms, capacity: {}", collectIntervalMillis, capacity);
+    }
+
+    /**
+     * 停止定时采集，已采集的时间序列仍可查询
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * 立即采集一次所有已注册线程池的指标
+     * <p>
+     * 正常情况下由采集线程定时调用，同一时刻仅允许一个线程执行采集
+     * </p>
+     */
+    public synchronized void collect() {
+        long now = System.currentTimeMillis();
+        Set<String> alive = new HashSet<>();
+        for (ThreadPoolExecutorHolder holder : OneThreadRegistry.getAllHolders()) {
+            sample(holder, sampleBuffer);
+            seriesOf(holder.getThreadPoolId()).record(now, sampleBuffer);
+            alive.add(holder.getThreadPoolId());
+        }
+        for (ForkJoinPoolHolder holder : OneThreadRegistry.getAllForkJoinPoolHolders()) {
+            sample(holder, sampleBuffer);
+            seriesOf(holder.getThreadPoolId()).record(now, sampleBuffer);
+            alive.add(holder.getThreadPoolId());
+        }
+        seriesMap.keySet().retainAll(alive);
+    }
+
+    /**
+     * 添加采集完成监听器
+     *
+     * @param listener 监听器，在采集线程中执行，不应长时间阻塞
+     */
+    public void addCollectListener(Runnable listener) {
+        collectListeners.add(listener);
+    }
+
+    /**
+     * 获取指定线程池的指标时间序列
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 指标时间序列，尚未采集或线程池未注册时返回 null
+     */
+    public ThreadPoolMetricsSeries getSeries(String threadPoolId) {
+        return seriesMap.get(threadPoolId);
+    }
+
+    /**
+     * 获取所有线程池的指标时间序列
+     */
+    public Collection<ThreadPoolMetricsSeries> getAllSeries() {
+        return Collections.unmodifiableCollection(seriesMap.values());
+    }
+
+    /**
+     * 将时间窗口换算为采样数，至少为 1
+     *
+     * @param window 时间窗口
+     * @param unit   时间窗口单位
+     */
+    public int samplesOf(long window, TimeUnit unit) {
+        long samples = (unit.toMillis(window) + collectIntervalMillis - 1) / collectIntervalMillis;
+        return (int) Math.min(Math.max(samples, 1L), capacity);
+    }
+
+    /**
+     * 获取指定线程池指标在时间窗口内的采样值，按采样时间从旧到新排列
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param metric       指标类型
+     * @param window       时间窗口
+     * @param unit         时间窗口单位
+     * @return 采样值数组，没有采样时返回空数组
+     */
+    public long[] recent(String threadPoolId, ThreadPoolMetricTypeEnum metric, long window, TimeUnit unit) {
+        ThreadPoolMetricsSeries series = seriesMap.get(threadPoolId);
+        return series == null ? new long[0] : series.recent(metric, samplesOf(window, unit));
+    }
+
+    /**
+     * 获取指定线程池指标在时间窗口内的峰值
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param metric       指标类型
+     * @param window       时间窗口
+     * @param unit         时间窗口单位
+     * @return 峰值，没有采样时返回 0
+     */
+    public long peak(String threadPoolId, ThreadPoolMetricTypeEnum metric, long window, TimeUnit unit) {
+        ThreadPoolMetricsSeries series = seriesMap.get(threadPoolId);
+        return series == null ? 0L : series.peak(metric, samplesOf(window, unit));
+    }
+
+    /**
+     * 获取指定线程池累计值指标在时间窗口内的增量
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param metric       指标类型
+     * @param window       时间窗口
+     * @param unit         时间窗口单位
+     * @return 增量，采样不足两次时返回 0
+     */
+    public long delta(String threadPoolId, ThreadPoolMetricTypeEnum metric, long window, TimeUnit unit) {
+        ThreadPoolMetricsSeries series = seriesMap.get(threadPoolId);
+        return series == null ? 0L : series.delta(metric, samplesOf(window, unit));
+    }
+
+    private void safeCollect() {
+        try {
+            collect();
+        } catch (Throwable ex) {
+            log.error("Failed to collect thread pool metrics.", ex);
+            return;
+        }
+        for (Runnable listener : collectListeners) {
+            try {
+                listener.run();
+            } catch (Throwable ex) {
+                log.error("Failed to notify thread pool metrics collect listener.", ex);
+            }
+        }
+    }
+
+    private ThreadPoolMetricsSeries seriesOf(String threadPoolId) {
+        return seriesMap.computeIfAbsent(threadPoolId, id -> new ThreadPoolMetricsSeries(id, capacity));
+    }
+
+    private static void sample(ThreadPoolExecutorHolder holder, long[] sample) {
+        ThreadPoolExecutor executor = holder.getExecutor();
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        int queueSize = queue.size();
+        sample[ThreadPoolMetricTypeEnum.CORE_POOL_SIZE.ordinal()] = executor.getCorePoolSize();
+        sample[ThreadPoolMetricTypeEnum.MAXIMUM_POOL_SIZE.ordinal()] = executor.getMaximumPoolSize();
+        sample[ThreadPoolMetricTypeEnum.POOL_SIZE.ordinal()] = executor.getPoolSize();
+        sample[ThreadPoolMetricTypeEnum.ACTIVE_COUNT.ordinal()] = executor.getActiveCount();
+        sample[ThreadPoolMetricTypeEnum.LARGEST_POOL_SIZE.ordinal()] = executor.getLargestPoolSize();
+        sample[ThreadPoolMetricTypeEnum.QUEUE_SIZE.ordinal()] = queueSize;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_CAPACITY.ordinal()] = Math.min((long) queueSize + queue.remainingCapacity(), Integer.MAX_VALUE);
+        sample[ThreadPoolMetricTypeEnum.COMPLETED_TASK_COUNT.ordinal()] = executor.getCompletedTaskCount();
+        sample[ThreadPoolMetricTypeEnum.REJECT_COUNT.ordinal()] = holder.getRejectCount();
+        sample[ThreadPoolMetricTypeEnum.EXECUTE_TIMEOUT_COUNT.ordinal()] = holder.getExecuteTimeoutCount();
+        sample[ThreadPoolMetricTypeEnum.SLOW_TASK_COUNT.ordinal()] = holder.getSlowTaskCount();
+        long[] queueWaitPercentiles = executor instanceof OneThreadExecutor oneThreadExecutor
+                ? oneThreadExecutor.getQueueWaitHistogram().percentilesAndReset(0.5D, 0.99D)
+                : new long[2];
+        sample[ThreadPoolMetricTypeEnum.QUEUE_WAIT_P50.ordinal()] = queueWaitPercentiles[0];
+        sample[ThreadPoolMetricTypeEnum.QUEUE_WAIT_P99.ordinal()] = queueWaitPercentiles[1];
+        sample[ThreadPoolMetricTypeEnum.STEAL_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUED_SUBMISSION_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.RUNNING_THREAD_COUNT.ordinal()] = 0L;
+        sampleQueueContention(executor instanceof OneThreadExecutor oneThreadExecutor
+                ? oneThreadExecutor.getQueueContentionStats()
+                : null, sample);
+        sampleResourceUsage(holder.getResourceAccounting(), sample);
+    }
+
+    private static void sampleResourceUsage(TaskResourceAccounting accounting, long[] sample) {
+        TaskResourceUsage usage = accounting != null ? accounting.getTotal() : null;
+        sample[ThreadPoolMetricTypeEnum.TASK_CPU_TIME.ordinal()] = usage != null ? TimeUnit.NANOSECONDS.toMicros(usage.getCpuTimeNanos()) : 0L;
+        sample[ThreadPoolMetricTypeEnum.TASK_WALL_TIME.ordinal()] = usage != null ? TimeUnit.NANOSECONDS.toMicros(usage.getWallTimeNanos()) : 0L;
+        sample[ThreadPoolMetricTypeEnum.TASK_ALLOCATED_BYTES.ordinal()] = usage != null ? usage.getAllocatedBytes() : 0L;
+        sample[ThreadPoolMetricTypeEnum.ACCOUNTED_TASK_COUNT.ordinal()] = usage != null ? usage.getTaskCount() : 0L;
+    }
+
+    private static void sampleQueueContention(QueueContentionStats stats, long[] sample) {
+        boolean tracking = stats != null;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_PUT_LOCK_ACQUIRE_COUNT.ordinal()] = tracking ? stats.getPutLockAcquireCount() : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_PUT_LOCK_CONTENDED_COUNT.ordinal()] = tracking ? stats.getPutLockContendedCount() : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_TAKE_LOCK_ACQUIRE_COUNT.ordinal()] = tracking ? stats.getTakeLockAcquireCount() : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_TAKE_LOCK_CONTENDED_COUNT.ordinal()] = tracking ? stats.getTakeLockContendedCount() : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_NOT_FULL_WAIT_TIME.ordinal()] = tracking ? TimeUnit.NANOSECONDS.toMicros(stats.getNotFullWaitNanos()) : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_NOT_EMPTY_WAIT_TIME.ordinal()] = tracking ? TimeUnit.NANOSECONDS.toMicros(stats.getNotEmptyWaitNanos()) : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_NOT_FULL_SIGNAL_COUNT.ordinal()] = tracking ? stats.getNotFullSignalCount() : 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_NOT_EMPTY_SIGNAL_COUNT.ordinal()] = tracking ? stats.getNotEmptySignalCount() : 0L;
+    }
+
+    private static void sample(ForkJoinPoolHolder holder, long[] sample) {
+        int parallelism = holder.getPool().getParallelism();
+        int queuedSubmissionCount = holder.getQueuedSubmissionCount();
+        sample[ThreadPoolMetricTypeEnum.CORE_POOL_SIZE.ordinal()] = parallelism;
+        sample[ThreadPoolMetricTypeEnum.MAXIMUM_POOL_SIZE.ordinal()] = parallelism;
+        sample[ThreadPoolMetricTypeEnum.POOL_SIZE.ordinal()] = holder.getPoolSize();
+        sample[ThreadPoolMetricTypeEnum.ACTIVE_COUNT.ordinal()] = holder.getActiveThreadCount();
+        sample[ThreadPoolMetricTypeEnum.LARGEST_POOL_SIZE.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_SIZE.ordinal()] = holder.getQueuedTaskCount() + queuedSubmissionCount;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_CAPACITY.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.COMPLETED_TASK_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.REJECT_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.EXECUTE_TIMEOUT_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.SLOW_TASK_COUNT.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_WAIT_P50.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.QUEUE_WAIT_P99.ordinal()] = 0L;
+        sample[ThreadPoolMetricTypeEnum.STEAL_COUNT.ordinal()] = holder.getStealCount();
+        sample[ThreadPoolMetricTypeEnum.QUEUED_SUBMISSION_COUNT.ordinal()] = queuedSubmissionCount;
+        sample[ThreadPoolMetricTypeEnum.RUNNING_THREAD_COUNT.ordinal()] = holder.getRunningThreadCount();
+        sampleQueueContention(null, sample);
+        sampleResourceUsage(null, sample);
+    }
+}
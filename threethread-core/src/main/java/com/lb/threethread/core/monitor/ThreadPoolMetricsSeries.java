@@ -0,0 +1,177 @@
+package com.lb.threethread.core.monitor;
+
+import lombok.Getter;
+
+/**
+ * 单个线程池的运行时指标时间序列
+ * <p>
+ * 每个指标对应一个定长 long 数组环形缓冲区，所有指标共享写入下标和采样时间戳，
+ * 超出容量后覆盖最旧的采样
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 使用原始类型数组存储，采样与查询过程无装箱，内存占用固定为 (指标数 + 1) * 容量 * 8 字节
+ * 2. 提供最近窗口、峰值、增量等查询接口，供告警、看板和自动调优复用，避免各自轮询线程池
+ * </p>
+ * <p>
+ * 采样由采集线程单线程写入，查询可并发进行，读写通过对象锁互斥，采样间隔通常为秒级，锁竞争可忽略
+ * </p>
+ */
+public class ThreadPoolMetricsSeries {
+
+    /**
+     * 线程池唯一标识
+     */
+    @Getter
+    private final String threadPoolId;
+
+    /**
+     * 环形缓冲区容量，即最多保留的采样数
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 采样时间戳（单位：毫秒）
+     */
+    private final long[] timestamps;
+
+    /**
+     * 指标采样值，第一维下标为{@link ThreadPoolMetricTypeEnum#ordinal()}
+     */
+    private final long[][] values;
+
+    /**
+     * 累计写入次数，写入下标为 writeCount % capacity
+     */
+    private long writeCount;
+
+    public ThreadPoolMetricsSeries(String threadPoolId, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0: " + capacity);
+        }
+        this.threadPoolId = threadPoolId;
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.values = new long[ThreadPoolMetricTypeEnum.values().length][capacity];
+    }
+
+    /**
+     * 写入一次采样
+     *
+     * @param timestamp 采样时间戳（单位：毫秒）
+     * @param sample    各指标采样值，下标为{@link ThreadPoolMetricTypeEnum#ordinal()}，长度需与指标数一致
+     */
+    public synchronized void record(long timestamp, long[] sample) {
+        int index = (int) (writeCount % capacity);
+        timestamps[index] = timestamp;
+        for (int i = 0; i < values.length; i++) {
+            values[i][index] = sample[i];
+        }
+        writeCount++;
+    }
+
+    /**
+     * 当前保留的采样数
+     */
+    public synchronized int size() {
+        return (int) Math.min(writeCount, capacity);
+    }
+
+    /**
+     * 获取最近一次采样时间戳，没有采样时返回 0
+     */
+    public synchronized long latestTimestamp() {
+        return writeCount == 0 ? 0L : timestamps[indexOf(0)];
+    }
+
+    /**
+     * 获取指标最近一次采样值，没有采样时返回 0
+     *
+     * @param metric 指标类型
+     */
+    public synchronized long latest(ThreadPoolMetricTypeEnum metric) {
+        return writeCount == 0 ? 0L : values[metric.ordinal()][indexOf(0)];
+    }
+
+    /**
+     * 获取指标最近若干次采样值，按采样时间从旧到新排列
+     *
+     * @param metric  指标类型
+     * @param samples 采样数，超过已保留采样数时返回全部采样
+     * @return 采样值数组
+     */
+    public synchronized long[] recent(ThreadPoolMetricTypeEnum metric, int samples) {
+        return copyRecent(values[metric.ordinal()], samples);
+    }
+
+    /**
+     * 获取最近若干次采样的时间戳，按采样时间从旧到新排列，与{@link #recent(ThreadPoolMetricTypeEnum, int)}一一对应
+     *
+     * @param samples 采样数，超过已保留采样数时返回全部采样
+     * @return 采样时间戳数组
+     */
+    public synchronized long[] recentTimestamps(int samples) {
+        return copyRecent(timestamps, samples);
+    }
+
+    /**
+     * 获取指标最近若干次采样中的峰值，没有采样时返回 0
+     *
+     * @param metric  指标类型
+     * @param samples 采样数
+     */
+    public synchronized long peak(ThreadPoolMetricTypeEnum metric, int samples) {
+        int count = Math.min(Math.max(samples, 0), size());
+        if (count == 0) {
+            return 0L;
+        }
+        long[] row = values[metric.ordinal()];
+        long peak = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            peak = Math.max(peak, row[indexOf(i)]);
+        }
+        return peak;
+    }
+
+    /**
+     * 获取累计值指标在最近若干次采样间隔内的增量
+     * <p>
+     * 例如最近 6 次采样间隔内的拒绝次数，为最新采样值与 6 次采样前的采样值之差；
+     * 已保留采样不足时以最旧的采样为基准
+     * </p>
+     *
+     * @param metric    指标类型
+     * @param intervals 采样间隔数
+     */
+    public synchronized long delta(ThreadPoolMetricTypeEnum metric, int intervals) {
+        int size = size();
+        if (size < 2 || intervals <= 0) {
+            return 0L;
+        }
+        long[] row = values[metric.ordinal()];
+        return row[indexOf(0)] - row[indexOf(Math.min(intervals, size - 1))];
+    }
+
+    /**
+     * 计算从最新采样往前第 offset 个采样的数组下标，offset 为 0 表示最新采样
+     */
+    private int indexOf(int offset) {
+        return (int) ((writeCount - 1 - offset) % capacity);
+    }
+
+    private long[] copyRecent(long[] row, int samples) {
+        int count = Math.min(Math.max(samples, 0), size());
+        if (count == 0) {
+            return new long[0];
+        }
+        long[] result = new long[count];
+        int start = indexOf(count - 1);
+        int firstPart = Math.min(count, capacity - start);
+        System.arraycopy(row, start, result, 0, firstPart);
+        if (firstPart < count) {
+            System.arraycopy(row, 0, result, firstPart, count - firstPart);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 配置刷新事件
+ * <p>
+ * 事件起止时间覆盖配置解析、校验、应用的全过程，可与同一时间段的 GC、安全点事件对照
+ * </p>
+ */
+@Name("com.lb.threethread.ConfigRefresh")
+@Label("Config Refresh")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Config"})
+@Description("Dynamic thread pool config pushed by a config center was refreshed")
+@StackTrace(false)
+@Setter
+public class ConfigRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    private String source;
+
+    @Label("Outcome")
+    @Description("UNCHANGED, SUCCESS, REJECTED or ROLLED_BACK")
+    private String outcome;
+
+    @Label("Changed Pool Count")
+    private int changedPoolCount;
+}
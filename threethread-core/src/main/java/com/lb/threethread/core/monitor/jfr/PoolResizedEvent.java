@@ -0,0 +1,36 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 线程池线程数调整事件
+ * <p>
+ * 核心线程数或最大线程数每次实际变化时记录，配置刷新、渐进调整等来源可通过堆栈区分
+ * </p>
+ */
+@Name("com.lb.threethread.PoolResized")
+@Label("Pool Resized")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Pool"})
+@Description("Core or maximum pool size of a dynamic thread pool changed")
+@Setter
+public class PoolResizedEvent extends jdk.jfr.Event {
+
+    @Label("Thread Pool Id")
+    private String threadPoolId;
+
+    @Label("Previous Core Pool Size")
+    private int previousCorePoolSize;
+
+    @Label("Core Pool Size")
+    private int corePoolSize;
+
+    @Label("Previous Maximum Pool Size")
+    private int previousMaximumPoolSize;
+
+    @Label("Maximum Pool Size")
+    private int maximumPoolSize;
+}
@@ -0,0 +1,30 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 工作队列容量变更事件
+ * <p>
+ * 由可调整容量队列在容量实际变化时记录，队列不感知所属线程池，通过堆栈和线程关联到配置刷新或渐进调整
+ * </p>
+ */
+@Name("com.lb.threethread.QueueCapacityChanged")
+@Label("Queue Capacity Changed")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Pool"})
+@Description("Capacity of a resizable work queue changed")
+@Setter
+public class QueueCapacityChangedEvent extends jdk.jfr.Event {
+
+    @Label("Previous Capacity")
+    private int previousCapacity;
+
+    @Label("Capacity")
+    private int capacity;
+
+    @Label("Queue Size")
+    private int queueSize;
+}
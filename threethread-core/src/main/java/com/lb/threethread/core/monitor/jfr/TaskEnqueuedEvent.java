@@ -0,0 +1,38 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 任务入队事件
+ * <p>
+ * 每个任务都会产生，默认关闭，需要在 JFR 配置中显式开启并建议配合采样间隔使用
+ * </p>
+ */
+@Name("com.lb.threethread.TaskEnqueued")
+@Label("Task Enqueued")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Task"})
+@Description("A task was submitted to a dynamic thread pool")
+@Enabled(false)
+@StackTrace(false)
+@Setter
+public class TaskEnqueuedEvent extends jdk.jfr.Event {
+
+    @Label("Thread Pool Id")
+    private String threadPoolId;
+
+    @Label("Pool Size")
+    private int poolSize;
+
+    @Label("Queue Size")
+    @Description("Work queue size after the task was submitted")
+    private int queueSize;
+
+    @Label("Sample Interval")
+    private int sampleInterval;
+}
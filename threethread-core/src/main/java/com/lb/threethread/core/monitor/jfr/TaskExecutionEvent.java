@@ -0,0 +1,42 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 任务执行事件
+ * <p>
+ * 事件起止时间即任务开始执行和执行结束的时间，默认只记录执行耗时超过阈值的任务，
+ * 线程池开启排队耗时统计时同时记录任务从入队到开始执行的等待耗时
+ * </p>
+ */
+@Name("com.lb.threethread.TaskExecution")
+@Label("Task Execution")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Task"})
+@Description("A task was executed by a dynamic thread pool worker")
+@Threshold("10 ms")
+@StackTrace(false)
+@Setter
+public class TaskExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Thread Pool Id")
+    private String threadPoolId;
+
+    @Label("Queue Wait Time")
+    @Description("Time from submission to start, -1 when queue wait tracking is disabled")
+    @Timespan
+    private long queueWaitTime = -1L;
+
+    @Label("Failed")
+    @Description("Whether the task threw an exception")
+    private boolean failed;
+
+    @Label("Sample Interval")
+    private int sampleInterval;
+}
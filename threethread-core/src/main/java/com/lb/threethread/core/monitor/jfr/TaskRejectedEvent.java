@@ -0,0 +1,39 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 任务拒绝事件
+ * <p>
+ * 记录拒绝发生时线程池的线程数和队列长度，堆栈指向提交任务的业务代码
+ * </p>
+ */
+@Name("com.lb.threethread.TaskRejected")
+@Label("Task Rejected")
+@Category({ThreadPoolJfrEvents.CATEGORY, "Task"})
+@Description("A task was rejected by a dynamic thread pool")
+@Setter
+public class TaskRejectedEvent extends jdk.jfr.Event {
+
+    @Label("Thread Pool Id")
+    private String threadPoolId;
+
+    @Label("Rejected Policy")
+    private String rejectedPolicy;
+
+    @Label("Pool Size")
+    private int poolSize;
+
+    @Label("Active Count")
+    private int activeCount;
+
+    @Label("Queue Size")
+    private int queueSize;
+
+    @Label("Sample Interval")
+    private int sampleInterval;
+}
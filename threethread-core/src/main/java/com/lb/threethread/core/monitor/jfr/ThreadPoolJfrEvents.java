@@ -0,0 +1,56 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 动态线程池 JFR 事件支持
+ * <p>
+ * 统一维护事件分类和任务级事件的采样间隔，任务入队、执行、拒绝事件按采样间隔随机抽样记录，
+ * 线程池调整、队列容量变更、配置刷新等低频事件不采样
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 事件未在 JFR 配置中开启时，任务热路径只有一次事件对象创建和开启判断，JIT 可消除对象分配
+ * 2. 任务执行事件默认带耗时阈值，只记录慢任务；采样进一步降低高吞吐线程池的事件量，百万级任务每秒也可常开
+ * 3. 采样事件携带采样间隔，分析时可按间隔还原总量
+ * </p>
+ */
+public final class ThreadPoolJfrEvents {
+
+    /**
+     * 事件分类
+     */
+    static final String CATEGORY = "ThreeThread";
+
+    /**
+     * 任务级事件采样间隔，每 N 个任务记录 1 个，1 表示全部记录
+     */
+    private static volatile int taskSampleInterval = 1;
+
+    private ThreadPoolJfrEvents() {
+    }
+
+    /**
+     * 设置任务级事件采样间隔
+     *
+     * @param interval 采样间隔，每 N 个任务记录 1 个，小于等于 1 表示全部记录
+     */
+    public static void setTaskSampleInterval(int interval) {
+        taskSampleInterval = Math.max(interval, 1);
+    }
+
+    /**
+     * 获取任务级事件采样间隔
+     */
+    public static int getTaskSampleInterval() {
+        return taskSampleInterval;
+    }
+
+    /**
+     * 判断当前任务是否被采样
+     */
+    public static boolean sampleTask() {
+        int interval = taskSampleInterval;
+        return interval <= 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+    }
+}
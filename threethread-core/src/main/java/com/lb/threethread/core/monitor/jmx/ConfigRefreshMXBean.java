@@ -0,0 +1,40 @@
+package com.lb.threethread.core.monitor.jmx;
+
+/**
+ * 配置刷新 JMX 监控接口
+ * <p>
+ * 对象名为 {@code com.lb.threethread:type=ConfigRefresh}，用于观察配置中心推送的合并、应用情况和推送到生效的耗时
+ * </p>
+ */
+public interface ConfigRefreshMXBean {
+
+    /**
+     * 获取收到的配置推送次数
+     */
+    long getReceivedCount();
+
+    /**
+     * 获取应用完成的刷新次数
+     */
+    long getAppliedCount();
+
+    /**
+     * 获取被后续推送覆盖而合并的推送次数
+     */
+    long getCoalescedCount();
+
+    /**
+     * 获取刷新逻辑抛出异常的次数
+     */
+    long getFailedCount();
+
+    /**
+     * 获取最近一次成功刷新从推送到应用完成的耗时（单位：毫秒）
+     */
+    long getLastRefreshLatencyMillis();
+
+    /**
+     * 获取成功刷新从推送到应用完成的最大耗时（单位：毫秒）
+     */
+    long getMaxRefreshLatencyMillis();
+}
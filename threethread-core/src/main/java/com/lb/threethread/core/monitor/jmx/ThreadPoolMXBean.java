@@ -0,0 +1,92 @@
+package com.lb.threethread.core.monitor.jmx;
+
+/**
+ * 动态线程池 JMX 管理接口
+ * <p>
+ * 每个注册到 {@link com.lb.threethread.core.executor.OneThreadRegistry} 的线程池对应一个 MBean，
+ * 配置中心不可用时可通过 jconsole、jcmd 等工具在本地查看运行状态并调整参数
+ * </p>
+ * <p>
+ * 调整操作与配置中心刷新走同一套配置应用流程，先校验后应用，结果以文本形式返回
+ * </p>
+ */
+public interface ThreadPoolMXBean {
+
+    String getThreadPoolId();
+
+    String getWorkQueueType();
+
+    String getRejectedHandler();
+
+    int getCorePoolSize();
+
+    int getMaximumPoolSize();
+
+    /**
+     * 获取线程空闲存活时间（单位：秒）
+     */
+    long getKeepAliveTime();
+
+    int getPoolSize();
+
+    int getActiveCount();
+
+    int getLargestPoolSize();
+
+    int getQueueSize();
+
+    int getQueueCapacity();
+
+    int getQueueRemainingCapacity();
+
+    long getCompletedTaskCount();
+
+    long getRejectCount();
+
+    long getExecuteTimeoutCount();
+
+    /**
+     * 获取最近一个采集间隔的任务排队等待耗时 P50（单位：微秒），未开启排队耗时统计时为 0
+     */
+    long getQueueWaitP50Micros();
+
+    /**
+     * 获取最近一个采集间隔的任务排队等待耗时 P99（单位：微秒），未开启排队耗时统计时为 0
+     */
+    long getQueueWaitP99Micros();
+
+    /**
+     * 调整核心线程数
+     *
+     * @return 应用结果
+     */
+    String updateCorePoolSize(int corePoolSize);
+
+    /**
+     * 调整最大线程数
+     *
+     * @return 应用结果
+     */
+    String updateMaximumPoolSize(int maximumPoolSize);
+
+    /**
+     * 同时调整核心线程数和最大线程数，避免分两次调整时出现核心线程数大于最大线程数的中间状态
+     *
+     * @return 应用结果
+     */
+    String updatePoolSize(int corePoolSize, int maximumPoolSize);
+
+    /**
+     * 调整队列容量，仅 ResizableCapacityLinkedBlockingQueue 工作队列生效
+     *
+     * @return 应用结果
+     */
+    String updateQueueCapacity(int queueCapacity);
+
+    /**
+     * 调整线程空闲存活时间（单位：秒）
+     *
+     * @return 应用结果
+     */
+    String updateKeepAliveTime(long keepAliveTime);
+}
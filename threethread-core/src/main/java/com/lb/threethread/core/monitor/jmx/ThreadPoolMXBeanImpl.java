@@ -0,0 +1,191 @@
+package com.lb.threethread.core.monitor.jmx;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.config.ThreadPoolConfigUpdateHandler;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 动态线程池 JMX 管理接口实现
+ * <p>
+ * 每次访问都从注册中心取最新的线程池持有者，线程池或配置属性被替换后无需重新注册 MBean
+ * </p>
+ */
+@Slf4j
+final class ThreadPoolMXBeanImpl implements ThreadPoolMXBean {
+
+    private final String threadPoolId;
+    private final ThreadPoolMetricsCollector metricsCollector;
+    private final ThreadPoolConfigUpdateHandler updateHandler;
+
+    ThreadPoolMXBeanImpl(String threadPoolId, ThreadPoolMetricsCollector metricsCollector, ThreadPoolConfigUpdateHandler updateHandler) {
+        this.threadPoolId = threadPoolId;
+        this.metricsCollector = metricsCollector;
+        this.updateHandler = updateHandler;
+    }
+
+    @Override
+    public String getThreadPoolId() {
+        return threadPoolId;
+    }
+
+    @Override
+    public String getWorkQueueType() {
+        return workQueue().getClass().getSimpleName();
+    }
+
+    @Override
+    public String getRejectedHandler() {
+        return executor().getRejectedExecutionHandler().getClass().getSimpleName();
+    }
+
+    @Override
+    public int getCorePoolSize() {
+        return executor().getCorePoolSize();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return executor().getMaximumPoolSize();
+    }
+
+    @Override
+    public long getKeepAliveTime() {
+        return executor().getKeepAliveTime(TimeUnit.SECONDS);
+    }
+
+    @Override
+    public int getPoolSize() {
+        return executor().getPoolSize();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return executor().getActiveCount();
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        return executor().getLargestPoolSize();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return workQueue().size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        BlockingQueue<Runnable> queue = workQueue();
+        return (int) Math.min((long) queue.size() + queue.remainingCapacity(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int getQueueRemainingCapacity() {
+        return workQueue().remainingCapacity();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return executor().getCompletedTaskCount();
+    }
+
+    @Override
+    public long getRejectCount() {
+        return holder().getRejectCount();
+    }
+
+    @Override
+    public long getExecuteTimeoutCount() {
+        return holder().getExecuteTimeoutCount();
+    }
+
+    @Override
+    public long getQueueWaitP50Micros() {
+        return latest(ThreadPoolMetricTypeEnum.QUEUE_WAIT_P50);
+    }
+
+    @Override
+    public long getQueueWaitP99Micros() {
+        return latest(ThreadPoolMetricTypeEnum.QUEUE_WAIT_P99);
+    }
+
+    @Override
+    public String updateCorePoolSize(int corePoolSize) {
+        return update(properties -> properties.setCorePoolSize(corePoolSize));
+    }
+
+    @Override
+    public String updateMaximumPoolSize(int maximumPoolSize) {
+        return update(properties -> properties.setMaximumPoolSize(maximumPoolSize));
+    }
+
+    @Override
+    public String updatePoolSize(int corePoolSize, int maximumPoolSize) {
+        return update(properties -> properties.setCorePoolSize(corePoolSize).setMaximumPoolSize(maximumPoolSize));
+    }
+
+    @Override
+    public String updateQueueCapacity(int queueCapacity) {
+        return update(properties -> properties.setQueueCapacity(queueCapacity));
+    }
+
+    @Override
+    public String updateKeepAliveTime(long keepAliveTime) {
+        return update(properties -> properties.setKeepAliveTime(keepAliveTime));
+    }
+
+    /**
+     * 以当前生效配置为基础修改指定参数，交由配置更新处理器校验、应用并通知，成功后持有者中的配置属性同步更新
+     */
+    private String update(Consumer<ThreadPoolExecutorProperties> modifier) {
+        ThreadPoolExecutorProperties remoteProperties = BeanUtil.copyProperties(holder().getExecutorProperties(), ThreadPoolExecutorProperties.class);
+        remoteProperties.setThreadPoolId(threadPoolId);
+        modifier.accept(remoteProperties);
+        ThreadPoolConfigApplier.ApplyResult result = updateHandler.update(List.of(remoteProperties));
+        if (result.isSuccess()) {
+            log.info("[{}] Dynamic thread pool updated via JMX: {}", threadPoolId, result.getSummary());
+        } else {
+            log.warn("[{}] Dynamic thread pool update via JMX failed: {}", threadPoolId, result.getSummary());
+        }
+        return result.getSummary();
+    }
+
+    private long latest(ThreadPoolMetricTypeEnum metric) {
+        ThreadPoolMetricsSeries series = metricsCollector.getSeries(threadPoolId);
+        return series == null || series.size() == 0 ? 0L : series.latest(metric);
+    }
+
+    private ThreadPoolExecutorHolder holder() {
+        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+        if (holder == null) {
+            throw new IllegalStateException("Thread pool is not registered: " + threadPoolId);
+        }
+        return holder;
+    }
+
+    private ThreadPoolExecutor executor() {
+        return holder().getExecutor();
+    }
+
+    private BlockingQueue<Runnable> workQueue() {
+        ThreadPoolExecutor executor = executor();
+        return executor instanceof OneThreadExecutor oneThreadExecutor
+                ? oneThreadExecutor.getWorkQueueDelegate()
+                : SwappableBlockingQueue.unwrap(executor.getQueue());
+    }
+}
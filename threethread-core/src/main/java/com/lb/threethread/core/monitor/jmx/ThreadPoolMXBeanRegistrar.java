@@ -0,0 +1,179 @@
+package com.lb.threethread.core.monitor.jmx;
+
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
+import com.lb.threethread.core.config.ThreadPoolConfigUpdateHandler;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolRegistryListener;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 动态线程池 MBean 注册器
+ * <p>
+ * 为注册中心中的每个线程池注册一个 {@link ThreadPoolMXBean}，对象名为
+ * {@code com.lb.threethread:type=ThreadPool,name=线程池唯一标识}；配置了刷新执行器时额外注册
+ * {@link ConfigRefreshMXBean}，对象名为 {@code com.lb.threethread:type=ConfigRefresh}
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 作为 {@link ThreadPoolRegistryListener} 跟随注册中心注册和注销 MBean，线程池注册后立即可见，不依赖指标采集
+ * 2. 排队耗时分位值直接读取指标采集器的最新采样，不会与采集器争抢直方图
+ * 3. 调整操作交由 {@link ThreadPoolConfigUpdateHandler} 处理，与配置中心刷新共用校验、变更日志和通知流程
+ * 4. 关闭时注销全部 MBean，同一 MBeanServer 中重复启动不会因对象名冲突失败
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolMXBeanRegistrar implements ThreadPoolRegistryListener {
+
+    static final String DOMAIN = "com.lb.threethread";
+
+    private final MBeanServer mBeanServer;
+    private final ThreadPoolMetricsCollector metricsCollector;
+    private final ThreadPoolConfigUpdateHandler updateHandler;
+    private final ConfigRefreshExecutor configRefreshExecutor;
+
+    /**
+     * 已注册的 MBean，key 为线程池唯一标识
+     */
+    private final Map<String, ObjectName> registeredNames = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    /**
+     * 构造动态线程池 MBean 注册器
+     *
+     * @param mBeanServer           MBean 服务器
+     * @param metricsCollector      指标采集器
+     * @param updateHandler         配置更新处理器
+     * @param configRefreshExecutor 配置刷新执行器，为空时不注册配置刷新 MBean
+     */
+    public ThreadPoolMXBeanRegistrar(MBeanServer mBeanServer,
+                                     ThreadPoolMetricsCollector metricsCollector,
+                                     ThreadPoolConfigUpdateHandler updateHandler,
+                                     ConfigRefreshExecutor configRefreshExecutor) {
+        this.mBeanServer = mBeanServer;
+        this.metricsCollector = metricsCollector;
+        this.updateHandler = updateHandler;
+        this.configRefreshExecutor = configRefreshExecutor;
+    }
+
+    /**
+     * 注册已有线程池并监听注册中心变化
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        registerConfigRefresh();
+        OneThreadRegistry.addListener(this);
+    }
+
+    @Override
+    public synchronized void onRegistered(ThreadPoolExecutorHolder holder) {
+        if (running && !registeredNames.containsKey(holder.getThreadPoolId())) {
+            register(holder.getThreadPoolId());
+        }
+    }
+
+    @Override
+    public synchronized void onRemoved(ThreadPoolExecutorHolder holder) {
+        // 同 ID 线程池已重新注册时保留 MBean，MBean 每次访问都读取最新的线程池持有者
+        if (OneThreadRegistry.getHolder(holder.getThreadPoolId()) == null) {
+            unregister(holder.getThreadPoolId());
+        }
+    }
+
+    /**
+     * 停止监听注册中心并注销全部 MBean
+     */
+    public synchronized void shutdown() {
+        running = false;
+        OneThreadRegistry.removeListener(this);
+        for (String threadPoolId : new HashSet<>(registeredNames.keySet())) {
+            unregister(threadPoolId);
+        }
+        unregisterConfigRefresh();
+    }
+
+    /**
+     * 获取线程池对应的 MBean 对象名
+     *
+     * @param threadPoolId 线程池唯一标识
+     */
+    public static ObjectName objectName(String threadPoolId) throws JMException {
+        return new ObjectName(DOMAIN + ":type=ThreadPool,name=" + ObjectName.quote(threadPoolId));
+    }
+
+    /**
+     * 获取配置刷新 MBean 对象名
+     */
+    public static ObjectName configRefreshObjectName() throws JMException {
+        return new ObjectName(DOMAIN + ":type=ConfigRefresh");
+    }
+
+    private void registerConfigRefresh() {
+        if (configRefreshExecutor == null) {
+            return;
+        }
+        try {
+            ObjectName name = configRefreshObjectName();
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(configRefreshExecutor, name);
+        } catch (JMException ex) {
+            log.warn("Failed to register dynamic thread pool config refresh MBean.", ex);
+        }
+    }
+
+    private void unregisterConfigRefresh() {
+        if (configRefreshExecutor == null) {
+            return;
+        }
+        try {
+            ObjectName name = configRefreshObjectName();
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            log.warn("Failed to unregister dynamic thread pool config refresh MBean.", ex);
+        }
+    }
+
+    private void register(String threadPoolId) {
+        try {
+            ObjectName name = objectName(threadPoolId);
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(new ThreadPoolMXBeanImpl(threadPoolId, metricsCollector, updateHandler), name);
+            registeredNames.put(threadPoolId, name);
+            log.info("[{}] Dynamic thread pool MBean registered: {}", threadPoolId, name);
+        } catch (JMException ex) {
+            log.warn("[{}] Failed to register dynamic thread pool MBean.", threadPoolId, ex);
+        }
+    }
+
+    private void unregister(String threadPoolId) {
+        ObjectName name = registeredNames.remove(threadPoolId);
+        if (name == null) {
+            return;
+        }
+        try {
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            log.warn("[{}] Failed to unregister dynamic thread pool MBean.", threadPoolId, ex);
+        }
+    }
+}
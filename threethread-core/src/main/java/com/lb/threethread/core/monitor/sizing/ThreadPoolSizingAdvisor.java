@@ -0,0 +1,270 @@
+package com.lb.threethread.core.monitor.sizing;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池容量建议器
+ * <p>
+ * 根据指标采集器在观测窗口内的实测数据，为开启资源消耗统计的动态线程池计算核心线程数、最大线程数和队列容量建议值
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 任务到达率取窗口内完成、拒绝与队列积压任务数之和，单个任务的 CPU 时间与执行耗时取资源消耗统计的窗口增量，全部为实测值
+ * 2. 按 Little 定律计算并发任务数，按 M/M/c 排队模型（Erlang C）取平均排队耗时不超过目标值的最小线程数：
+ * 核心线程数按平均到达率计算，最大线程数按峰值到达率计算
+ * 3. 线程数不超过 处理器数 × 目标 CPU 利用率 × (1 + 阻塞系数)，超过后增加线程只会争抢 CPU，不能提高吞吐
+ * 4. 队列容量按最大线程数在最大可接受排队耗时内能够消化的任务数计算，队列更长时排队耗时超出可接受范围，应尽早拒绝
+ * 5. 只给出建议不修改线程池，dry-run 时返回应用建议后的完整配置和与当前配置的差异，由使用者决定是否提交
+ * </p>
+ * <p>
+ * 处理器数取 {@link Runtime#availableProcessors()}，容器环境下 JVM 已按 cgroup CPU 配额折算；
+ * 计算时假定线程池独占可用处理器，同一进程内多个线程池都是 CPU 密集型时需要按比例下调。
+ * 排队模型假定到达和执行耗时近似指数分布，突发明显的线程池应配合渐进调整观察效果
+ * </p>
+ */
+public class ThreadPoolSizingAdvisor {
+
+    /**
+     * 建议线程数上限，避免到达率异常时给出不合理的线程数
+     */
+    private static final int MAX_RECOMMENDED_THREADS = 4096;
+
+    /**
+     * 单个任务执行耗时下限（单位：毫秒），避免执行耗时过短时队列容量建议值溢出
+     */
+    private static final double MIN_WALL_TIME_MILLIS = 0.001D;
+
+    private final ThreadPoolMetricsCollector collector;
+
+    /**
+     * 观测窗口对应的采样间隔数
+     */
+    private final int windowIntervals;
+
+    /**
+     * 目标 CPU 利用率
+     */
+    private final double targetCpuUtilization;
+
+    /**
+     * 目标平均排队耗时（单位：毫秒）
+     */
+    private final long targetQueueWaitMillis;
+
+    /**
+     * 最大可接受排队耗时（单位：毫秒）
+     */
+    private final long maxQueueWaitMillis;
+
+    /**
+     * @param collector             运行时指标采集器
+     * @param window                观测窗口
+     * @param unit                  观测窗口时间单位
+     * @param targetCpuUtilization  目标 CPU 利用率，取值 (0, 1]
+     * @param targetQueueWaitMillis 目标平均排队耗时（单位：毫秒）
+     * @param maxQueueWaitMillis    最大可接受排队耗时（单位：毫秒）
+     */
+    public ThreadPoolSizingAdvisor(ThreadPoolMetricsCollector collector, long window, TimeUnit unit,
+                                   double targetCpuUtilization, long targetQueueWaitMillis, long maxQueueWaitMillis) {
+        if (targetCpuUtilization <= 0D || targetCpuUtilization > 1D) {
+            throw new IllegalArgumentException("targetCpuUtilization must be in (0, 1]: " + targetCpuUtilization);
+        }
+        this.collector = collector;
+        this.windowIntervals = Math.max(1, collector.samplesOf(window, unit));
+        this.targetCpuUtilization = targetCpuUtilization;
+        this.targetQueueWaitMillis = Math.max(0L, targetQueueWaitMillis);
+        this.maxQueueWaitMillis = Math.max(1L, maxQueueWaitMillis);
+    }
+
+    /**
+     * 计算全部已注册动态线程池的容量建议
+     *
+     * @param dryRun 是否返回应用建议后的配置及与当前配置的差异
+     * @return 容量建议，按线程池标识排序
+     */
+    public List<ThreadPoolSizingRecommendation> recommendAll(boolean dryRun) {
+        List<ThreadPoolSizingRecommendation> recommendations = new ArrayList<>();
+        OneThreadRegistry.getAllHolders().forEach(each -> recommendations.add(recommend(each, dryRun)));
+        recommendations.sort(Comparator.comparing(ThreadPoolSizingRecommendation::getThreadPoolId));
+        return recommendations;
+    }
+
+    /**
+     * 计算单个动态线程池的容量建议
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param dryRun       是否返回应用建议后的配置及与当前配置的差异
+     * @return 容量建议，线程池不存在时返回 null
+     */
+    public ThreadPoolSizingRecommendation recommend(String threadPoolId, boolean dryRun) {
+        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+        return holder == null ? null : recommend(holder, dryRun);
+    }
+
+    private ThreadPoolSizingRecommendation recommend(ThreadPoolExecutorHolder holder, boolean dryRun) {
+        ThreadPoolSizingRecommendation recommendation = recommend(holder.getThreadPoolId(), collector.getSeries(holder.getThreadPoolId()));
+        if (dryRun && recommendation.isAvailable()) {
+            dryRun(recommendation, holder.getExecutorProperties());
+        }
+        return recommendation;
+    }
+
+    /**
+     * 根据指标时间序列计算容量建议
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param series       指标时间序列，可为空
+     * @return 容量建议
+     */
+    public ThreadPoolSizingRecommendation recommend(String threadPoolId, ThreadPoolMetricsSeries series) {
+        int intervals = series == null ? 0 : Math.min(windowIntervals, series.size() - 1);
+        if (intervals <= 0) {
+            return unavailable(threadPoolId, "not enough samples collected yet");
+        }
+        long[] timestamps = series.recentTimestamps(intervals + 1);
+        long elapsedMillis = timestamps[intervals] - timestamps[0];
+        long accountedTasks = series.delta(ThreadPoolMetricTypeEnum.ACCOUNTED_TASK_COUNT, intervals);
+        if (elapsedMillis <= 0L) {
+            return unavailable(threadPoolId, "not enough samples collected yet");
+        }
+        if (accountedTasks <= 0L) {
+            return unavailable(threadPoolId, "no accounted tasks in window, resource accounting must be enabled");
+        }
+
+        long[] completed = series.recent(ThreadPoolMetricTypeEnum.COMPLETED_TASK_COUNT, intervals + 1);
+        long[] rejected = series.recent(ThreadPoolMetricTypeEnum.REJECT_COUNT, intervals + 1);
+        long[] queued = series.recent(ThreadPoolMetricTypeEnum.QUEUE_SIZE, intervals + 1);
+        double arrivalRate = arrivals(completed, rejected, queued, 0, intervals) * 1000D / elapsedMillis;
+        double peakArrivalRate = arrivalRate;
+        for (int i = 1; i <= intervals; i++) {
+            long intervalMillis = timestamps[i] - timestamps[i - 1];
+            if (intervalMillis > 0L) {
+                peakArrivalRate = Math.max(peakArrivalRate, arrivals(completed, rejected, queued, i - 1, i) * 1000D / intervalMillis);
+            }
+        }
+
+        // 资源消耗指标单位为微秒
+        double wallTimeMillis = series.delta(ThreadPoolMetricTypeEnum.TASK_WALL_TIME, intervals) / 1000D / accountedTasks;
+        double cpuTimeMillis = series.delta(ThreadPoolMetricTypeEnum.TASK_CPU_TIME, intervals) / 1000D / accountedTasks;
+        double serviceMillis = Math.max(wallTimeMillis, MIN_WALL_TIME_MILLIS);
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        // 线程数超过 CPU 上限后增加线程只会争抢 CPU
+        int cpuBoundThreads = cpuTimeMillis > 0D
+                ? (int) Math.min(MAX_RECOMMENDED_THREADS, Math.max(1D, Math.ceil(processors * targetCpuUtilization * serviceMillis / cpuTimeMillis)))
+                : MAX_RECOMMENDED_THREADS;
+        double offeredLoad = arrivalRate * serviceMillis / 1000D;
+        double peakOfferedLoad = peakArrivalRate * serviceMillis / 1000D;
+        int corePoolSize = erlangThreads(offeredLoad, serviceMillis, cpuBoundThreads);
+        int maximumPoolSize = Math.max(corePoolSize, erlangThreads(peakOfferedLoad, serviceMillis, cpuBoundThreads));
+        long queueCapacity = (long) Math.ceil(maxQueueWaitMillis * maximumPoolSize / serviceMillis);
+
+        return ThreadPoolSizingRecommendation.builder()
+                .threadPoolId(threadPoolId)
+                .available(true)
+                .windowSeconds(elapsedMillis / 1000D)
+                .arrivalRate(arrivalRate)
+                .peakArrivalRate(peakArrivalRate)
+                .avgWallTimeMillis(wallTimeMillis)
+                .avgCpuTimeMillis(cpuTimeMillis)
+                .blockingCoefficient(cpuTimeMillis > 0D ? Math.max(0D, wallTimeMillis - cpuTimeMillis) / cpuTimeMillis : null)
+                .availableProcessors(processors)
+                .cpuUtilization(arrivalRate * cpuTimeMillis / 1000D / processors)
+                .cpuSaturated(peakArrivalRate * cpuTimeMillis / 1000D > processors * targetCpuUtilization)
+                .offeredLoad(offeredLoad)
+                .corePoolSize(corePoolSize)
+                .maximumPoolSize(maximumPoolSize)
+                .queueCapacity((int) Math.min(Integer.MAX_VALUE, Math.max(1L, queueCapacity)))
+                .build();
+    }
+
+    /**
+     * 按 M/M/c 排队模型计算平均排队耗时不超过目标值的最小线程数
+     * <p>
+     * Erlang B 按递推公式逐个线程数计算，再换算为 Erlang C 即任务需要排队的概率，
+     * 平均排队耗时 = Erlang C × 执行耗时 / (线程数 - 并发任务数)
+     * </p>
+     *
+     * @param offeredLoad   并发任务数
+     * @param serviceMillis 单个任务执行耗时（单位：毫秒）
+     * @param limit         线程数上限
+     * @return 建议线程数，达到上限仍无法满足目标时返回上限
+     */
+    private int erlangThreads(double offeredLoad, double serviceMillis, int limit) {
+        if (offeredLoad <= 0D) {
+            return 1;
+        }
+        double erlangB = 1D;
+        for (int threads = 1; threads < limit; threads++) {
+            erlangB = offeredLoad * erlangB / (threads + offeredLoad * erlangB);
+            if (threads <= offeredLoad) {
+                continue;
+            }
+            double erlangC = threads * erlangB / (threads - offeredLoad * (1D - erlangB));
+            if (erlangC * serviceMillis / (threads - offeredLoad) <= targetQueueWaitMillis) {
+                return threads;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 计算采样区间内到达的任务数，计数器因线程池重新注册回退时按 0 处理
+     */
+    private static long arrivals(long[] completed, long[] rejected, long[] queued, int from, int to) {
+        long arrivals = Math.max(0L, completed[to] - completed[from])
+                + Math.max(0L, rejected[to] - rejected[from])
+                + queued[to] - queued[from];
+        return Math.max(0L, arrivals);
+    }
+
+    /**
+     * 生成应用建议后的线程池配置及与当前配置的差异，不修改当前配置；当前配置未设置队列容量时不建议队列容量
+     *
+     * @param recommendation 容量建议，结果写入其 proposedProperties 与 changes
+     * @param current        线程池当前配置
+     */
+    public static void dryRun(ThreadPoolSizingRecommendation recommendation, ThreadPoolExecutorProperties current) {
+        ThreadPoolExecutorProperties proposed = BeanUtil.copyProperties(current, ThreadPoolExecutorProperties.class);
+        Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes = new LinkedHashMap<>();
+        proposed.setCorePoolSize(recommendation.getCorePoolSize());
+        proposed.setMaximumPoolSize(recommendation.getMaximumPoolSize());
+        putIfChanged(changes, "corePoolSize", current.getCorePoolSize(), proposed.getCorePoolSize());
+        putIfChanged(changes, "maximumPoolSize", current.getMaximumPoolSize(), proposed.getMaximumPoolSize());
+        if (current.getQueueCapacity() != null) {
+            proposed.setQueueCapacity(recommendation.getQueueCapacity());
+            putIfChanged(changes, "queueCapacity", current.getQueueCapacity(), proposed.getQueueCapacity());
+        }
+        recommendation.setProposedProperties(proposed);
+        recommendation.setChanges(changes);
+    }
+
+    private static void putIfChanged(Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes, String name,
+                                     Integer before, Integer after) {
+        if (!Objects.equals(before, after)) {
+            changes.put(name, new ThreadPoolConfigChangeDTO.ChangePair<>(before, after));
+        }
+    }
+
+    private static ThreadPoolSizingRecommendation unavailable(String threadPoolId, String reason) {
+        return ThreadPoolSizingRecommendation.builder()
+                .threadPoolId(threadPoolId)
+                .reason(reason)
+                .build();
+    }
+}
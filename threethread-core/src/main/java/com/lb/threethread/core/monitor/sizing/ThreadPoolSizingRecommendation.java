@@ -0,0 +1,113 @@
+package com.lb.threethread.core.monitor.sizing;
+
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 线程池容量建议
+ * <p>
+ * 由 {@link ThreadPoolSizingAdvisor} 根据观测窗口内的实测负载计算，数据不足时只包含线程池标识与原因
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadPoolSizingRecommendation {
+
+    /**
+     * 线程池唯一标识
+     */
+    private String threadPoolId;
+
+    /**
+     * 是否有足够的观测数据给出建议
+     */
+    private boolean available;
+
+    /**
+     * 无法给出建议的原因
+     */
+    private String reason;
+
+    /**
+     * 观测窗口时长（单位：秒）
+     */
+    private double windowSeconds;
+
+    /**
+     * 平均任务到达率（单位：个/秒），包含完成、拒绝和队列积压的任务
+     */
+    private double arrivalRate;
+
+    /**
+     * 观测窗口内单个采集间隔的峰值任务到达率（单位：个/秒）
+     */
+    private double peakArrivalRate;
+
+    /**
+     * 单个任务平均执行耗时（单位：毫秒）
+     */
+    private double avgWallTimeMillis;
+
+    /**
+     * 单个任务平均 CPU 时间（单位：毫秒）
+     */
+    private double avgCpuTimeMillis;
+
+    /**
+     * 阻塞系数，即任务等待时间与 CPU 时间之比，任务 CPU 时间为 0 时为空
+     */
+    private Double blockingCoefficient;
+
+    /**
+     * JVM 可用处理器数，容器环境下已按 cgroup CPU 配额折算
+     */
+    private int availableProcessors;
+
+    /**
+     * 平均负载下线程池任务占用的处理器比例
+     */
+    private double cpuUtilization;
+
+    /**
+     * 峰值负载下线程池任务所需处理器数是否超过目标 CPU 利用率，超过时增加线程数无法提高吞吐
+     */
+    private boolean cpuSaturated;
+
+    /**
+     * 平均负载下的并发任务数（Little 定律：到达率 × 执行耗时）
+     */
+    private double offeredLoad;
+
+    /**
+     * 建议核心线程数
+     */
+    private int corePoolSize;
+
+    /**
+     * 建议最大线程数
+     */
+    private int maximumPoolSize;
+
+    /**
+     * 建议队列容量
+     */
+    private int queueCapacity;
+
+    /**
+     * 应用建议后的线程池配置，仅 dry-run 时返回，可直接提交配置中心或管理端点
+     */
+    private ThreadPoolExecutorProperties proposedProperties;
+
+    /**
+     * 与当前配置的差异，key 为配置项名称，仅 dry-run 时返回
+     */
+    private Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes;
+}
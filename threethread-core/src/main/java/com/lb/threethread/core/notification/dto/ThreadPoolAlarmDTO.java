@@ -0,0 +1,118 @@
+package com.lb.threethread.core.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadPoolAlarmDTO {
+
+    /**
+     * 线程池唯一标识
+     */
+    private String threadPoolId;
+
+    /**
+     * 环境标识
+     */
+    private String active;
+
+    /**
+     * 应用名称
+     */
+    private String applicationName;
+
+    /**
+     * 应用节点唯一标识
+     */
+    private String identify;
+
+    /**
+     * 通知接收人
+     */
+    private String receives;
+
+    /**
+     * 告警类型，如：QUEUE_USAGE
+     */
+    private String alarmType;
+
+    /**
+     * 告警阈值
+     */
+    private Long threshold;
+
+    /**
+     * 触发告警时的指标值
+     */
+    private Long currentValue;
+
+    /**
+     * 评估时间窗口（单位：秒）
+     */
+    private Long window;
+
+    /**
+     * 核心线程数
+     */
+    private Long corePoolSize;
+
+    /**
+     * 最大线程数
+     */
+    private Long maximumPoolSize;
+
+    /**
+     * 当前线程数
+     */
+    private Long poolSize;
+
+    /**
+     * 活跃线程数
+     */
+    private Long activeCount;
+
+    /**
+     * 历史最大线程数
+     */
+    private Long largestPoolSize;
+
+    /**
+     * 阻塞队列类型
+     */
+    private String workQueue;
+
+    /**
+     * 队列容量
+     */
+    private Long queueCapacity;
+
+    /**
+     * 队列元素数量
+     */
+    private Long queueSize;
+
+    /**
+     * 拒绝策略
+     */
+    private String rejectedHandler;
+
+    /**
+     * 拒绝次数
+     */
+    private Long rejectCount;
+
+    /**
+     * 告警间隔（单位：秒）
+     */
+    private Long interval;
+
+    /**
+     * 告警时间
+     */
+    private String alarmTime;
+}
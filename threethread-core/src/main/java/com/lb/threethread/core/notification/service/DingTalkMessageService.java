@@ -1,79 +1,208 @@
 package com.lb.threethread.core.notification.service;
 
-import cn.hutool.core.collection.CollectionUtil;
-import cn.hutool.http.HttpUtil;
 import com.alibaba.fastjson2.JSON;
+import com.lb.threethread.core.alarm.ThreadPoolAlarmTypeEnum;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
 import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.notification.transport.NotifierTransport;
+import com.lb.threethread.core.notification.transport.NotifierTransportFactory;
+import com.lb.threethread.core.toolkit.MessageTemplate;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static com.lb.threethread.core.constant.Constants.DING_ALARM_MESSAGE_TEXT;
+import static com.lb.threethread.core.constant.Constants.DING_CONFIG_CHANGE_BATCH_FOOTER_TEXT;
+import static com.lb.threethread.core.constant.Constants.DING_CONFIG_CHANGE_BATCH_HEADER_TEXT;
+import static com.lb.threethread.core.constant.Constants.DING_CONFIG_CHANGE_BATCH_ITEM_TEXT;
 import static com.lb.threethread.core.constant.Constants.DING_CONFIG_CHANGE_MESSAGE_TEXT;
+import static com.lb.threethread.core.constant.Constants.DING_MARKDOWN_REQUEST_TEXT;
 
 @Slf4j
 public class DingTalkMessageService implements NotifierService {
 
+    private static final MessageTemplate CONFIG_CHANGE_TEMPLATE = MessageTemplate.compile(DING_CONFIG_CHANGE_MESSAGE_TEXT);
+    private static final MessageTemplate CONFIG_CHANGE_BATCH_HEADER_TEMPLATE = MessageTemplate.compile(DING_CONFIG_CHANGE_BATCH_HEADER_TEXT);
+    private static final MessageTemplate CONFIG_CHANGE_BATCH_ITEM_TEMPLATE = MessageTemplate.compile(DING_CONFIG_CHANGE_BATCH_ITEM_TEXT);
+    private static final MessageTemplate CONFIG_CHANGE_BATCH_FOOTER_TEMPLATE = MessageTemplate.compile(DING_CONFIG_CHANGE_BATCH_FOOTER_TEXT);
+    private static final MessageTemplate ALARM_TEMPLATE = MessageTemplate.compile(DING_ALARM_MESSAGE_TEXT);
+    private static final MessageTemplate MARKDOWN_REQUEST_TEMPLATE = MessageTemplate.compile(DING_MARKDOWN_REQUEST_TEXT);
+
+    /**
+     * 通知消息传输实现，为空时在首次发送时按通知平台配置创建
+     */
+    private volatile NotifierTransport transport;
+
+    public DingTalkMessageService() {
+    }
+
+    /**
+     * 使用指定的通知消息传输实现构造钉钉通知服务
+     *
+     * @param transport 通知消息传输实现
+     */
+    public DingTalkMessageService(NotifierTransport transport) {
+        this.transport = transport;
+    }
+
     /**
      * 发送线程池配置变更通知到钉钉机器人
+     * <p>
+     * 发送失败时抛出异常，由{@link NotifierDispatcher}负责重试
+     * </p>
      *
      * @param configChangeDTO 线程池配置变更数据传输对象，包含变更详情和接收人信息
      */
     @Override
     public void sendChangeMessage(ThreadPoolConfigChangeDTO configChangeDTO) {
-        // 构造钉钉markdown消息内容
-        Map<String, Object> markdown = getStringObjectHashMap(configChangeDTO);
-
-        // 构造@用户手机号列表
-        Map<String, Object> at = new HashMap<>();
-        at.put("atMobiles", CollectionUtil.newArrayList(configChangeDTO.getReceives().split(",")));
-
-        // 构造钉钉机器人消息请求体
-        Map<String, Object> dingTaskMarkdownRequest = new HashMap<>();
-        dingTaskMarkdownRequest.put("msgtype", "markdown");
-        dingTaskMarkdownRequest.put("markdown", markdown);
-        dingTaskMarkdownRequest.put("at", at);
-
-        try {
-            // 发送钉钉机器人消息
-            String serverUrl = BootstrapConfigProperties.getInstance().getNotifyPlatforms().getUrl();
-            String responseBody = HttpUtil.post(serverUrl, JSON.toJSONString(dingTaskMarkdownRequest));
-            DingTalkMessageService.DingRobotResponse response = JSON.parseObject(responseBody, DingTalkMessageService.DingRobotResponse.class);
-
-            // 检查消息发送结果
-            if (response.getErrcode() != 0) {
-                log.error("Ding failed to send message, reason: {}", response.errmsg);
-            }
-        } catch (Exception ex) {
-            // 记录消息发送异常
-            log.error("Ding failed to send message.", ex);
-        }
-    }
-
-
-    private static Map<String, Object> getStringObjectHashMap(ThreadPoolConfigChangeDTO configChangeDTO) {
         Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes = configChangeDTO.getChanges();
-        String markdownText = String.format(
-                DING_CONFIG_CHANGE_MESSAGE_TEXT,
+        // 构造钉钉markdown消息内容
+        String markdownText = CONFIG_CHANGE_TEMPLATE.render(
                 configChangeDTO.getActive().toUpperCase(),
                 configChangeDTO.getThreadPoolId(),
                 configChangeDTO.getIdentify() + ":" + configChangeDTO.getApplicationName(),
-                changes.get("corePoolSize").getBefore() + " ➲ " + changes.get("corePoolSize").getAfter(),
-                changes.get("maximumPoolSize").getBefore() + " ➲ " + changes.get("maximumPoolSize").getAfter(),
-                changes.get("keepAliveTime").getBefore() + " ➲ " + changes.get("keepAliveTime").getAfter(),
+                formatChange(changes.get("corePoolSize")),
+                formatChange(changes.get("maximumPoolSize")),
+                formatChange(changes.get("keepAliveTime")),
                 configChangeDTO.getWorkQueue(),
-                changes.get("queueCapacity").getBefore() + " ➲ " + changes.get("queueCapacity").getAfter(),
+                formatChange(changes.get("queueCapacity")),
                 changes.get("rejectedHandler").getBefore(),
                 changes.get("rejectedHandler").getAfter(),
                 configChangeDTO.getReceives(),
                 configChangeDTO.getUpdateTime()
         );
-        HashMap<String, Object> markdown = new HashMap<>();
-        markdown.put("title", "动态线程池通知");
-        markdown.put("text", markdownText);
-        return markdown;
+        sendMarkdownMessage("动态线程池通知", markdownText, configChangeDTO.getReceives());
+    }
+
+    /**
+     * 将一次配置刷新中多个线程池的配置变更合并为一条钉钉消息发送
+     *
+     * @param configChanges 线程池配置变更数据传输对象集合
+     */
+    @Override
+    public void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+        if (configChanges.size() == 1) {
+            sendChangeMessage(configChanges.get(0));
+            return;
+        }
+
+        ThreadPoolConfigChangeDTO first = configChanges.get(0);
+        StringBuilder markdownText = new StringBuilder(CONFIG_CHANGE_BATCH_HEADER_TEMPLATE.render(
+                first.getActive().toUpperCase(),
+                configChanges.size(),
+                first.getIdentify() + ":" + first.getApplicationName()
+        ));
+        Set<String> receives = new LinkedHashSet<>();
+        for (ThreadPoolConfigChangeDTO each : configChanges) {
+            Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes = each.getChanges();
+            markdownText.append(CONFIG_CHANGE_BATCH_ITEM_TEMPLATE.render(
+                    each.getThreadPoolId(),
+                    formatChange(changes.get("corePoolSize")),
+                    formatChange(changes.get("maximumPoolSize")),
+                    formatChange(changes.get("keepAliveTime")),
+                    each.getWorkQueue(),
+                    formatChange(changes.get("queueCapacity")),
+                    formatChange(changes.get("rejectedHandler"))
+            ));
+            for (String receive : each.getReceives().split(",")) {
+                if (!receive.isBlank()) {
+                    receives.add(receive.trim());
+                }
+            }
+        }
+        String joinedReceives = String.join(",", receives);
+        markdownText.append(CONFIG_CHANGE_BATCH_FOOTER_TEMPLATE.render(joinedReceives, first.getUpdateTime()));
+        sendMarkdownMessage("动态线程池通知", markdownText.toString(), joinedReceives);
+    }
+
+    /**
+     * 发送线程池告警通知到钉钉机器人
+     *
+     * @param alarm 线程池告警数据传输对象
+     */
+    @Override
+    public void sendAlarmMessage(ThreadPoolAlarmDTO alarm) {
+        String markdownText = ALARM_TEMPLATE.render(
+                alarm.getActive().toUpperCase(),
+                alarm.getThreadPoolId(),
+                alarm.getIdentify() + ":" + alarm.getApplicationName(),
+                ThreadPoolAlarmTypeEnum.valueOf(alarm.getAlarmType()).getDescription(),
+                alarm.getCurrentValue(),
+                alarm.getThreshold(),
+                alarm.getWindow(),
+                alarm.getCorePoolSize(),
+                alarm.getMaximumPoolSize(),
+                alarm.getPoolSize(),
+                alarm.getActiveCount(),
+                alarm.getLargestPoolSize(),
+                alarm.getWorkQueue(),
+                alarm.getQueueCapacity(),
+                alarm.getQueueSize(),
+                alarm.getRejectedHandler(),
+                alarm.getRejectCount(),
+                alarm.getReceives(),
+                alarm.getInterval(),
+                alarm.getAlarmTime()
+        );
+        sendMarkdownMessage("动态线程池告警", markdownText, alarm.getReceives());
+    }
+
+    private void sendMarkdownMessage(String title, String markdownText, String receives) {
+        // 构造@用户手机号列表
+        List<String> atMobiles = new ArrayList<>();
+        for (String receive : receives.split(",")) {
+            if (!receive.isBlank()) {
+                atMobiles.add(receive.trim());
+            }
+        }
+
+        // 构造钉钉机器人消息请求体，字符串字段经 JSON 转义后填充到预编译模板中
+        String requestBody = MARKDOWN_REQUEST_TEMPLATE.render(
+                JSON.toJSONString(title),
+                JSON.toJSONString(markdownText),
+                JSON.toJSONString(atMobiles)
+        );
+
+        // 发送钉钉机器人消息，网络异常直接抛出
+        String serverUrl = BootstrapConfigProperties.getInstance().getNotifyPlatforms().getUrl();
+        String responseBody;
+        try {
+            responseBody = getTransport().postJson(serverUrl, requestBody);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Ding failed to send message.", ex);
+        }
+        DingTalkMessageService.DingRobotResponse response = JSON.parseObject(responseBody, DingTalkMessageService.DingRobotResponse.class);
+
+        // 检查消息发送结果
+        if (response == null || response.getErrcode() == null || response.getErrcode() != 0) {
+            throw new IllegalStateException("Ding failed to send message, reason: " + (response == null ? responseBody : response.getErrmsg()));
+        }
+    }
+
+    private NotifierTransport getTransport() {
+        NotifierTransport current = transport;
+        if (current == null) {
+            synchronized (this) {
+                current = transport;
+                if (current == null) {
+                    current = NotifierTransportFactory.create(BootstrapConfigProperties.getInstance().getNotifyPlatforms());
+                    transport = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String formatChange(ThreadPoolConfigChangeDTO.ChangePair<?> changePair) {
+        return changePair.getBefore() + " ➲ " + changePair.getAfter();
     }
 
     @Data
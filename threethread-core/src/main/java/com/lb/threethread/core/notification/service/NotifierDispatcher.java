@@ -1,27 +1,228 @@
 package com.lb.threethread.core.notification.service;
 
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
 import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.toolkit.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
+/**
+ * 通知分发器
+ * <p>
+ * 根据配置的通知平台选择具体的{@link NotifierService}，通知消息先放入有界队列，
+ * 由独立的发送线程异步发送，发送失败时按指数退避重试
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 配置刷新、告警评估线程只负责入队，不会被 WebHook 等网络 I/O 阻塞
+ * 2. 队列已满时直接丢弃并计数，避免通知积压拖垮应用
+ * 3. 同一次配置刷新的多个线程池变更合并为一条消息发送
+ * </p>
+ */
+@Slf4j
 public class NotifierDispatcher implements NotifierService {
 
     private static final Map<String, NotifierService> NOTIFIER_SERVICE_MAP = new HashMap<>();
 
+    /**
+     * 默认通知队列容量
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * 默认发送失败最大重试次数
+     */
+    private static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * 默认首次重试退避时间（单位：毫秒），后续每次重试翻倍
+     */
+    private static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000L;
+
     static {
         NOTIFIER_SERVICE_MAP.put("DING", new DingTalkMessageService());
     }
 
+    /**
+     * 固定使用的通知服务，为空时按配置的通知平台选择
+     */
+    private final NotifierService notifierService;
+
+    private final BlockingQueue<NotifyTask> notifyQueue;
+
+    private final int maxRetries;
+
+    private final long initialBackoffMillis;
+
+    private final LongAdder sentCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile Thread sender;
+
+    private volatile boolean running = true;
+
+    public NotifierDispatcher() {
+        this(null, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF_MILLIS);
+    }
+
+    /**
+     * 构造一个通知分发器
+     *
+     * @param notifierService      固定使用的通知服务，为空时按配置的通知平台选择
+     * @param queueCapacity        通知队列容量
+     * @param maxRetries           发送失败最大重试次数
+     * @param initialBackoffMillis 首次重试退避时间（单位：毫秒）
+     */
+    NotifierDispatcher(NotifierService notifierService, int queueCapacity, int maxRetries, long initialBackoffMillis) {
+        this.notifierService = notifierService;
+        this.notifyQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
     @Override
     public void sendChangeMessage(ThreadPoolConfigChangeDTO configChange) {
-        Optional<NotifierService> notifierService = Optional.ofNullable(BootstrapConfigProperties.getInstance().getNotifyPlatforms())
+        sendChangeMessages(List.of(configChange));
+    }
+
+    @Override
+    public void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+        if (configChanges.isEmpty()) {
+            return;
+        }
+        enqueue("config change", each -> each.sendChangeMessages(configChanges));
+    }
+
+    @Override
+    public void sendAlarmMessage(ThreadPoolAlarmDTO alarm) {
+        enqueue("alarm", each -> each.sendAlarmMessage(alarm));
+    }
+
+    /**
+     * 获取发送成功的通知数
+     */
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    /**
+     * 获取因队列已满被丢弃的通知数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 获取重试耗尽后仍发送失败的通知数
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 停止发送线程，队列中尚未发送的通知将被丢弃
+     */
+    public void shutdown() {
+        running = false;
+        Thread current = sender;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    private void enqueue(String messageType, Consumer<NotifierService> action) {
+        Optional<NotifierService> target = getNotifierService();
+        if (target.isEmpty() || !running) {
+            return;
+        }
+        startSenderIfNecessary();
+        if (!notifyQueue.offer(new NotifyTask(messageType, target.get(), action))) {
+            droppedCount.increment();
+            log.warn("Notification queue is full, {} message dropped, total dropped: {}", messageType, droppedCount.sum());
+        }
+    }
+
+    private Optional<NotifierService> getNotifierService() {
+        if (notifierService != null) {
+            return Optional.of(notifierService);
+        }
+        return Optional.ofNullable(BootstrapConfigProperties.getInstance().getNotifyPlatforms())
                 .map(BootstrapConfigProperties.NotifyPlatformsConfig::getPlatform)
                 .map(each -> NOTIFIER_SERVICE_MAP.get(each));
-        if (notifierService.isPresent()) {
-            notifierService.get().sendChangeMessage(configChange);
+    }
+
+    private void startSenderIfNecessary() {
+        if (sender != null) {
+            return;
+        }
+        synchronized (this) {
+            if (sender == null) {
+                Thread thread = ThreadFactoryBuilder.builder()
+                        .namePrefix("onethread-notifier-sender_")
+                        .daemon(true)
+                        .build()
+                        .newThread(this::runSender);
+                thread.start();
+                sender = thread;
+            }
+        }
+    }
+
+    private void runSender() {
+        while (running) {
+            try {
+                deliver(notifyQueue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deliver(NotifyTask task) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                task.action.accept(task.notifierService);
+                sentCount.increment();
+                return;
+            } catch (Exception ex) {
+                if (attempt >= maxRetries) {
+                    failedCount.increment();
+                    log.error("Failed to send {} message after {} retries.", task.messageType, maxRetries, ex);
+                    return;
+                }
+                long backoffMillis = initialBackoffMillis << attempt;
+                log.warn("Failed to send {} message, retry in {} ms.", task.messageType, backoffMillis, ex);
+                Thread.sleep(backoffMillis);
+            }
+        }
+    }
+
+    /**
+     * 待发送的通知任务
+     */
+    private static final class NotifyTask {
+
+        private final String messageType;
+        private final NotifierService notifierService;
+        private final Consumer<NotifierService> action;
+
+        private NotifyTask(String messageType, NotifierService notifierService, Consumer<NotifierService> action) {
+            this.messageType = messageType;
+            this.notifierService = notifierService;
+            this.action = action;
         }
     }
 }
@@ -1,7 +1,10 @@
 package com.lb.threethread.core.notification.service;
 
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
 import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
 
+import java.util.List;
+
 public interface NotifierService {
 
     /**
@@ -10,4 +13,23 @@ public interface NotifierService {
      * @param configChange 配置变更信息
      */
     void sendChangeMessage(ThreadPoolConfigChangeDTO configChange);
+
+    /**
+     * 发送一次配置刷新中多个线程池的配置变更通知
+     * <p>
+     * 默认逐个发送，支持合并的平台可覆盖为发送一条消息
+     * </p>
+     *
+     * @param configChanges 配置变更信息集合
+     */
+    default void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+        configChanges.forEach(this::sendChangeMessage);
+    }
+
+    /**
+     * 发送线程池告警通知
+     *
+     * @param alarm 告警信息
+     */
+    void sendAlarmMessage(ThreadPoolAlarmDTO alarm);
 }
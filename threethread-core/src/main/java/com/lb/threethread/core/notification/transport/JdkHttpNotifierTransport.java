@@ -0,0 +1,61 @@
+package com.lb.threethread.core.notification.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 基于 JDK HttpClient 的通知消息传输实现
+ * <p>
+ * 设计目的：
+ * 1. 复用同一个 HttpClient 实例，其内部维护 keep-alive 连接池，告警风暴时避免每条消息都重新建立 TCP、TLS 连接
+ * 2. 严格限制建连超时和请求超时，WebHook 不可用时快速失败，交由{@link com.lb.threethread.core.notification.service.NotifierDispatcher}退避重试
+ * </p>
+ */
+public class JdkHttpNotifierTransport implements NotifierTransport {
+
+    private final HttpClient httpClient;
+
+    /**
+     * 请求超时时间，从发出请求到读取完响应
+     */
+    private final Duration readTimeout;
+
+    /**
+     * 构造一个基于 JDK HttpClient 的通知消息传输实现
+     *
+     * @param connectTimeout 建连超时时间
+     * @param readTimeout    请求超时时间
+     */
+    public JdkHttpNotifierTransport(Duration connectTimeout, Duration readTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public String postJson(String url, String jsonBody) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json;charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending notification to " + url, ex);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Unexpected notification response status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,26 @@
+package com.lb.threethread.core.notification.transport;
+
+import java.io.IOException;
+
+/**
+ * 通知消息传输接口
+ * <p>
+ * 负责将通知平台组装好的请求体发送到 WebHook 地址，与具体消息格式解耦
+ * </p>
+ * <p>
+ * 扩展方式：实现该接口并在 META-INF/services/com.lb.threethread.core.notification.transport.NotifierTransport
+ * 中声明实现类，{@link NotifierTransportFactory}会优先使用 SPI 扩展实现，未声明时使用{@link JdkHttpNotifierTransport}
+ * </p>
+ */
+public interface NotifierTransport {
+
+    /**
+     * 以 JSON 格式发送 POST 请求
+     *
+     * @param url      请求地址
+     * @param jsonBody JSON 请求体
+     * @return 响应体
+     * @throws IOException 网络异常、超时或响应状态码非 2xx
+     */
+    String postJson(String url, String jsonBody) throws IOException;
+}
@@ -0,0 +1,45 @@
+package com.lb.threethread.core.notification.transport;
+
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * 通知消息传输实现工厂
+ * <p>
+ * 优先通过 SPI 加载扩展实现，未声明扩展实现时按通知平台配置的超时时间创建{@link JdkHttpNotifierTransport}
+ * </p>
+ */
+public class NotifierTransportFactory {
+
+    /**
+     * 默认建连超时时间（单位：毫秒）
+     */
+    private static final long DEFAULT_CONNECT_TIMEOUT = 3000L;
+
+    /**
+     * 默认请求超时时间（单位：毫秒）
+     */
+    private static final long DEFAULT_READ_TIMEOUT = 5000L;
+
+    /**
+     * 创建通知消息传输实现
+     *
+     * @param notifyPlatformsConfig 通知平台配置，可为空
+     * @return 通知消息传输实现
+     */
+    public static NotifierTransport create(BootstrapConfigProperties.NotifyPlatformsConfig notifyPlatformsConfig) {
+        Iterator<NotifierTransport> iterator = ServiceLoader.load(NotifierTransport.class).iterator();
+        if (iterator.hasNext()) {
+            return iterator.next();
+        }
+
+        Optional<BootstrapConfigProperties.NotifyPlatformsConfig> config = Optional.ofNullable(notifyPlatformsConfig);
+        long connectTimeout = config.map(BootstrapConfigProperties.NotifyPlatformsConfig::getConnectTimeout).orElse(DEFAULT_CONNECT_TIMEOUT);
+        long readTimeout = config.map(BootstrapConfigProperties.NotifyPlatformsConfig::getReadTimeout).orElse(DEFAULT_READ_TIMEOUT);
+        return new JdkHttpNotifierTransport(Duration.ofMillis(connectTimeout), Duration.ofMillis(readTimeout));
+    }
+}
@@ -1,27 +1,63 @@
 package com.lb.threethread.core.parser;
 
-import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.StrUtil;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
 
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * YAML 配置解析器
+ * <p>
+ * 直接消费 SnakeYAML 的事件流，一次遍历即可将层级结构展开为 {@code a.b[0].c} 形式的扁平键值对，
+ * 不再构建中间对象树，也不会为每个路径片段拼接新字符串
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 解析器无状态、线程安全，可全局复用；每次解析仅创建事件解析器与一个路径构建器
+ * 2. 路径通过单个 {@link StringBuilder} 追加与截断维护，叶子节点才生成键字符串
+ * 3. 标量值按 YAML 1.1 规则解析后再转为字符串，与原先先 load 成对象再 toString 的结果保持一致
+ * 4. 出现锚点、别名、合并键或复杂键时回退到对象树展开，保证语义正确
+ * </p>
+ */
 public class YamlConfigParser extends AbstractConfigParser {
 
-    private static final String INDEX_PREFIX = "[";
-    private static final String INDEX_SUFFIX = "]";
-    private static final String PATH_SEPARATOR = ".";
+    private static final char INDEX_PREFIX = '[';
+    private static final char INDEX_SUFFIX = ']';
+    private static final char PATH_SEPARATOR = '.';
+
+    private static final LoaderOptions LOADER_OPTIONS = new LoaderOptions();
+
+    /**
+     * 隐式类型解析器，构造完成后只读，可在多线程间共享
+     */
+    private static final Resolver RESOLVER = new Resolver();
 
     @Override
     public Map<Object, Object> doParse(String configuration) {
-        return Optional.ofNullable(configuration)
-                .filter(StrUtil::isNotEmpty)
-                .map(this::parseYamlDocument)
-                .map(this::normalizeHierarchy)
-                .orElseGet(Collections::emptyMap);
+        if (StrUtil.isEmpty(configuration)) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Object> flattenedData = new StreamingFlattener(configuration).flatten();
+        if (flattenedData == null) {
+            flattenedData = flattenDocumentTree(configuration);
+        }
+        return flattenedData.isEmpty() ? Collections.emptyMap() : flattenedData;
     }
 
     @Override
@@ -29,61 +65,248 @@ public class YamlConfigParser extends AbstractConfigParser {
         return List.of(ConfigFileTypeEnum.YAML, ConfigFileTypeEnum.YML);
     }
 
-    private Map<Object, Object> parseYamlDocument(String content) {
-        return Optional.ofNullable(new Yaml().load(content))
-                .filter(obj -> obj instanceof Map)  // 类型安全检查
-                .map(obj -> (Map<Object, Object>) obj)  // 安全类型转换
-                .filter(map -> !MapUtil.isEmpty(map))
-                .orElseGet(Collections::emptyMap);
-    }
-
-    private Map<Object, Object> normalizeHierarchy(Map<Object, Object> nestedData) {
+    /**
+     * 回退路径：加载为对象树后展开，用于处理锚点、别名、合并键等事件流无法直接展开的结构
+     */
+    private Map<Object, Object> flattenDocumentTree(String configuration) {
+        Object document = new Yaml(new SafeConstructor(LOADER_OPTIONS)).load(configuration);
+        if (!(document instanceof Map)) {
+            return Collections.emptyMap();
+        }
         Map<Object, Object> flattenedData = new LinkedHashMap<>();
-        processNestedElements(flattenedData, nestedData, null);
+        StringBuilder path = new StringBuilder(64);
+        ((Map<?, ?>) document).forEach((key, value) -> {
+            path.setLength(0);
+            path.append(key);
+            flattenTreeNode(flattenedData, path, value);
+        });
         return flattenedData;
     }
 
-    private void processNestedElements(Map<Object, Object> target, Object current, String currentPath) {
+    private void flattenTreeNode(Map<Object, Object> target, StringBuilder path, Object current) {
+        int baseLength = path.length();
         if (current instanceof Map) {
-            handleMapEntries(target, (Map<?, ?>) current, currentPath);
+            ((Map<?, ?>) current).forEach((key, value) -> {
+                path.setLength(baseLength);
+                path.append(PATH_SEPARATOR).append(key);
+                flattenTreeNode(target, path, value);
+            });
         } else if (current instanceof Iterable) {
-            handleCollectionItems(target, (Iterable<?>) current, currentPath);
+            int index = 0;
+            for (Object item : (Iterable<?>) current) {
+                path.setLength(baseLength);
+                path.append(INDEX_PREFIX).append(index++).append(INDEX_SUFFIX);
+                flattenTreeNode(target, path, item);
+            }
         } else {
-            persistLeafValue(target, currentPath, current);
+            target.put(path.toString(), current != null ? current.toString() : null);
         }
+        path.setLength(baseLength);
     }
 
-    private void handleMapEntries(Map<Object, Object> target, Map<?, ?> entries, String parentPath) {
-        entries.forEach((key, value) ->
-                processNestedElements(target, value, buildPathSegment(parentPath, key))
-        );
-    }
+    /**
+     * 单次解析使用的事件流展开器，非线程安全，随解析创建随解析丢弃
+     */
+    private static final class StreamingFlattener {
 
-    private void handleCollectionItems(Map<Object, Object> target, Iterable<?> items, String basePath) {
-        List<?> elements = StreamSupport.stream(items.spliterator(), false)
-                .collect(Collectors.toList());
-        IntStream.range(0, elements.size())
-                .forEach(index -> processNestedElements(
-                        target,
-                        elements.get(index),
-                        createIndexedPath(basePath, index)
-                ));
-    }
+        private final Parser parser;
+        private final StringBuilder path = new StringBuilder(64);
+        private final List<Frame> frames = new ArrayList<>();
+        private final Map<Object, Object> target = new LinkedHashMap<>();
+        private ScalarConstructor scalarConstructor;
+        private int depth;
+
+        private StreamingFlattener(String configuration) {
+            this.parser = new ParserImpl(new StreamReader(configuration), LOADER_OPTIONS);
+        }
+
+        /**
+         * 展开首个文档
+         *
+         * @return 扁平化结果；遇到需要对象树才能正确展开的结构时返回 null
+         */
+        private Map<Object, Object> flatten() {
+            Event event = nextNodeEvent();
+            if (event == null || !event.is(Event.ID.MappingStart)) {
+                return Collections.emptyMap();
+            }
+            if (hasAnchor(event)) {
+                return null;
+            }
+            pushFrame(false);
+
+            while (depth > 0) {
+                event = parser.getEvent();
+                Frame frame = frames.get(depth - 1);
+                if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                    depth--;
+                    completeValue();
+                    continue;
+                }
+                if (event.is(Event.ID.Alias) || hasAnchor(event)) {
+                    return null;
+                }
+
+                if (frame.sequence) {
+                    path.setLength(frame.baseLength);
+                    path.append(INDEX_PREFIX).append(frame.nextIndex++).append(INDEX_SUFFIX);
+                } else if (frame.expectKey) {
+                    if (!event.is(Event.ID.Scalar)) {
+                        return null;
+                    }
+                    ScalarEvent keyEvent = (ScalarEvent) event;
+                    Tag keyTag = resolveTag(keyEvent);
+                    if (Tag.MERGE.equals(keyTag)) {
+                        return null;
+                    }
+                    path.setLength(frame.baseLength);
+                    if (frame.baseLength > 0) {
+                        path.append(PATH_SEPARATOR);
+                    }
+                    path.append(scalarValue(keyEvent, keyTag));
+                    frame.expectKey = false;
+                    continue;
+                }
+
+                if (event.is(Event.ID.Scalar)) {
+                    ScalarEvent scalarEvent = (ScalarEvent) event;
+                    target.put(path.toString(), scalarValue(scalarEvent, resolveTag(scalarEvent)));
+                    completeValue();
+                } else if (event.is(Event.ID.MappingStart)) {
+                    pushFrame(false);
+                } else if (event.is(Event.ID.SequenceStart)) {
+                    pushFrame(true);
+                }
+            }
+            return target;
+        }
+
+        private Event nextNodeEvent() {
+            while (parser.peekEvent() != null) {
+                Event event = parser.getEvent();
+                if (event.is(Event.ID.StreamEnd)) {
+                    return null;
+                }
+                if (!event.is(Event.ID.StreamStart) && !event.is(Event.ID.DocumentStart)) {
+                    return event;
+                }
+            }
+            return null;
+        }
 
-    private String buildPathSegment(String existingPath, Object key) {
-        return existingPath == null ?
-                key.toString() :
-                existingPath + PATH_SEPARATOR + key;
+        private void pushFrame(boolean sequence) {
+            Frame frame;
+            if (depth < frames.size()) {
+                frame = frames.get(depth);
+            } else {
+                frame = new Frame();
+                frames.add(frame);
+            }
+            frame.sequence = sequence;
+            frame.expectKey = !sequence;
+            frame.nextIndex = 0;
+            frame.baseLength = path.length();
+            depth++;
+        }
+
+        /**
+         * 当前值处理完毕，父级映射回到等待键状态，并截断路径到父级
+         */
+        private void completeValue() {
+            if (depth == 0) {
+                return;
+            }
+            Frame parent = frames.get(depth - 1);
+            if (!parent.sequence) {
+                parent.expectKey = true;
+            }
+            path.setLength(parent.baseLength);
+        }
+
+        private boolean hasAnchor(Event event) {
+            return event instanceof NodeEvent && ((NodeEvent) event).getAnchor() != null;
+        }
+
+        private Tag resolveTag(ScalarEvent event) {
+            String tag = event.getTag();
+            if (tag == null || "!".equals(tag)) {
+                return RESOLVER.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+            }
+            return new Tag(tag);
+        }
+
+        /**
+         * 按解析出的标签还原标量值的字符串形式
+         * <p>
+         * 字符串、空值、布尔和常规十进制整数直接处理；其余类型（八进制、浮点、时间戳等）交给 SafeConstructor 构造
+         * </p>
+         */
+        private String scalarValue(ScalarEvent event, Tag tag) {
+            String value = event.getValue();
+            if (Tag.STR.equals(tag)) {
+                return value;
+            }
+            if (Tag.NULL.equals(tag)) {
+                return null;
+            }
+            if (Tag.BOOL.equals(tag)) {
+                return String.valueOf(isTrue(value));
+            }
+            if (Tag.INT.equals(tag) && isPlainDecimal(value)) {
+                return value;
+            }
+            if (scalarConstructor == null) {
+                scalarConstructor = new ScalarConstructor();
+            }
+            Object constructed = scalarConstructor.construct(new ScalarNode(tag, value, event.getStartMark(), event.getEndMark(), event.getScalarStyle()));
+            return constructed != null ? constructed.toString() : null;
+        }
+
+        private static boolean isTrue(String value) {
+            return "true".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value) || "on".equalsIgnoreCase(value);
+        }
+
+        private static boolean isPlainDecimal(String value) {
+            int start = value.startsWith("-") ? 1 : 0;
+            int length = value.length();
+            if (length == start || length - start > 18) {
+                return false;
+            }
+            if (value.charAt(start) == '0') {
+                return length == 1;
+            }
+            for (int i = start; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
-    private String createIndexedPath(String basePath, int index) {
-        return basePath + INDEX_PREFIX + index + INDEX_SUFFIX;
+    /**
+     * 映射或序列的展开状态
+     */
+    private static final class Frame {
+
+        private boolean sequence;
+        private boolean expectKey;
+        private int nextIndex;
+        private int baseLength;
     }
 
-    private void persistLeafValue(Map<Object, Object> target, String path, Object value) {
-        if (path != null) {
-            String normalizedPath = path.replace(PATH_SEPARATOR + INDEX_PREFIX, INDEX_PREFIX);
-            target.put(normalizedPath, value != null ? value.toString() : null);
+    /**
+     * 暴露单个标量构造能力的 SafeConstructor，仅在出现非常规标量时按解析创建
+     */
+    private static final class ScalarConstructor extends SafeConstructor {
+
+        private ScalarConstructor() {
+            super(LOADER_OPTIONS);
+        }
+
+        private Object construct(ScalarNode node) {
+            return constructObject(node);
         }
     }
 }
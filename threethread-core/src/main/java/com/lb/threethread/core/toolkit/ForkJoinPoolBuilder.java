@@ -0,0 +1,150 @@
+package com.lb.threethread.core.toolkit;
+
+import cn.hutool.core.lang.Assert;
+import com.lb.threethread.core.executor.OneThreadForkJoinPool;
+import lombok.Getter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ForkJoin 线程池构建器
+ */
+@Getter
+public class ForkJoinPoolBuilder {
+
+    /**
+     * 线程池唯一标识
+     */
+    private String threadPoolId;
+
+    /**
+     * 并行度，默认为可用处理器数
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 工作线程名前缀
+     */
+    private String threadNamePrefix;
+
+    /**
+     * 工作线程工厂，设置后忽略线程名前缀
+     */
+    private ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory;
+
+    /**
+     * 未捕获异常处理器
+     */
+    private Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+
+    /**
+     * 是否为异步模式（FIFO 调度本地任务），适用于事件类任务
+     */
+    private boolean asyncMode;
+
+    /**
+     * 动态线程池标识
+     */
+    private boolean dynamicPool;
+
+    /**
+     * 创建 ForkJoin 线程池构建器
+     */
+    public static ForkJoinPoolBuilder builder() {
+        return new ForkJoinPoolBuilder();
+    }
+
+    /**
+     * 设置构建线程池为动态线程池
+     */
+    public ForkJoinPoolBuilder dynamicPool() {
+        this.dynamicPool = true;
+        return this;
+    }
+
+    /**
+     * 设置线程池唯一标识
+     *
+     * @param threadPoolId 线程池唯一标识
+     */
+    public ForkJoinPoolBuilder threadPoolId(String threadPoolId) {
+        this.threadPoolId = threadPoolId;
+        return this;
+    }
+
+    /**
+     * 设置并行度
+     *
+     * @param parallelism 并行度
+     */
+    public ForkJoinPoolBuilder parallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 设置工作线程名前缀
+     *
+     * @param threadNamePrefix 线程名前缀，如 "onethread-fj_"，线程名形如：onethread-fj_0
+     */
+    public ForkJoinPoolBuilder threadFactory(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+    /**
+     * 设置工作线程工厂
+     *
+     * @param threadFactory 工作线程工厂
+     */
+    public ForkJoinPoolBuilder threadFactory(ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+        return this;
+    }
+
+    /**
+     * 设置未捕获异常处理器
+     *
+     * @param uncaughtExceptionHandler 未捕获异常处理器
+     */
+    public ForkJoinPoolBuilder uncaughtExceptionHandler(Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+        this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+        return this;
+    }
+
+    /**
+     * 设置是否为异步模式
+     *
+     * @param asyncMode 是否为异步模式
+     */
+    public ForkJoinPoolBuilder asyncMode(boolean asyncMode) {
+        this.asyncMode = asyncMode;
+        return this;
+    }
+
+    /**
+     * 构建 ForkJoin 线程池实例
+     */
+    public ForkJoinPool build() {
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = this.threadFactory != null ? this.threadFactory : buildNamedThreadFactory();
+        if (dynamicPool) {
+            Assert.notEmpty(threadPoolId, "The thread pool id cannot be empty for dynamic fork join pool.");
+            return new OneThreadForkJoinPool(threadPoolId, parallelism, factory, uncaughtExceptionHandler, asyncMode);
+        }
+        return new ForkJoinPool(parallelism, factory, uncaughtExceptionHandler, asyncMode);
+    }
+
+    private ForkJoinPool.ForkJoinWorkerThreadFactory buildNamedThreadFactory() {
+        if (threadNamePrefix == null) {
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory;
+        }
+        final AtomicLong count = new AtomicLong(0);
+        return pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + count.getAndIncrement());
+            return thread;
+        };
+    }
+}
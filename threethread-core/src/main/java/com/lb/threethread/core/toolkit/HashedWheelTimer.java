@@ -0,0 +1,490 @@
+package com.lb.threethread.core.toolkit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 时间轮定时器
+ * <p>
+ * 参考 Netty HashedWheelTimer 的实现思路，将定时任务按照到期时间散列到固定数量的槽位中，
+ * 由单个工作线程按 tick 推进指针并触发当前槽位中已到期的任务
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 新增定时任务和取消定时任务均为 O(1) 复杂度，适合海量短时定时任务（如任务执行超时控制）
+ * 2. 所有定时任务共享一个工作线程，避免为每个任务创建 ScheduledExecutorService 带来的开销
+ * 3. 以 tick 精度换取吞吐，适用于对到期时间精度要求不高（毫秒级误差可接受）的场景
+ * </p>
+ * <p>
+ * 注意：到期任务在时间轮工作线程中同步执行，任务本身应足够轻量（如中断线程、投递到线程池）
+ * </p>
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+    private static final int WORKER_STATE_INIT = 0;
+    private static final int WORKER_STATE_STARTED = 1;
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+
+    /**
+     * 单个 tick 内最多从待处理队列迁移到槽位的任务数，避免工作线程长时间无法推进 tick
+     */
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+
+    /**
+     * 工作线程状态
+     */
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_STATE_INIT);
+
+    /**
+     * 时间轮工作线程
+     */
+    private final Thread workerThread;
+
+    /**
+     * 每个 tick 的时长（单位：纳秒）
+     */
+    private final long tickDuration;
+
+    /**
+     * 时间轮槽位，长度为 2 的幂次方，便于通过位运算定位槽位
+     */
+    private final Bucket[] wheel;
+
+    private final int mask;
+
+    /**
+     * 新增的定时任务先进入该无锁队列，由工作线程在每个 tick 开始时迁移到对应槽位
+     */
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 已取消的定时任务，由工作线程在每个 tick 开始时从槽位中摘除
+     */
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 尚未到期且未取消的定时任务数量
+     */
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    /**
+     * 时间轮停止时尚未执行的定时任务，由工作线程退出前收集
+     */
+    private final Set<Timeout> unprocessedTimeouts = new HashSet<>();
+
+    /**
+     * 时间轮启动时间（纳秒），所有任务的到期时间均以此为基准计算相对值
+     */
+    private volatile long startTime;
+
+    /**
+     * 构造一个时间轮定时器
+     *
+     * @param threadName    工作线程名称
+     * @param tickDuration  每个 tick 的时长
+     * @param unit          tick 时长单位
+     * @param ticksPerWheel 时间轮槽位数，会向上取整为 2 的幂次方
+     */
+    public HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+
+        ThreadFactory threadFactory = ThreadFactoryBuilder.builder()
+                .namePrefix(threadName)
+                .daemon(true)
+                .build();
+        this.workerThread = threadFactory.newThread(new Worker());
+    }
+
+    /**
+     * 提交一个定时任务
+     * <p>
+     * 首次提交时懒启动工作线程，之后仅将任务放入待处理队列，复杂度为 O(1)
+     * </p>
+     *
+     * @param task  到期后执行的任务
+     * @param delay 延迟时间
+     * @param unit  延迟时间单位
+     * @return 定时任务句柄，可用于取消
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0L)) - startTime;
+        // 防止溢出
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 停止时间轮，未到期的任务将不再执行
+     *
+     * @return 尚未到期且未取消的定时任务集合
+     */
+    public Set<Timeout> stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException("HashedWheelTimer.stop() cannot be called from the timer worker thread.");
+        }
+        if (workerState.getAndSet(WORKER_STATE_SHUTDOWN) != WORKER_STATE_STARTED) {
+            return Collections.emptySet();
+        }
+
+        boolean interrupted = false;
+        while (workerThread.isAlive()) {
+            workerThread.interrupt();
+            try {
+                workerThread.join(100);
+            } catch (InterruptedException ignored) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return unprocessedTimeouts;
+    }
+
+    /**
+     * 获取尚未到期且未取消的定时任务数量
+     */
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_STATE_INIT:
+                if (workerState.compareAndSet(WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            case WORKER_STATE_SHUTDOWN:
+                throw new IllegalStateException("Cannot submit timeout after HashedWheelTimer stopped.");
+            default:
+                throw new Error("Invalid worker state.");
+        }
+
+        // 等待工作线程初始化启动时间
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException ignore) {
+                // 保留中断状态交由调用方处理
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private static Bucket[] createWheel(int ticksPerWheel) {
+        int normalized = 1;
+        while (normalized < ticksPerWheel) {
+            normalized <<= 1;
+        }
+        Bucket[] wheel = new Bucket[normalized];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        return wheel;
+    }
+
+    /**
+     * 时间轮工作线程
+     */
+    private final class Worker implements Runnable {
+
+        private long tick;
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            // 0 被用作未初始化标识
+            startTime = now == 0 ? 1 : now;
+            startTimeInitialized.countDown();
+
+            while (workerState.get() == WORKER_STATE_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    Bucket bucket = wheel[(int) (tick & mask)];
+                    processCancelledTimeouts();
+                    transferTimeoutsToBuckets();
+                    bucket.expireTimeouts();
+                    tick++;
+                }
+            }
+
+            // 收集未执行的定时任务，交由调用方处理
+            for (Bucket bucket : wheel) {
+                bucket.clearTimeouts(unprocessedTimeouts);
+            }
+            for (; ; ) {
+                Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.state() == Timeout.ST_INIT) {
+                    unprocessedTimeouts.add(timeout);
+                }
+            }
+            processCancelledTimeouts();
+        }
+
+        private void transferTimeoutsToBuckets() {
+            for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+                Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.state() == Timeout.ST_CANCELLED) {
+                    continue;
+                }
+
+                long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+                // 已经过期的任务放入当前槽位，保证尽快执行
+                long ticks = Math.max(calculated, tick);
+                Bucket bucket = wheel[(int) (ticks & mask)];
+                bucket.addTimeout(timeout);
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            for (; ; ) {
+                Timeout timeout = cancelledTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                timeout.remove();
+            }
+        }
+
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+            for (; ; ) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+                if (sleepTimeMs <= 0) {
+                    return currentTime == Long.MIN_VALUE ? -Long.MAX_VALUE : currentTime;
+                }
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException ignored) {
+                    if (workerState.get() == WORKER_STATE_SHUTDOWN) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 定时任务句柄
+     */
+    public static final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        /**
+         * 剩余轮数，仅由工作线程读写
+         */
+        long remainingRounds;
+
+        /**
+         * 槽位内的双向链表指针，仅由工作线程读写，保证摘除操作为 O(1)
+         */
+        Timeout next;
+        Timeout prev;
+        Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 取消定时任务
+         * <p>
+         * 仅修改状态并放入取消队列，实际从槽位摘除由工作线程完成，复杂度为 O(1)
+         * </p>
+         *
+         * @return 是否取消成功，若任务已到期或已取消则返回 false
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        /**
+         * 获取定时任务
+         */
+        public Runnable task() {
+            return task;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        /**
+         * 获取距离到期的剩余时间
+         *
+         * @param unit 时间单位
+         * @return 剩余时间，已到期则返回 0 或负数
+         */
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(timer.startTime + deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        int state() {
+            return state;
+        }
+
+        void remove() {
+            Bucket bucket = this.bucket;
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+
+        void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                log.warn("An exception was thrown by timer task {}.", task, ex);
+            }
+        }
+    }
+
+    /**
+     * 时间轮槽位，内部以双向链表存储定时任务，仅由工作线程访问，无需加锁
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void addTimeout(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void clearTimeouts(Set<Timeout> set) {
+            for (; ; ) {
+                Timeout timeout = head;
+                if (timeout == null) {
+                    return;
+                }
+                remove(timeout);
+                if (timeout.state() == Timeout.ST_INIT) {
+                    set.add(timeout);
+                }
+            }
+        }
+
+        Timeout remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return timeout.next;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.lb.threethread.core.toolkit;
+
+/**
+ * 预编译消息模板
+ * <p>
+ * 创建时将模板按 %s 占位符切分为静态片段，渲染时直接拼接片段与参数，
+ * 避免{@link String#format(String, Object...)}每次调用都重新解析格式串
+ * </p>
+ * <p>
+ * 仅支持 %s 占位符，参数为 null 时输出 "null"，与 String.format 行为一致
+ * </p>
+ */
+public class MessageTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    private final String[] segments;
+
+    private final int estimatedLength;
+
+    private MessageTemplate(String[] segments, int estimatedLength) {
+        this.segments = segments;
+        this.estimatedLength = estimatedLength;
+    }
+
+    /**
+     * 预编译消息模板
+     *
+     * @param template 模板文本，使用 %s 作为占位符
+     * @return 预编译消息模板
+     */
+    public static MessageTemplate compile(String template) {
+        String[] segments = template.split(PLACEHOLDER, -1);
+        return new MessageTemplate(segments, template.length() + segments.length * 16);
+    }
+
+    /**
+     * 占位符数量
+     */
+    public int getPlaceholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * 使用参数渲染模板
+     *
+     * @param args 参数，数量需与占位符数量一致
+     * @return 渲染结果
+     */
+    public String render(Object... args) {
+        if (args.length != segments.length - 1) {
+            throw new IllegalArgumentException("Expected " + (segments.length - 1) + " arguments but got " + args.length);
+        }
+        StringBuilder builder = new StringBuilder(estimatedLength);
+        builder.append(segments[0]);
+        for (int i = 0; i < args.length; i++) {
+            builder.append(args[i]).append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+}
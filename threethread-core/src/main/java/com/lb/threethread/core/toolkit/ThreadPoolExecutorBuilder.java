@@ -1,6 +1,8 @@
 package com.lb.threethread.core.toolkit;
 
 import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadScheduledExecutor;
+import com.lb.threethread.core.executor.PrestartModeEnum;
 import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
 import lombok.Getter;
 
@@ -62,6 +64,16 @@ public class ThreadPoolExecutorBuilder {
      */
     private boolean allowCoreThreadTimeOut;
 
+    /**
+     * 任务执行超时时间（单位：毫秒），仅动态线程池生效
+     */
+    private Long executeTimeout;
+
+    /**
+     * 核心线程预启动模式，仅动态线程池生效
+     */
+    private PrestartModeEnum prestartMode;
+
     /**
      * 动态线程池标识
      */
@@ -194,6 +206,26 @@ public class ThreadPoolExecutorBuilder {
         return this;
     }
 
+    /**
+     * 设置任务执行超时时间，仅动态线程池生效
+     *
+     * @param executeTimeout 超时时间（单位：毫秒），小于等于 0 表示不限制
+     */
+    public ThreadPoolExecutorBuilder executeTimeout(long executeTimeout) {
+        this.executeTimeout = executeTimeout;
+        return this;
+    }
+
+    /**
+     * 设置核心线程预启动模式，仅动态线程池生效
+     *
+     * @param prestartMode 预启动模式，默认不预启动
+     */
+    public ThreadPoolExecutorBuilder prestartMode(PrestartModeEnum prestartMode) {
+        this.prestartMode = prestartMode;
+        return this;
+    }
+
     /**
      * 创建线程池构建器
      */
@@ -211,7 +243,7 @@ public class ThreadPoolExecutorBuilder {
 
         ThreadPoolExecutor threadPoolExecutor;
         if (dynamicPool) {
-            threadPoolExecutor = new OneThreadExecutor(
+            OneThreadExecutor oneThreadExecutor = new OneThreadExecutor(
                     threadPoolId,
                     corePoolSize,
                     maximumPoolSize,
@@ -221,6 +253,13 @@ public class ThreadPoolExecutorBuilder {
                     threadFactory,
                     rejectedHandler
             );
+            if (executeTimeout != null) {
+                oneThreadExecutor.setExecuteTimeout(executeTimeout);
+            }
+            if (prestartMode != null) {
+                prestartMode.apply(oneThreadExecutor);
+            }
+            threadPoolExecutor = oneThreadExecutor;
         } else {
             threadPoolExecutor = new ThreadPoolExecutor(
                     corePoolSize,
@@ -236,4 +275,32 @@ public class ThreadPoolExecutorBuilder {
         threadPoolExecutor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
         return threadPoolExecutor;
     }
+
+    /**
+     * 构建动态定时任务线程池实例
+     * <p>
+     * 定时任务线程池始终为动态线程池，必须设置线程池唯一标识
+     * </p>
+     */
+    public OneThreadScheduledExecutor buildScheduled() {
+        BlockingQueue<Runnable> blockingQueue = BlockingQueueTypeEnum.createBlockingQueue(workQueueType.getName(), workQueueCapacity);
+        RejectedExecutionHandler rejectedHandler = Optional.ofNullable(this.rejectedHandler)
+                .orElseGet(() -> new ThreadPoolExecutor.AbortPolicy());
+
+        OneThreadScheduledExecutor scheduledExecutor = new OneThreadScheduledExecutor(
+                threadPoolId,
+                corePoolSize,
+                maximumPoolSize,
+                keepAliveTime,
+                TimeUnit.SECONDS,
+                blockingQueue,
+                threadFactory,
+                rejectedHandler
+        );
+        if (executeTimeout != null) {
+            scheduledExecutor.setExecuteTimeout(executeTimeout);
+        }
+        scheduledExecutor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+        return scheduledExecutor;
+    }
 }
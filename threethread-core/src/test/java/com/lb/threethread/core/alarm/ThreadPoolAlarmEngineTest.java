@@ -0,0 +1,89 @@
+package com.lb.threethread.core.alarm;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.notification.service.NotifierService;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolAlarmEngineTest {
+
+    private final List<ThreadPoolAlarmDTO> alarms = new CopyOnWriteArrayList<>();
+
+    private final NotifierService notifierService = new NotifierService() {
+
+        @Override
+        public void sendChangeMessage(ThreadPoolConfigChangeDTO configChange) {
+        }
+
+        @Override
+        public void sendAlarmMessage(ThreadPoolAlarmDTO alarm) {
+            alarms.add(alarm);
+        }
+    };
+
+    @Test
+    void testQueueUsageAlarmIsRateLimited() {
+        OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-alarm-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.ARRAY_BLOCKING_QUEUE)
+                .workQueueCapacity(2)
+                .threadFactory("test-alarm-pool_")
+                .dynamicPool()
+                .build();
+        ThreadPoolExecutorProperties.AlarmConfig alarmConfig = new ThreadPoolExecutorProperties.AlarmConfig();
+        alarmConfig.setQueueThreshold(80);
+        alarmConfig.setQueueWaitP99Threshold(1000L);
+        OneThreadRegistry.put("test-alarm-pool", executor, new ThreadPoolExecutorProperties()
+                .setThreadPoolId("test-alarm-pool")
+                .setAlarm(alarmConfig));
+
+        ThreadPoolMetricsCollector collector = new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 10);
+        ThreadPoolAlarmEngine engine = new ThreadPoolAlarmEngine(collector, notifierService, "test", "alarm-test");
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> {
+            });
+            executor.execute(() -> {
+            });
+
+            collector.collect();
+            engine.evaluate();
+            engine.evaluate();
+
+            assertThat(alarms.size()).isEqualTo(1);
+            ThreadPoolAlarmDTO alarm = alarms.get(0);
+            assertThat(alarm.getAlarmType()).isEqualTo(ThreadPoolAlarmTypeEnum.QUEUE_USAGE.name());
+            assertThat(alarm.getCurrentValue()).isEqualTo(100L);
+            assertThat(alarm.getQueueSize()).isEqualTo(2L);
+            assertThat(executor.isQueueWaitTracking()).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.parser.ConfigFileTypeEnum;
+import com.lb.threethread.core.parser.ConfigParserHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ConfigChangeDetectorTest {
+
+    private static final String CONFIG = """
+            onethread:
+              config-file-type: yaml
+              executors:
+                - thread-pool-id: pool-a
+                  core-pool-size: 1
+                  maximum-pool-size: 2
+                - thread-pool-id: pool-b
+                  core-pool-size: 3
+                  maximum-pool-size: 4
+            """;
+
+    private final ConfigChangeDetector detector = new ConfigChangeDetector();
+
+    @Test
+    void testIdenticalContentIsSkippedAfterCommit() throws IOException {
+        String hash = ConfigChangeDetector.hash(CONFIG);
+        ConfigChangeDetector.ChangeSet changeSet = detector.detect(hash, parse(CONFIG));
+        assertThat(changeSet.isGlobalChanged()).isTrue();
+        assertThat(changeSet.getChangedExecutorCount()).isEqualTo(2);
+        assertThat(detector.isUnchanged(hash)).isFalse();
+
+        detector.commit(changeSet);
+        assertThat(detector.isUnchanged(ConfigChangeDetector.hash(CONFIG))).isTrue();
+    }
+
+    @Test
+    void testOnlyChangedExecutorSectionIsReturned() throws IOException {
+        detector.commit(detector.detect(ConfigChangeDetector.hash(CONFIG), parse(CONFIG)));
+
+        String changed = CONFIG.replace("core-pool-size: 3", "core-pool-size: 4");
+        ConfigChangeDetector.ChangeSet changeSet = detector.detect(ConfigChangeDetector.hash(changed), parse(changed));
+
+        assertThat(changeSet.isGlobalChanged()).isFalse();
+        assertThat(changeSet.getChangedExecutorCount()).isEqualTo(1);
+        Map<Object, Object> entries = changeSet.getChangedExecutorEntries();
+        assertThat(entries.get("onethread.executors[0].thread-pool-id")).isEqualTo("pool-b");
+        assertThat(entries.get("onethread.executors[0].core-pool-size")).isEqualTo("4");
+        assertThat(entries.containsKey("onethread.executors[1].thread-pool-id")).isFalse();
+    }
+
+    private static Map<Object, Object> parse(String content) throws IOException {
+        return ConfigParserHandler.getInstance().parseConfig(content, ConfigFileTypeEnum.YAML);
+    }
+}
@@ -0,0 +1,78 @@
+package com.lb.threethread.core.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ConfigRefreshExecutorTest {
+
+    private final ConfigRefreshExecutor executor = new ConfigRefreshExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testBurstCoalescesToLatestContent() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> applied = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(2);
+
+        executor.submit("nacos", "v1", content -> {
+            started.countDown();
+            try {
+                blocking.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            applied.add(content);
+            finished.countDown();
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 刷新进行中的连续推送只应用最新一次
+        for (int i = 2; i <= 5; i++) {
+            executor.submit("nacos", "v" + i, content -> {
+                applied.add(content);
+                finished.countDown();
+            });
+        }
+        blocking.countDown();
+
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+        while (executor.getAppliedCount() < 2L && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+        assertThat(applied).isEqualTo(List.of("v1", "v5"));
+        assertThat(executor.getReceivedCount()).isEqualTo(5L);
+        assertThat(executor.getCoalescedCount()).isEqualTo(3L);
+        assertThat(executor.getAppliedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void testFailedRefreshIsNotCountedAsApplied() throws InterruptedException {
+        CountDownLatch attempted = new CountDownLatch(1);
+        executor.submit("nacos", "broken", content -> {
+            attempted.countDown();
+            throw new IllegalArgumentException("expected");
+        });
+        assertThat(attempted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+        while (executor.getFailedCount() < 1L && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+        assertThat(executor.getFailedCount()).isEqualTo(1L);
+        assertThat(executor.getAppliedCount()).isEqualTo(0L);
+        assertThat(executor.getMaxRefreshLatencyMillis()).isEqualTo(0L);
+    }
+}
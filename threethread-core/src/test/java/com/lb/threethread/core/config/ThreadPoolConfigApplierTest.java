@@ -0,0 +1,205 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.executor.OneThreadForkJoinPool;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import com.lb.threethread.core.toolkit.ForkJoinPoolBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolConfigApplierTest {
+
+    private final ThreadPoolConfigApplier applier = new ThreadPoolConfigApplier();
+
+    private final List<String> registeredThreadPoolIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (String threadPoolId : registeredThreadPoolIds) {
+            ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+            if (holder != null) {
+                OneThreadRegistry.remove(threadPoolId, holder.getExecutor());
+                holder.getExecutor().shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testInvalidPoolRejectsWholeBatch() {
+        ThreadPoolExecutor first = register("test-apply-reject-a", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        register("test-apply-reject-b", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        ThreadPoolConfigApplier.ApplyResult result = applier.apply(List.of(
+                remote("test-apply-reject-a").setCorePoolSize(2).setMaximumPoolSize(4),
+                remote("test-apply-reject-b").setRejectedHandler("UnknownPolicy")));
+
+        assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.REJECTED);
+        assertThat(result.getErrors().size()).isEqualTo(1);
+        assertThat(first.getCorePoolSize()).isEqualTo(1);
+        assertThat(first.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(OneThreadRegistry.getHolder("test-apply-reject-a").getExecutorProperties().getCorePoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testApplyFailureRollsBackEarlierPools() {
+        ThreadPoolExecutor first = register("test-apply-rollback-a", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        register("test-apply-rollback-b", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+
+            @Override
+            public void setKeepAliveTime(long time, TimeUnit unit) {
+                if (time != 60L) {
+                    throw new IllegalStateException("keep alive time is locked");
+                }
+                super.setKeepAliveTime(time, unit);
+            }
+        });
+        ThreadPoolConfigApplier.ApplyResult result = applier.apply(List.of(
+                remote("test-apply-rollback-a").setCorePoolSize(3).setMaximumPoolSize(6).setKeepAliveTime(30L),
+                remote("test-apply-rollback-b").setKeepAliveTime(30L)));
+
+        assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.ROLLED_BACK);
+        assertThat(first.getCorePoolSize()).isEqualTo(1);
+        assertThat(first.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(first.getKeepAliveTime(TimeUnit.SECONDS)).isEqualTo(60L);
+    }
+
+    @Test
+    void testRolledBackApplyKeepsInFlightRamp() {
+        ThreadPoolResizeRamper ramper = new ThreadPoolResizeRamper();
+        ThreadPoolConfigApplier rampApplier = new ThreadPoolConfigApplier(ramper);
+        ThreadPoolExecutor first = register("test-apply-ramp-a", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        register("test-apply-ramp-b", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+
+            @Override
+            public void setKeepAliveTime(long time, TimeUnit unit) {
+                if (time != 60L) {
+                    throw new IllegalStateException("keep alive time is locked");
+                }
+                super.setKeepAliveTime(time, unit);
+            }
+        });
+        ThreadPoolExecutorProperties.RampConfig rampConfig = new ThreadPoolExecutorProperties.RampConfig();
+        rampConfig.setEnable(true);
+        rampConfig.setDuration(3600L);
+        try {
+            ramper.start(OneThreadRegistry.getHolder("test-apply-ramp-a"), rampConfig, 1, 8, null);
+
+            ThreadPoolConfigApplier.ApplyResult result = rampApplier.apply(List.of(
+                    remote("test-apply-ramp-a").setCorePoolSize(3).setMaximumPoolSize(6),
+                    remote("test-apply-ramp-b").setKeepAliveTime(30L)));
+
+            assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.ROLLED_BACK);
+            assertThat(first.getCorePoolSize()).isEqualTo(1);
+            assertThat(first.getMaximumPoolSize()).isEqualTo(2);
+            assertThat(ramper.isRamping("test-apply-ramp-a")).isTrue();
+        } finally {
+            ramper.shutdown();
+        }
+    }
+
+    @Test
+    void testSuccessfulApplyCommitsProperties() {
+        ThreadPoolExecutor executor = register("test-apply-success", new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        ThreadPoolConfigApplier.ApplyResult result = applier.apply(List.of(
+                remote("test-apply-success").setCorePoolSize(4).setMaximumPoolSize(8).setRejectedHandler("CallerRunsPolicy")));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChanges().size()).isEqualTo(1);
+        assertThat(result.getChanges().get(0).getOriginalProperties().getCorePoolSize()).isEqualTo(1);
+        assertThat(executor.getCorePoolSize()).isEqualTo(4);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(8);
+        assertThat(executor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+        assertThat(OneThreadRegistry.getHolder("test-apply-success").getExecutorProperties().getCorePoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    void testWorkQueueTypeChangeMigratesQueuedTasks() throws InterruptedException {
+        ThreadPoolExecutor executor = register("test-apply-work-queue", new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new SwappableBlockingQueue<>(new LinkedBlockingQueue<>(10))));
+        OneThreadRegistry.getHolder("test-apply-work-queue").getExecutorProperties()
+                .setWorkQueue("LinkedBlockingQueue")
+                .setQueueCapacity(10);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 5; i++) {
+                executor.execute(completed::incrementAndGet);
+            }
+
+            ThreadPoolConfigApplier.ApplyResult result = applier.apply(List.of(
+                    remote("test-apply-work-queue").setWorkQueue("ResizableCapacityLinkedBlockingQueue").setQueueCapacity(20)));
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(SwappableBlockingQueue.unwrap(executor.getQueue())).isInstanceOf(ResizableCapacityLinkedBlockingQueue.class);
+            assertThat(executor.getQueue().size()).isEqualTo(5);
+            assertThat(executor.getQueue().remainingCapacity()).isEqualTo(15);
+
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(completed.get()).isEqualTo(5);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testForkJoinParallelismChangeKeepsPoolInstance() {
+        OneThreadForkJoinPool pool = (OneThreadForkJoinPool) ForkJoinPoolBuilder.builder()
+                .threadPoolId("test-apply-fork-join")
+                .parallelism(2)
+                .dynamicPool()
+                .build();
+        OneThreadRegistry.putForkJoinPool("test-apply-fork-join", pool, new ThreadPoolExecutorProperties()
+                .setThreadPoolId("test-apply-fork-join")
+                .setParallelism(2));
+        try {
+            ThreadPoolConfigApplier.ApplyResult result = applier.apply(List.of(remote("test-apply-fork-join").setParallelism(4)));
+
+            // 低版本 JDK 拒绝运行时调整并行度，不替换线程池实例
+            assertThat(result.isSuccess()).isEqualTo(OneThreadForkJoinPool.isParallelismAdjustable());
+            assertThat(OneThreadRegistry.getForkJoinPoolHolder("test-apply-fork-join").getPool()).isSameAs(pool);
+            assertThat(pool.isShutdown()).isFalse();
+            assertThat(pool.getParallelism()).isEqualTo(OneThreadForkJoinPool.isParallelismAdjustable() ? 4 : 2);
+        } finally {
+            OneThreadRegistry.removeForkJoinPool("test-apply-fork-join", pool);
+            pool.shutdownNow();
+        }
+    }
+
+    private ThreadPoolExecutor register(String threadPoolId, ThreadPoolExecutor executor) {
+        registeredThreadPoolIds.add(threadPoolId);
+        OneThreadRegistry.put(threadPoolId, executor, new ThreadPoolExecutorProperties()
+                .setThreadPoolId(threadPoolId)
+                .setCorePoolSize(executor.getCorePoolSize())
+                .setMaximumPoolSize(executor.getMaximumPoolSize())
+                .setKeepAliveTime(executor.getKeepAliveTime(TimeUnit.SECONDS))
+                .setAllowCoreThreadTimeOut(false)
+                .setRejectedHandler("AbortPolicy"));
+        return executor;
+    }
+
+    private ThreadPoolExecutorProperties remote(String threadPoolId) {
+        return new ThreadPoolExecutorProperties().setThreadPoolId(threadPoolId);
+    }
+
+}
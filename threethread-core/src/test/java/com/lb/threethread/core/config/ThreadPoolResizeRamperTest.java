@@ -0,0 +1,119 @@
+package com.lb.threethread.core.config;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolResizeRamperTest {
+
+    @Test
+    void testRampReachesTargetInSteps() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 20, 60L, TimeUnit.SECONDS, new ResizableCapacityLinkedBlockingQueue<>(1000));
+        ThreadPoolExecutorHolder holder = new ThreadPoolExecutorHolder("test-ramp-down", executor, new ThreadPoolExecutorProperties().setThreadPoolId("test-ramp-down"));
+        ThreadPoolResizeRamper ramper = new ThreadPoolResizeRamper();
+        try {
+            ramper.start(holder, rampConfig(4), 1, 4, 100);
+            assertThat(ramper.isRamping("test-ramp-down")).isTrue();
+
+            // 第一个间隔仅记录基线，之后分 4 步调整到目标值
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (ramper.isRamping("test-ramp-down") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertThat(ramper.isRamping("test-ramp-down")).isFalse();
+            assertThat(executor.getCorePoolSize()).isEqualTo(1);
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(4);
+            assertThat(executor.getQueue().remainingCapacity()).isEqualTo(100);
+        } finally {
+            ramper.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRampAbortsWhenRejectionsRegress() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 20, 60L, TimeUnit.SECONDS, new ResizableCapacityLinkedBlockingQueue<>(1000));
+        ThreadPoolExecutorHolder holder = new ThreadPoolExecutorHolder("test-ramp-abort", executor, new ThreadPoolExecutorProperties().setThreadPoolId("test-ramp-abort")) {
+
+            private int samples;
+
+            @Override
+            public long getRejectCount() {
+                // 创建调整、记录基线时无拒绝，第一步调整后出现拒绝
+                return samples++ < 2 ? 0L : 10L;
+            }
+        };
+        ThreadPoolResizeRamper ramper = new ThreadPoolResizeRamper();
+        try {
+            ramper.start(holder, rampConfig(4), 2, 4, null);
+
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (ramper.isRamping("test-ramp-abort") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertThat(ramper.isRamping("test-ramp-abort")).isFalse();
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(20);
+            assertThat(holder.getExecutorProperties().getMaximumPoolSize()).isEqualTo(20);
+        } finally {
+            ramper.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRampHoldsQueueWaitTrackingWhileActive() {
+        OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-ramp-queue-wait")
+                .corePoolSize(2)
+                .maximumPoolSize(4)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(100)
+                .threadFactory("test-ramp-queue-wait_")
+                .dynamicPool()
+                .build();
+        ThreadPoolExecutorHolder holder = new ThreadPoolExecutorHolder("test-ramp-queue-wait", executor, new ThreadPoolExecutorProperties().setThreadPoolId("test-ramp-queue-wait"));
+        ThreadPoolExecutorProperties.RampConfig config = rampConfig(4);
+        config.setDuration(3600L);
+        config.setQueueWaitP99Ratio(2.0D);
+        ThreadPoolResizeRamper ramper = new ThreadPoolResizeRamper();
+        try {
+            executor.retainQueueWaitTracking();
+            ramper.start(holder, config, 1, 8, null);
+            assertThat(executor.isQueueWaitTracking()).isTrue();
+
+            // 调整结束只释放调整器自身的引用
+            ramper.cancel("test-ramp-queue-wait");
+            assertThat(executor.isQueueWaitTracking()).isTrue();
+            executor.releaseQueueWaitTracking();
+            assertThat(executor.isQueueWaitTracking()).isFalse();
+
+            ramper.start(holder, config, 1, 8, null);
+            assertThat(executor.isQueueWaitTracking()).isTrue();
+            ramper.cancel("test-ramp-queue-wait");
+            assertThat(executor.isQueueWaitTracking()).isFalse();
+        } finally {
+            ramper.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    private ThreadPoolExecutorProperties.RampConfig rampConfig(int steps) {
+        ThreadPoolExecutorProperties.RampConfig config = new ThreadPoolExecutorProperties.RampConfig();
+        config.setEnable(Boolean.TRUE);
+        config.setDuration(1L);
+        config.setSteps(steps);
+        return config;
+    }
+}
@@ -0,0 +1,347 @@
+package com.lb.threethread.core.executor;
+
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.QueueContentionStats;
+import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
+import com.lb.threethread.core.executor.support.SwappableBlockingQueue;
+import com.lb.threethread.core.executor.support.TaskResourceAccounting;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OneThreadExecutorTest {
+
+    private final OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+            .threadPoolId("test-timeout-pool")
+            .corePoolSize(1)
+            .maximumPoolSize(1)
+            .keepAliveTime(60L)
+            .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+            .workQueueCapacity(16)
+            .threadFactory("test-timeout-pool_")
+            .executeTimeout(100L)
+            .dynamicPool()
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testDefaultExecuteTimeoutInterruptsTask() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        executor.execute(() -> {
+            try {
+                TimeUnit.SECONDS.sleep(5);
+            } catch (InterruptedException ex) {
+                interrupted.set(true);
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted.get()).isTrue();
+        assertThat(executor.getExecuteTimeoutCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testFastTaskNotTimedOut() throws Exception {
+        Future<String> future = executor.submit(() -> "ok");
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+        // 后续任务不应受到已完成任务超时守卫的影响
+        Future<Boolean> next = executor.submit(() -> {
+            TimeUnit.MILLISECONDS.sleep(20);
+            return Thread.currentThread().isInterrupted();
+        });
+        assertThat(next.get(1, TimeUnit.SECONDS)).isFalse();
+        assertThat(executor.getExecuteTimeoutCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void testPerTaskTimeoutCancelsFuture() {
+        executor.setExecuteTimeout(0L);
+        Future<String> future = executor.submit(() -> {
+            TimeUnit.SECONDS.sleep(5);
+            return "late";
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertThrows(CancellationException.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertThat(executor.getExecuteTimeoutCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void testSwapWorkQueueAndResizeWithoutReflection() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> {
+        });
+
+        assertThat(executor.setQueueCapacity(32)).isFalse();
+        assertThat(executor.swapWorkQueue(new ResizableCapacityLinkedBlockingQueue<>(4))).isInstanceOf(LinkedBlockingQueue.class);
+        assertThat(executor.getWorkQueueDelegate()).isInstanceOf(ResizableCapacityLinkedBlockingQueue.class);
+        assertThat(executor.getQueue().size()).isEqualTo(1);
+        assertThat(executor.setQueueCapacity(8)).isTrue();
+        assertThat(executor.getQueue().remainingCapacity()).isEqualTo(7);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getCompletedTaskCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void testDefaultBuiltPoolSupportsWorkQueueSwap() {
+        OneThreadExecutor fixedQueueExecutor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-fixed-queue-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(16)
+                .threadFactory("test-fixed-queue-pool_")
+                .dynamicPool()
+                .build();
+        try {
+            // 未显式包装的工作队列在构造时同样包装为可替换队列
+            assertThat(fixedQueueExecutor.getQueue()).isInstanceOf(SwappableBlockingQueue.class);
+            assertThat(fixedQueueExecutor.getWorkQueueDelegate()).isInstanceOf(LinkedBlockingQueue.class);
+            fixedQueueExecutor.swapWorkQueue(new ArrayBlockingQueue<>(4));
+            assertThat(fixedQueueExecutor.getWorkQueueDelegate()).isInstanceOf(ArrayBlockingQueue.class);
+        } finally {
+            fixedQueueExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testQueueContentionTrackingFollowsQueueSwap() throws InterruptedException {
+        executor.setQueueContentionTracking(true);
+        assertThat(executor.getQueueContentionStats()).isNull();
+
+        ResizableCapacityLinkedBlockingQueue<Runnable> resizableQueue = new ResizableCapacityLinkedBlockingQueue<>(8);
+        executor.swapWorkQueue(resizableQueue);
+        QueueContentionStats stats = executor.getQueueContentionStats();
+        assertThat(stats).isNotNull();
+        assertThat(resizableQueue.getContentionStats()).isSameAs(stats);
+
+        CountDownLatch finished = new CountDownLatch(2);
+        executor.execute(finished::countDown);
+        executor.execute(finished::countDown);
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        long putLockAcquireCount = stats.getPutLockAcquireCount();
+        assertThat(putLockAcquireCount).isGreaterThan(0L);
+        assertThat(stats.getTakeLockAcquireCount()).isGreaterThan(0L);
+
+        // 替换队列后沿用同一统计对象，旧队列停止统计
+        ResizableCapacityLinkedBlockingQueue<Runnable> replacement = new ResizableCapacityLinkedBlockingQueue<>(8);
+        executor.swapWorkQueue(replacement);
+        assertThat(executor.getQueueContentionStats()).isSameAs(stats);
+        assertThat(resizableQueue.getContentionStats()).isNull();
+        assertThat(stats.getPutLockAcquireCount()).isGreaterThanOrEqualTo(putLockAcquireCount);
+
+        executor.setQueueContentionTracking(false);
+        assertThat(executor.getQueueContentionStats()).isNull();
+        assertThat(replacement.getContentionStats()).isNull();
+    }
+
+    @Test
+    void testPrestartOnFirstUse() throws InterruptedException {
+        OneThreadExecutor lazyExecutor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-prestart-pool")
+                .corePoolSize(3)
+                .maximumPoolSize(3)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(16)
+                .threadFactory("test-prestart-pool_")
+                .prestartMode(PrestartModeEnum.FIRST_USE)
+                .dynamicPool()
+                .build();
+        try {
+            assertThat(lazyExecutor.getPoolSize()).isEqualTo(0);
+
+            lazyExecutor.execute(() -> {
+            });
+
+            assertThat(lazyExecutor.getPoolSize()).isEqualTo(3);
+        } finally {
+            lazyExecutor.shutdownNow();
+            lazyExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testTaskExecutionListenerReceivesTimings() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicLong queueWaitNanos = new AtomicLong();
+        AtomicLong executeNanos = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        executor.retainQueueWaitTracking();
+        executor.addTaskExecutionListener((queueWait, execute, taskFailed) -> {
+            queueWaitNanos.set(queueWait);
+            executeNanos.set(execute);
+            failed.compareAndSet(false, taskFailed);
+            latch.countDown();
+        });
+
+        executor.execute(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> {
+            throw new IllegalStateException("expected");
+        });
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(queueWaitNanos.get()).isGreaterThan(0L);
+        assertThat(executeNanos.get()).isGreaterThanOrEqualTo(0L);
+        assertThat(failed.get()).isTrue();
+    }
+
+    @Test
+    void testQueueWaitTrackingKeepsTaskIdentity() throws InterruptedException {
+        List<Runnable> rejected = new CopyOnWriteArrayList<>();
+        OneThreadExecutor trackedExecutor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-queue-wait-identity-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.ARRAY_BLOCKING_QUEUE)
+                .workQueueCapacity(3)
+                .threadFactory("test-queue-wait-identity-pool_")
+                .rejectedHandler((r, e) -> rejected.add(r))
+                .dynamicPool()
+                .build();
+        trackedExecutor.retainQueueWaitTracking();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            trackedExecutor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> future = trackedExecutor.submit(() -> {
+            });
+            Runnable removable = () -> {
+            };
+            Runnable queued = () -> {
+            };
+            Runnable overflow = () -> {
+            };
+            trackedExecutor.execute(removable);
+            trackedExecutor.execute(queued);
+            trackedExecutor.execute(overflow);
+
+            assertThat(rejected.size()).isEqualTo(1);
+            assertThat(rejected.get(0)).isSameAs(overflow);
+            assertThat(trackedExecutor.getQueue().contains(future)).isTrue();
+            assertThat(trackedExecutor.remove(removable)).isTrue();
+
+            List<Runnable> pending = trackedExecutor.shutdownNow();
+            assertThat(pending.size()).isEqualTo(2);
+            assertThat(pending.get(0)).isSameAs(future);
+            assertThat(pending.get(1)).isSameAs(queued);
+        } finally {
+            release.countDown();
+            trackedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testResourceAccountingByTaskClass() throws Exception {
+        assertThat(executor.isResourceAccountingEnabled()).isFalse();
+        assertThat(executor.getResourceAccounting().getTotal().getTaskCount()).isEqualTo(0L);
+        executor.setResourceAccounting(true, 1, 1);
+        executor.execute(() -> {
+            byte[] buffer = new byte[1024];
+            buffer[0] = 1;
+        });
+        executor.submit(new SleepTask()).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        TaskResourceAccounting accounting = executor.getResourceAccounting();
+        assertThat(accounting).isNotNull();
+        assertThat(accounting.getTotal().getTaskCount()).isEqualTo(2L);
+        assertThat(accounting.getTotal().getWallTimeNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        // 任务类数量上限为 1，先执行的 Lambda 占用任务类名额，submit 提交的任务计入 other
+        assertThat(accounting.getTaskClassUsages().size()).isEqualTo(2);
+        assertThat(accounting.getTaskClassUsages().get(TaskResourceAccounting.OTHER_TASK_CLASS).getTaskCount()).isEqualTo(1L);
+
+        // 关闭统计后保留累计值，指标计数不会回落
+        executor.setResourceAccounting(false, 1, 0);
+        assertThat(executor.isResourceAccountingEnabled()).isFalse();
+        assertThat(executor.getResourceAccounting()).isSameAs(accounting);
+        assertThat(accounting.getTotal().getTaskCount()).isEqualTo(2L);
+    }
+
+    private static final class SleepTask implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    void testRegistryListenerFollowsRegisterAndRemove() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        ThreadPoolRegistryListener listener = new ThreadPoolRegistryListener() {
+
+            @Override
+            public void onRegistered(ThreadPoolExecutorHolder holder) {
+                events.add("registered:" + holder.getThreadPoolId());
+            }
+
+            @Override
+            public void onRemoved(ThreadPoolExecutorHolder holder) {
+                events.add("removed:" + holder.getThreadPoolId());
+            }
+        };
+        OneThreadRegistry.addListener(listener);
+        try {
+            OneThreadRegistry.put("test-listener-pool", executor, new ThreadPoolExecutorProperties().setThreadPoolId("test-listener-pool"));
+            // 实例不一致时不移除
+            assertThat(OneThreadRegistry.remove("test-listener-pool", new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS, new LinkedBlockingQueue<>()))).isNull();
+            assertThat(OneThreadRegistry.remove("test-listener-pool", executor)).isNotNull();
+            assertThat(OneThreadRegistry.getHolder("test-listener-pool")).isNull();
+            assertThat(events.contains("registered:test-listener-pool")).isTrue();
+            assertThat(events.get(events.size() - 1)).isEqualTo("removed:test-listener-pool");
+        } finally {
+            OneThreadRegistry.removeListener(listener);
+        }
+    }
+}
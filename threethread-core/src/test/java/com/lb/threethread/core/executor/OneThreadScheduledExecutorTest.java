@@ -0,0 +1,118 @@
+package com.lb.threethread.core.executor;
+
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OneThreadScheduledExecutorTest {
+
+    private final OneThreadScheduledExecutor executor = ThreadPoolExecutorBuilder.builder()
+            .threadPoolId("test-scheduled-pool")
+            .corePoolSize(2)
+            .maximumPoolSize(2)
+            .keepAliveTime(60L)
+            .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+            .threadFactory("test-scheduled-pool_")
+            .buildScheduled();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testScheduleCallable() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<String> future = executor.schedule(() -> "done", 50, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(2, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(40L);
+    }
+
+    @Test
+    void testScheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(latch::countDown, 0, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    void testCancelBeforeDue() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = executor.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(executor.getScheduledTaskCount()).isEqualTo(0L);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(counter.get()).isEqualTo(0);
+    }
+
+    @Test
+    void testShutdownCancelsPendingTasks() {
+        ScheduledFuture<?> future = executor.schedule(() -> {
+        }, 10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThrows(CancellationException.class, () -> future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRejectedWhenDueCompletesFutureWithoutRunningOnTimerThread() throws InterruptedException {
+        OneThreadScheduledExecutor saturatedExecutor = ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-scheduled-reject-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.ARRAY_BLOCKING_QUEUE)
+                .workQueueCapacity(1)
+                .threadFactory("test-scheduled-reject-pool_")
+                .rejectedHandler(new ThreadPoolExecutor.CallerRunsPolicy())
+                .buildScheduled();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger counter = new AtomicInteger();
+        try {
+            saturatedExecutor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            saturatedExecutor.execute(() -> {
+            });
+            ScheduledFuture<?> future = saturatedExecutor.scheduleAtFixedRate(counter::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+            assertThat(ex.getCause()).isInstanceOf(RejectedExecutionException.class);
+            assertThat(counter.get()).isEqualTo(0);
+            assertThat(saturatedExecutor.getRejectCount()).isEqualTo(1L);
+        } finally {
+            release.countDown();
+            saturatedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCorePoolSizeAdjustable() {
+        executor.setMaximumPoolSize(8);
+        executor.setCorePoolSize(8);
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,67 @@
+package com.lb.threethread.core.executor.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class SwappableBlockingQueueTest {
+
+    @Test
+    void testSwapToSmallerQueueKeepsOrderWithoutLoss() {
+        SwappableBlockingQueue<Integer> queue = new SwappableBlockingQueue<>(new LinkedBlockingQueue<>(10));
+        for (int i = 1; i <= 5; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+
+        queue.swap(new ResizableCapacityLinkedBlockingQueue<>(2));
+
+        assertThat(queue.size()).isEqualTo(5);
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+        List<Integer> drained = new ArrayList<>();
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            drained.add(element);
+        }
+        assertThat(drained).isEqualTo(List.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void testIdleWorkerSwitchesToNewQueueAfterWakeUp() throws InterruptedException {
+        SwappableBlockingQueue<Runnable> queue = new SwappableBlockingQueue<>(new LinkedBlockingQueue<>());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, queue);
+        try {
+            executor.prestartAllCoreThreads();
+            TimeUnit.MILLISECONDS.sleep(100L);
+
+            BlockingQueue<Runnable> previous = queue.swap(new SynchronousQueue<>(), executor.getPoolSize());
+
+            // 空闲工作线程切换到新的同步队列后才能完成移交
+            CountDownLatch executed = new CountDownLatch(1);
+            boolean handedOff = false;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+            while (!handedOff && System.nanoTime() < deadline) {
+                handedOff = queue.offer(executed::countDown, 10L, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(handedOff).isTrue();
+            assertThat(executed.await(5L, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor.getKeepAliveTime(TimeUnit.SECONDS)).isEqualTo(60L);
+
+            // 替换回原队列时清除其中残留的唤醒标记
+            queue.swap(previous, executor.getPoolSize());
+            assertThat(queue.size()).isEqualTo(0);
+            assertThat(queue.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
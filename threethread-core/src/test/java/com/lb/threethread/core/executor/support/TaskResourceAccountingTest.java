@@ -0,0 +1,48 @@
+package com.lb.threethread.core.executor.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TaskResourceAccountingTest {
+
+    @Test
+    void testHiddenTaskClassesWithSameNameAreSummed() throws Exception {
+        // 同一份字节码定义两次隐藏类，去掉地址后缀后类名相同，模拟同一位置的多个 Lambda 类
+        Class<?> first = defineHiddenTask();
+        Class<?> second = defineHiddenTask();
+        assertThat(first == second).isFalse();
+
+        TaskResourceAccounting accounting = new TaskResourceAccounting();
+        accounting.configure(1, 10);
+        accounting.record(first, 100L, 1000L, 10L);
+        accounting.record(second, 200L, 2000L, 20L);
+        accounting.record(second, 300L, 3000L, 30L);
+
+        Map<String, TaskResourceUsage> usages = accounting.getTaskClassUsages();
+        assertThat(usages.size()).isEqualTo(1);
+        TaskResourceUsage usage = usages.get(HiddenTask.class.getName());
+        assertThat(usage.getTaskCount()).isEqualTo(3L);
+        assertThat(usage.getWallTimeNanos()).isEqualTo(6000L);
+        assertThat(usage.getCpuTimeNanos()).isEqualTo(600L);
+        assertThat(usage.getAllocatedBytes()).isEqualTo(60L);
+        assertThat(accounting.getTotal().getTaskCount()).isEqualTo(3L);
+    }
+
+    private static Class<?> defineHiddenTask() throws Exception {
+        try (InputStream in = HiddenTask.class.getResourceAsStream("HiddenTask.class")) {
+            return MethodHandles.lookup().defineHiddenClass(in.readAllBytes(), false).lookupClass();
+        }
+    }
+}
+
+final class HiddenTask implements Runnable {
+
+    @Override
+    public void run() {
+    }
+}
@@ -0,0 +1,68 @@
+package com.lb.threethread.core.monitor;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.executor.support.SlowTask;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class SlowTaskDetectorTest {
+
+    @Test
+    void testSlowTaskCountedOnceWithRateLimitedStack() throws InterruptedException {
+        String threadPoolId = "test-slow-task-pool";
+        OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId(threadPoolId)
+                .corePoolSize(2)
+                .maximumPoolSize(2)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(16)
+                .threadFactory("test-slow-task-pool_")
+                .dynamicPool()
+                .build();
+        executor.setSlowTaskThreshold(50L);
+        OneThreadRegistry.put(threadPoolId, executor, new ThreadPoolExecutorProperties().setThreadPoolId(threadPoolId));
+        SlowTaskDetector detector = new SlowTaskDetector(new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 4), 1, TimeUnit.MINUTES);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            executor.execute(() -> {
+            });
+            TimeUnit.MILLISECONDS.sleep(150);
+
+            List<SlowTask> slowTasks = detector.detect().stream()
+                    .filter(each -> threadPoolId.equals(each.getThreadPoolId()))
+                    .toList();
+            assertThat(slowTasks.size()).isEqualTo(2);
+            assertThat(slowTasks.get(0).getElapsedMillis()).isGreaterThanOrEqualTo(50L);
+            // 同一线程池在采集间隔内只采集一次堆栈
+            assertThat(slowTasks.stream().filter(each -> each.getStackTrace() != null).count()).isEqualTo(1L);
+            assertThat(executor.getSlowTaskCount()).isEqualTo(2L);
+
+            // 同一任务不重复计数
+            assertThat(executor.detectSlowTasks().isEmpty()).isTrue();
+            assertThat(executor.getSlowTaskCount()).isEqualTo(2L);
+        } finally {
+            release.countDown();
+            OneThreadRegistry.remove(threadPoolId, executor);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.lb.threethread.core.monitor;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ThreadPoolMetricsCollectorTest {
+
+    @Test
+    void testSeriesOverwritesOldestSample() {
+        ThreadPoolMetricsSeries series = new ThreadPoolMetricsSeries("test-series", 3);
+        long[] sample = new long[ThreadPoolMetricTypeEnum.values().length];
+        for (int i = 1; i <= 5; i++) {
+            sample[ThreadPoolMetricTypeEnum.ACTIVE_COUNT.ordinal()] = i * 10L;
+            sample[ThreadPoolMetricTypeEnum.REJECT_COUNT.ordinal()] = i * 2L;
+            series.record(i, sample);
+        }
+
+        assertThat(series.size()).isEqualTo(3);
+        assertArrayEquals(new long[]{30L, 40L, 50L}, series.recent(ThreadPoolMetricTypeEnum.ACTIVE_COUNT, 10));
+        assertArrayEquals(new long[]{4L, 5L}, series.recentTimestamps(2));
+        assertThat(series.latest(ThreadPoolMetricTypeEnum.ACTIVE_COUNT)).isEqualTo(50L);
+        assertThat(series.peak(ThreadPoolMetricTypeEnum.ACTIVE_COUNT, 2)).isEqualTo(50L);
+        assertThat(series.delta(ThreadPoolMetricTypeEnum.REJECT_COUNT, 1)).isEqualTo(2L);
+        assertThat(series.delta(ThreadPoolMetricTypeEnum.REJECT_COUNT, 10)).isEqualTo(4L);
+    }
+
+    @Test
+    void testLatencyHistogramPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        long p99 = histogram.percentileAndReset(0.99D);
+        assertThat(p99).isBetween(64L, 128L);
+        assertThat(histogram.percentileAndReset(0.99D)).isEqualTo(0L);
+    }
+
+    @Test
+    void testCollectRegisteredPoolWithRejections() throws InterruptedException {
+        OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-metrics-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.ARRAY_BLOCKING_QUEUE)
+                .workQueueCapacity(1)
+                .threadFactory("test-metrics-pool_")
+                .rejectedHandler(new ThreadPoolExecutor.AbortPolicy())
+                .dynamicPool()
+                .build();
+        OneThreadRegistry.put("test-metrics-pool", executor, new ThreadPoolExecutorProperties());
+        ThreadPoolMetricsCollector collector = new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> {
+            });
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+            }));
+            assertThat(executor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+
+            collector.collect();
+            ThreadPoolMetricsSeries series = collector.getSeries("test-metrics-pool");
+            assertThat(series.latest(ThreadPoolMetricTypeEnum.QUEUE_SIZE)).isEqualTo(1L);
+            assertThat(series.latest(ThreadPoolMetricTypeEnum.QUEUE_CAPACITY)).isEqualTo(1L);
+            assertThat(series.latest(ThreadPoolMetricTypeEnum.REJECT_COUNT)).isEqualTo(1L);
+            assertThat(collector.peak("test-metrics-pool", ThreadPoolMetricTypeEnum.ACTIVE_COUNT, 1, TimeUnit.MINUTES)).isEqualTo(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lb.threethread.core.monitor.jfr;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ThreadPoolJfrEventsTest {
+
+    @Test
+    void testPoolLifecycleEventsRecorded() throws Exception {
+        OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+                .threadPoolId("test-jfr-pool")
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60L)
+                .workQueueType(BlockingQueueTypeEnum.RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE)
+                .workQueueCapacity(1)
+                .threadFactory("test-jfr-pool_")
+                .dynamicPool()
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        Path dump = Files.createTempFile("threethread-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskEnqueuedEvent.class);
+            recording.enable(TaskExecutionEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TaskRejectedEvent.class);
+            recording.enable(PoolResizedEvent.class);
+            recording.enable(QueueCapacityChangedEvent.class);
+            recording.start();
+
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+            }));
+            executor.setMaximumPoolSize(2);
+            executor.setQueueCapacity(4);
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+        assertThat(count(events, "com.lb.threethread.TaskEnqueued")).isEqualTo(2L);
+        assertThat(count(events, "com.lb.threethread.TaskExecution")).isEqualTo(2L);
+        assertThat(count(events, "com.lb.threethread.TaskRejected")).isEqualTo(1L);
+        assertThat(count(events, "com.lb.threethread.PoolResized")).isEqualTo(1L);
+        assertThat(count(events, "com.lb.threethread.QueueCapacityChanged")).isEqualTo(1L);
+        RecordedEvent resized = events.stream()
+                .filter(each -> each.getEventType().getName().equals("com.lb.threethread.PoolResized"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(resized.getString("threadPoolId")).isEqualTo("test-jfr-pool");
+        assertThat(resized.getInt("previousMaximumPoolSize")).isEqualTo(1);
+        assertThat(resized.getInt("maximumPoolSize")).isEqualTo(2);
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(each -> each.getEventType().getName().equals(name)).count();
+    }
+}
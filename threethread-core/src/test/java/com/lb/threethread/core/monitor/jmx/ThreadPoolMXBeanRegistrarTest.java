@@ -0,0 +1,94 @@
+package com.lb.threethread.core.monitor.jmx;
+
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolMXBeanRegistrarTest {
+
+    @Test
+    void testMBeanExposesMetricsAndAppliesUpdates() throws Exception {
+        String threadPoolId = "test-jmx-pool";
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(8));
+        OneThreadRegistry.put(threadPoolId, executor, new ThreadPoolExecutorProperties()
+                .setThreadPoolId(threadPoolId)
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(2)
+                .setKeepAliveTime(60L)
+                .setAllowCoreThreadTimeOut(false)
+                .setRejectedHandler("AbortPolicy"));
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        ConfigRefreshExecutor refreshExecutor = new ConfigRefreshExecutor();
+        ThreadPoolMXBeanRegistrar registrar = new ThreadPoolMXBeanRegistrar(mBeanServer,
+                new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 4), new ThreadPoolConfigApplier()::apply, refreshExecutor);
+        try {
+            registrar.start();
+            ObjectName name = ThreadPoolMXBeanRegistrar.objectName(threadPoolId);
+            assertThat(mBeanServer.isRegistered(name)).isTrue();
+            assertThat(mBeanServer.getAttribute(ThreadPoolMXBeanRegistrar.configRefreshObjectName(), "ReceivedCount")).isEqualTo(0L);
+            assertThat(mBeanServer.getAttribute(name, "CorePoolSize")).isEqualTo(1);
+            assertThat(mBeanServer.getAttribute(name, "QueueCapacity")).isEqualTo(8);
+
+            Object result = mBeanServer.invoke(name, "updatePoolSize", new Object[]{4, 6}, new String[]{"int", "int"});
+            assertThat(result).isEqualTo("status=SUCCESS, changedPools=1");
+            assertThat(executor.getCorePoolSize()).isEqualTo(4);
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(6);
+            assertThat(OneThreadRegistry.getHolder(threadPoolId).getExecutorProperties().getCorePoolSize()).isEqualTo(4);
+
+            // 校验失败时不修改线程池
+            Object rejected = mBeanServer.invoke(name, "updateMaximumPoolSize", new Object[]{2}, new String[]{"int"});
+            assertThat(rejected.toString()).startsWith("status=REJECTED");
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(6);
+
+            registrar.shutdown();
+            assertThat(mBeanServer.isRegistered(name)).isFalse();
+            assertThat(mBeanServer.isRegistered(ThreadPoolMXBeanRegistrar.configRefreshObjectName())).isFalse();
+        } finally {
+            registrar.shutdown();
+            refreshExecutor.shutdown();
+            OneThreadRegistry.remove(threadPoolId, executor);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMBeanFollowsRegistryEvents() throws Exception {
+        String threadPoolId = "test-jmx-late-pool";
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        ThreadPoolMXBeanRegistrar registrar = new ThreadPoolMXBeanRegistrar(mBeanServer,
+                new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 4), new ThreadPoolConfigApplier()::apply, null);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(4));
+        try {
+            registrar.start();
+            ObjectName name = ThreadPoolMXBeanRegistrar.objectName(threadPoolId);
+            assertThat(mBeanServer.isRegistered(name)).isFalse();
+
+            // 启动后注册的线程池无需等待指标采集即可通过 JMX 访问
+            OneThreadRegistry.put(threadPoolId, executor, new ThreadPoolExecutorProperties()
+                    .setThreadPoolId(threadPoolId)
+                    .setCorePoolSize(1)
+                    .setMaximumPoolSize(1));
+            assertThat(mBeanServer.isRegistered(name)).isTrue();
+            assertThat(mBeanServer.isRegistered(ThreadPoolMXBeanRegistrar.configRefreshObjectName())).isFalse();
+
+            OneThreadRegistry.remove(threadPoolId, executor);
+            assertThat(mBeanServer.isRegistered(name)).isFalse();
+        } finally {
+            registrar.shutdown();
+            OneThreadRegistry.remove(threadPoolId, executor);
+            executor.shutdownNow();
+        }
+    }
+}
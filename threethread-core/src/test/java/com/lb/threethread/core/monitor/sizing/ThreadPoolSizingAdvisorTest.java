@@ -0,0 +1,69 @@
+package com.lb.threethread.core.monitor.sizing;
+
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolSizingAdvisorTest {
+
+    private final ThreadPoolSizingAdvisor advisor = new ThreadPoolSizingAdvisor(
+            new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 60), 10, TimeUnit.SECONDS, 0.8D, 10L, 1000L);
+
+    @Test
+    void testRecommendFromMeasuredLoad() {
+        // 每秒 100 个任务，其中一秒突增到 200 个，单个任务执行 50ms、CPU 1ms
+        ThreadPoolMetricsSeries series = new ThreadPoolMetricsSeries("test-sizing-pool", 60);
+        long[] sample = new long[ThreadPoolMetricTypeEnum.values().length];
+        long tasks = 0L;
+        for (int i = 0; i <= 10; i++) {
+            tasks += i == 0 ? 0L : i == 5 ? 200L : 100L;
+            sample[ThreadPoolMetricTypeEnum.COMPLETED_TASK_COUNT.ordinal()] = tasks;
+            sample[ThreadPoolMetricTypeEnum.ACCOUNTED_TASK_COUNT.ordinal()] = tasks;
+            sample[ThreadPoolMetricTypeEnum.TASK_WALL_TIME.ordinal()] = tasks * 50_000L;
+            sample[ThreadPoolMetricTypeEnum.TASK_CPU_TIME.ordinal()] = tasks * 1_000L;
+            series.record(i * 1000L, sample);
+        }
+
+        ThreadPoolSizingRecommendation recommendation = advisor.recommend("test-sizing-pool", series);
+        assertThat(recommendation.isAvailable()).isTrue();
+        assertThat(recommendation.getArrivalRate()).isEqualTo(110D);
+        assertThat(recommendation.getPeakArrivalRate()).isEqualTo(200D);
+        assertThat(recommendation.getBlockingCoefficient()).isEqualTo(49D);
+        assertThat(recommendation.getOfferedLoad()).isEqualTo(5.5D);
+        assertThat(recommendation.isCpuSaturated()).isFalse();
+        // 平均负载 5.5 个并发任务，峰值 10 个，线程数需留出余量满足 10ms 平均排队耗时
+        assertThat(recommendation.getCorePoolSize()).isBetween(6, 10);
+        assertThat(recommendation.getMaximumPoolSize()).isBetween(11, 16);
+        assertThat(recommendation.getQueueCapacity()).isEqualTo(recommendation.getMaximumPoolSize() * 20);
+
+        ThreadPoolExecutorProperties current = new ThreadPoolExecutorProperties()
+                .setThreadPoolId("test-sizing-pool")
+                .setCorePoolSize(2)
+                .setMaximumPoolSize(recommendation.getMaximumPoolSize())
+                .setQueueCapacity(16);
+        ThreadPoolSizingAdvisor.dryRun(recommendation, current);
+        assertThat(recommendation.getChanges().containsKey("corePoolSize")).isTrue();
+        assertThat(recommendation.getChanges().containsKey("maximumPoolSize")).isFalse();
+        assertThat(recommendation.getChanges().get("queueCapacity").getBefore()).isEqualTo(16);
+        assertThat(recommendation.getProposedProperties().getCorePoolSize()).isEqualTo(recommendation.getCorePoolSize());
+        assertThat(current.getCorePoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    void testUnavailableWithoutAccounting() {
+        ThreadPoolMetricsSeries series = new ThreadPoolMetricsSeries("test-sizing-idle", 10);
+        long[] sample = new long[ThreadPoolMetricTypeEnum.values().length];
+        series.record(0L, sample);
+        assertThat(advisor.recommend("test-sizing-idle", series).isAvailable()).isFalse();
+        series.record(1000L, sample);
+        ThreadPoolSizingRecommendation recommendation = advisor.recommend("test-sizing-idle", series);
+        assertThat(recommendation.isAvailable()).isFalse();
+        assertThat(recommendation.getReason()).isNotNull();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lb.threethread.core.notification.service;
+
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class NotifierDispatcherTest {
+
+    @Test
+    void testRetryUntilSuccessAndMergeChanges() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger mergedSize = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        NotifierService failingTwice = new NotifierService() {
+
+            @Override
+            public void sendChangeMessage(ThreadPoolConfigChangeDTO configChange) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IllegalStateException("webhook unavailable");
+                }
+                mergedSize.set(configChanges.size());
+                delivered.countDown();
+            }
+
+            @Override
+            public void sendAlarmMessage(ThreadPoolAlarmDTO alarm) {
+            }
+        };
+        NotifierDispatcher dispatcher = new NotifierDispatcher(failingTwice, 16, 3, 10L);
+        try {
+            dispatcher.sendChangeMessages(List.of(new ThreadPoolConfigChangeDTO(), new ThreadPoolConfigChangeDTO()));
+
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(mergedSize.get()).isEqualTo(2);
+            assertThat(attempts.get()).isEqualTo(3);
+            assertThat(dispatcher.getFailedCount()).isEqualTo(0L);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void testDropWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        NotifierService slowService = new NotifierService() {
+
+            @Override
+            public void sendChangeMessage(ThreadPoolConfigChangeDTO configChange) {
+            }
+
+            @Override
+            public void sendAlarmMessage(ThreadPoolAlarmDTO alarm) {
+                started.countDown();
+                try {
+                    blocking.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        NotifierDispatcher dispatcher = new NotifierDispatcher(slowService, 1, 0, 10L);
+        try {
+            dispatcher.sendAlarmMessage(new ThreadPoolAlarmDTO());
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 发送线程阻塞中，队列容量为 1，第二条入队，第三条被丢弃
+            dispatcher.sendAlarmMessage(new ThreadPoolAlarmDTO());
+            dispatcher.sendAlarmMessage(new ThreadPoolAlarmDTO());
+            assertThat(dispatcher.getDroppedCount()).isEqualTo(1L);
+        } finally {
+            blocking.countDown();
+            dispatcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.lb.threethread.core.notification.transport;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONObject;
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolAlarmDTO;
+import com.lb.threethread.core.notification.service.DingTalkMessageService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JdkHttpNotifierTransportTest {
+
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/robot/send", exchange -> {
+            requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"errcode\":0,\"errmsg\":\"ok\"}");
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/error", exchange -> respond(exchange, 500, "boom"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testDingAlarmMessageThroughTransport() {
+        BootstrapConfigProperties.NotifyPlatformsConfig notifyConfig = new BootstrapConfigProperties.NotifyPlatformsConfig();
+        notifyConfig.setPlatform("DING");
+        notifyConfig.setUrl(baseUrl + "/robot/send");
+        BootstrapConfigProperties.NotifyPlatformsConfig original = BootstrapConfigProperties.getInstance().getNotifyPlatforms();
+        BootstrapConfigProperties.getInstance().setNotifyPlatforms(notifyConfig);
+        try {
+            DingTalkMessageService service = new DingTalkMessageService(
+                    new JdkHttpNotifierTransport(Duration.ofSeconds(1), Duration.ofSeconds(2)));
+            ThreadPoolAlarmDTO alarm = ThreadPoolAlarmDTO.builder()
+                    .threadPoolId("stub-pool")
+                    .active("test")
+                    .applicationName("stub-app")
+                    .identify("127.0.0.1")
+                    .receives("1380000, 1390000")
+                    .alarmType("QUEUE_USAGE")
+                    .threshold(80L)
+                    .currentValue(95L)
+                    .window(60L)
+                    .workQueue("LinkedBlockingQueue \"quoted\"")
+                    .alarmTime("2026-01-01 00:00:00")
+                    .build();
+            service.sendAlarmMessage(alarm);
+            service.sendAlarmMessage(alarm);
+
+            assertThat(requestBodies.size()).isEqualTo(2);
+            JSONObject request = JSON.parseObject(requestBodies.get(0));
+            assertThat(request.getString("msgtype")).isEqualTo("markdown");
+            assertThat(request.getJSONObject("markdown").getString("text")).contains("stub-pool", "95", "\"quoted\"");
+            assertThat(request.getJSONObject("at").getJSONArray("atMobiles").size()).isEqualTo(2);
+        } finally {
+            BootstrapConfigProperties.getInstance().setNotifyPlatforms(original);
+        }
+    }
+
+    @Test
+    void testReadTimeoutAndErrorStatus() {
+        JdkHttpNotifierTransport transport = new JdkHttpNotifierTransport(Duration.ofSeconds(1), Duration.ofMillis(200));
+
+        assertThrows(IOException.class, () -> transport.postJson(baseUrl + "/slow", "{}"));
+        assertThrows(IOException.class, () -> transport.postJson(baseUrl + "/error", "{}"));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
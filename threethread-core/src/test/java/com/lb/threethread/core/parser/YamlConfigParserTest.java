@@ -0,0 +1,81 @@
+package com.lb.threethread.core.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class YamlConfigParserTest {
+
+    private final YamlConfigParser parser = new YamlConfigParser();
+
+    @Test
+    void testFlattenNestedMappingsAndSequences() {
+        String config = """
+                onethread:
+                  enable: on
+                  banner: 'false'
+                  empty:
+                  executors:
+                    - thread-pool-id: pool-a
+                      core-pool-size: 010
+                      keep-alive-time: 1_000
+                      ratio: 1.50
+                      notify:
+                        receives: [a, b]
+                    - thread-pool-id: pool-b
+                      tags: []
+                  matrix:
+                    - [1, 2]
+                    - [3]
+                """;
+        Map<Object, Object> result = parser.doParse(config);
+
+        assertThat(result.get("onethread.enable")).isEqualTo("true");
+        assertThat(result.get("onethread.banner")).isEqualTo("false");
+        assertThat(result.containsKey("onethread.empty")).isTrue();
+        assertThat(result.get("onethread.empty")).isNull();
+        assertThat(result.get("onethread.executors[0].thread-pool-id")).isEqualTo("pool-a");
+        assertThat(result.get("onethread.executors[0].core-pool-size")).isEqualTo("8");
+        assertThat(result.get("onethread.executors[0].keep-alive-time")).isEqualTo("1000");
+        assertThat(result.get("onethread.executors[0].ratio")).isEqualTo("1.5");
+        assertThat(result.get("onethread.executors[0].notify.receives[1]")).isEqualTo("b");
+        assertThat(result.get("onethread.executors[1].thread-pool-id")).isEqualTo("pool-b");
+        assertThat(result.containsKey("onethread.executors[1].tags")).isFalse();
+        assertThat(result.get("onethread.matrix[0][1]")).isEqualTo("2");
+        assertThat(result.get("onethread.matrix[1][0]")).isEqualTo("3");
+        assertThat(result.size()).isEqualTo(13);
+
+        List<Object> keys = new ArrayList<>(result.keySet());
+        assertThat(keys.get(0)).isEqualTo("onethread.enable");
+        assertThat(keys.get(keys.size() - 1)).isEqualTo("onethread.matrix[1][0]");
+    }
+
+    @Test
+    void testAnchorsAndMergeKeysFallBackToDocumentTree() {
+        String config = """
+                defaults: &defaults
+                  core-pool-size: 2
+                  maximum-pool-size: 4
+                onethread:
+                  executors:
+                    - <<: *defaults
+                      thread-pool-id: pool-a
+                """;
+        Map<Object, Object> result = parser.doParse(config);
+
+        assertThat(result.get("defaults.core-pool-size")).isEqualTo("2");
+        assertThat(result.get("onethread.executors[0].maximum-pool-size")).isEqualTo("4");
+        assertThat(result.get("onethread.executors[0].thread-pool-id")).isEqualTo("pool-a");
+    }
+
+    @Test
+    void testNonMappingDocumentIsEmpty() {
+        assertThat(parser.doParse("").isEmpty()).isTrue();
+        assertThat(parser.doParse("- a\n- b\n").isEmpty()).isTrue();
+        assertThat(parser.doParse("plain scalar").isEmpty()).isTrue();
+    }
+}
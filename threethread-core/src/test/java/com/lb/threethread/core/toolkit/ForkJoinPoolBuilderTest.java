@@ -0,0 +1,60 @@
+package com.lb.threethread.core.toolkit;
+
+import com.lb.threethread.core.executor.ForkJoinPoolHolder;
+import com.lb.threethread.core.executor.OneThreadForkJoinPool;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ForkJoinPoolBuilderTest {
+
+    @Test
+    void testBuildDynamicForkJoinPool() throws Exception {
+        ForkJoinPool pool = ForkJoinPoolBuilder.builder()
+                .threadPoolId("test-fork-join-pool")
+                .parallelism(2)
+                .threadFactory("test-fork-join-pool_")
+                .dynamicPool()
+                .build();
+
+        assertThat(pool).isInstanceOf(OneThreadForkJoinPool.class);
+        assertThat(pool.getParallelism()).isEqualTo(2);
+        String threadName = pool.submit(() -> Thread.currentThread().getName()).get();
+        assertThat(threadName.startsWith("test-fork-join-pool_")).isTrue();
+        pool.shutdown();
+    }
+
+    @Test
+    void testUpdateParallelism() throws Exception {
+        OneThreadForkJoinPool pool = (OneThreadForkJoinPool) ForkJoinPoolBuilder.builder()
+                .threadPoolId("test-fork-join-resize-pool")
+                .parallelism(2)
+                .dynamicPool()
+                .build();
+        OneThreadRegistry.putForkJoinPool(pool.getThreadPoolId(), pool, ThreadPoolExecutorProperties.builder().parallelism(2).build());
+        ForkJoinPoolHolder holder = OneThreadRegistry.getForkJoinPoolHolder(pool.getThreadPoolId());
+
+        try {
+            if (OneThreadForkJoinPool.isParallelismAdjustable()) {
+                holder.updateParallelism(4);
+                assertThat(pool.getParallelism()).isEqualTo(4);
+            } else {
+                // 低版本 JDK 不替换线程池，保持原实例可用
+                assertThrows(UnsupportedOperationException.class, () -> holder.updateParallelism(4));
+                assertThat(pool.getParallelism()).isEqualTo(2);
+            }
+            assertThat(holder.getPool()).isSameAs(pool);
+            int sum = pool.submit(() -> IntStream.rangeClosed(1, 100).parallel().sum()).get();
+            assertThat(sum).isEqualTo(5050);
+        } finally {
+            OneThreadRegistry.removeForkJoinPool(pool.getThreadPoolId(), pool);
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lb.threethread.core.toolkit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-wheel-timer_", 10, TimeUnit.MILLISECONDS, 8);
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void testTimeoutExpired() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timer.pendingTimeouts()).isEqualTo(0L);
+    }
+
+    @Test
+    void testTimeoutBeyondOneRound() throws InterruptedException {
+        // 8 个槽位 * 10ms，200ms 的任务需要跨越多轮
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.newTimeout(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(190L);
+    }
+
+    @Test
+    void testCancelledTimeoutNotExecuted() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(counter::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timer.pendingTimeouts()).isEqualTo(0L);
+
+        TimeUnit.MILLISECONDS.sleep(150);
+        assertThat(counter.get()).isEqualTo(0);
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+}
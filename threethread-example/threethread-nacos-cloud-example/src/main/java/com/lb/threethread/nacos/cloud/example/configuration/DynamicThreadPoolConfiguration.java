@@ -1,11 +1,13 @@
 package com.lb.threethread.nacos.cloud.example.configuration;
 
 import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.toolkit.ForkJoinPoolBuilder;
 import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
 import com.lb.threethread.spring.base.DynamicThreadPool;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
@@ -40,4 +42,15 @@ public class DynamicThreadPoolConfiguration {
                 .dynamicPool()
                 .build();
     }
+
+    @Bean
+    @DynamicThreadPool
+    public ForkJoinPool onethreadCompute() {
+        return ForkJoinPoolBuilder.builder()
+                .threadPoolId("onethread-compute")
+                .parallelism(4)
+                .threadFactory("onethread-compute_")
+                .dynamicPool()
+                .build();
+    }
 }
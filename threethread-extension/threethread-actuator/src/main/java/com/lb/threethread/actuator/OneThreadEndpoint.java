@@ -0,0 +1,166 @@
+package com.lb.threethread.actuator;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.lb.threethread.actuator.dto.ThreadPoolRuntimeDTO;
+import com.lb.threethread.actuator.dto.ThreadPoolUpdateResultDTO;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.executor.ForkJoinPoolHolder;
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricTypeEnum;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsSeries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 动态线程池 Actuator 端点
+ * <p>
+ * 通过 {@code /actuator/threethread} 查看全部线程池的配置与运行时状态，通过 {@code /actuator/threethread/{threadPoolId}} 查看或修改单个线程池
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 无需登录机器或挂调试器即可查看线程池配置、线程数、队列、拒绝与超时次数以及排队耗时分位值
+ * 2. 写操作以线程池当前生效配置为基础覆盖请求中的参数，交由 {@link ThreadPoolConfigUpdater} 处理，
+ * 与配置中心推送共用同一套校验、回滚、变更日志和变更通知流程
+ * 3. 未传的参数保持不变，校验失败时线程池不做任何修改并返回错误信息
+ * </p>
+ * <p>
+ * 通过端点修改的参数只作用于当前节点，配置中心下次推送该线程池的配置变更时会被覆盖；写操作需要按 Actuator 的方式单独暴露并做好访问控制
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Endpoint(id = "threethread")
+public class OneThreadEndpoint {
+
+    private final ThreadPoolConfigUpdater configUpdater;
+    private final ThreadPoolMetricsCollector metricsCollector;
+
+    /**
+     * 查看全部线程池的配置与运行时状态
+     */
+    @ReadOperation
+    public List<ThreadPoolRuntimeDTO> threadPools() {
+        List<ThreadPoolRuntimeDTO> threadPools = new ArrayList<>();
+        OneThreadRegistry.getAllHolders().forEach(each -> threadPools.add(describe(each)));
+        OneThreadRegistry.getAllForkJoinPoolHolders().forEach(each -> threadPools.add(describe(each)));
+        threadPools.sort(Comparator.comparing(ThreadPoolRuntimeDTO::getThreadPoolId));
+        return threadPools;
+    }
+
+    /**
+     * 查看单个线程池的配置与运行时状态
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 线程池配置与运行时状态，线程池不存在时返回 null，由 Actuator 响应 404
+     */
+    @ReadOperation
+    public ThreadPoolRuntimeDTO threadPool(@Selector String threadPoolId) {
+        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+        if (holder != null) {
+            return describe(holder);
+        }
+        ForkJoinPoolHolder forkJoinPoolHolder = OneThreadRegistry.getForkJoinPoolHolder(threadPoolId);
+        return forkJoinPoolHolder == null ? null : describe(forkJoinPoolHolder);
+    }
+
+    /**
+     * 修改线程池参数，未传的参数保持当前值
+     *
+     * @param threadPoolId    线程池唯一标识
+     * @param corePoolSize    核心线程数
+     * @param maximumPoolSize 最大线程数
+     * @param queueCapacity   队列容量
+     * @param keepAliveTime   空闲线程存活时间（单位：秒）
+     * @param rejectedHandler 拒绝策略名称
+     * @return 更新结果，线程池不存在时返回 null，由 Actuator 响应 404
+     */
+    @WriteOperation
+    public ThreadPoolUpdateResultDTO updateThreadPool(@Selector String threadPoolId,
+                                                      @Nullable Integer corePoolSize,
+                                                      @Nullable Integer maximumPoolSize,
+                                                      @Nullable Integer queueCapacity,
+                                                      @Nullable Long keepAliveTime,
+                                                      @Nullable String rejectedHandler) {
+        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
+        if (holder == null) {
+            return null;
+        }
+        ThreadPoolExecutorProperties remoteProperties = BeanUtil.copyProperties(holder.getExecutorProperties(), ThreadPoolExecutorProperties.class);
+        remoteProperties.setThreadPoolId(threadPoolId);
+        if (corePoolSize != null) {
+            remoteProperties.setCorePoolSize(corePoolSize);
+        }
+        if (maximumPoolSize != null) {
+            remoteProperties.setMaximumPoolSize(maximumPoolSize);
+        }
+        if (queueCapacity != null) {
+            remoteProperties.setQueueCapacity(queueCapacity);
+        }
+        if (keepAliveTime != null) {
+            remoteProperties.setKeepAliveTime(keepAliveTime);
+        }
+        if (rejectedHandler != null) {
+            remoteProperties.setRejectedHandler(rejectedHandler);
+        }
+
+        log.info("[{}] Dynamic thread pool update requested via actuator endpoint.", threadPoolId);
+        ThreadPoolConfigApplier.ApplyResult result = configUpdater.update(List.of(remoteProperties));
+        return ThreadPoolUpdateResultDTO.builder()
+                .status(result.getStatus().name())
+                .errors(result.getErrors())
+                .threadPool(describe(OneThreadRegistry.getHolder(threadPoolId)))
+                .build();
+    }
+
+    private ThreadPoolRuntimeDTO describe(ThreadPoolExecutorHolder holder) {
+        ThreadPoolExecutor executor = holder.getExecutor();
+        BlockingQueue<Runnable> workQueue = executor instanceof OneThreadExecutor oneThreadExecutor
+                ? oneThreadExecutor.getWorkQueueDelegate()
+                : executor.getQueue();
+        ThreadPoolMetricsSeries series = metricsCollector.getSeries(holder.getThreadPoolId());
+        boolean sampled = series != null && series.size() > 0;
+        return ThreadPoolRuntimeDTO.builder()
+                .threadPoolId(holder.getThreadPoolId())
+                .forkJoinPool(false)
+                .config(holder.getExecutorProperties())
+                .poolSize(executor.getPoolSize())
+                .activeCount(executor.getActiveCount())
+                .largestPoolSize(executor.getLargestPoolSize())
+                .queueSize(workQueue.size())
+                .queueRemainingCapacity(workQueue.remainingCapacity())
+                .completedTaskCount(executor.getCompletedTaskCount())
+                .rejectCount(holder.getRejectCount())
+                .executeTimeoutCount(holder.getExecuteTimeoutCount())
+                .queueWaitP50(sampled ? series.latest(ThreadPoolMetricTypeEnum.QUEUE_WAIT_P50) : null)
+                .queueWaitP99(sampled ? series.latest(ThreadPoolMetricTypeEnum.QUEUE_WAIT_P99) : null)
+                .build();
+    }
+
+    private ThreadPoolRuntimeDTO describe(ForkJoinPoolHolder holder) {
+        return ThreadPoolRuntimeDTO.builder()
+                .threadPoolId(holder.getThreadPoolId())
+                .forkJoinPool(true)
+                .config(holder.getExecutorProperties())
+                .poolSize(holder.getPoolSize())
+                .activeCount(holder.getActiveThreadCount())
+                .queuedSubmissionCount((long) holder.getQueuedSubmissionCount())
+                .stealCount(holder.getStealCount())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.lb.threethread.actuator;
+
+import com.lb.threethread.core.monitor.sizing.ThreadPoolSizingAdvisor;
+import com.lb.threethread.core.monitor.sizing.ThreadPoolSizingRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 动态线程池容量建议 Actuator 端点
+ * <p>
+ * 通过 {@code /actuator/threethreadsizing} 查看全部线程池的容量建议，通过 {@code /actuator/threethreadsizing/{threadPoolId}} 查看单个线程池，
+ * 传入 {@code dryRun=true} 时同时返回应用建议后的配置及与当前配置的差异
+ * </p>
+ * <p>
+ * 端点只读，不修改线程池；确认建议后可通过配置中心或 {@link OneThreadEndpoint} 的写操作提交
+ * </p>
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "threethreadsizing")
+public class OneThreadSizingEndpoint {
+
+    private final ThreadPoolSizingAdvisor sizingAdvisor;
+
+    /**
+     * 查看全部线程池的容量建议
+     *
+     * @param dryRun 是否返回与当前配置的差异
+     */
+    @ReadOperation
+    public List<ThreadPoolSizingRecommendation> recommendations(@Nullable Boolean dryRun) {
+        return sizingAdvisor.recommendAll(Boolean.TRUE.equals(dryRun));
+    }
+
+    /**
+     * 查看单个线程池的容量建议
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @param dryRun       是否返回与当前配置的差异
+     * @return 容量建议，线程池不存在时返回 null，由 Actuator 响应 404
+     */
+    @ReadOperation
+    public ThreadPoolSizingRecommendation recommendation(@Selector String threadPoolId, @Nullable Boolean dryRun) {
+        return sizingAdvisor.recommend(threadPoolId, Boolean.TRUE.equals(dryRun));
+    }
+}
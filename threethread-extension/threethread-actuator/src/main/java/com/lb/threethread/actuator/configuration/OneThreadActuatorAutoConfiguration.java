@@ -0,0 +1,44 @@
+package com.lb.threethread.actuator.configuration;
+
+import com.lb.threethread.actuator.OneThreadEndpoint;
+import com.lb.threethread.actuator.OneThreadSizingEndpoint;
+import com.lb.threethread.config.common.starter.configuration.CommonAutoConfiguration;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.sizing.ThreadPoolSizingAdvisor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 动态线程池 Actuator 端点自动装配
+ * <p>
+ * 端点是否暴露由 management.endpoints 相关配置控制，默认 web 方式不暴露，需要显式加入 include 列表；
+ * Actuator 为可选依赖，应用未引入 spring-boot-starter-actuator 时不装配
+ * </p>
+ */
+@AutoConfiguration(after = CommonAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnBean(ThreadPoolConfigUpdater.class)
+public class OneThreadActuatorAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnAvailableEndpoint(endpoint = OneThreadEndpoint.class)
+    public OneThreadEndpoint oneThreadEndpoint(ThreadPoolConfigUpdater threadPoolConfigUpdater,
+                                               ThreadPoolMetricsCollector threadPoolMetricsCollector) {
+        return new OneThreadEndpoint(threadPoolConfigUpdater, threadPoolMetricsCollector);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ThreadPoolSizingAdvisor.class)
+    @ConditionalOnAvailableEndpoint(endpoint = OneThreadSizingEndpoint.class)
+    public OneThreadSizingEndpoint oneThreadSizingEndpoint(ThreadPoolSizingAdvisor threadPoolSizingAdvisor) {
+        return new OneThreadSizingEndpoint(threadPoolSizingAdvisor);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lb.threethread.actuator.dto;
+
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 线程池配置与运行时状态
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadPoolRuntimeDTO {
+
+    /**
+     * 线程池唯一标识
+     */
+    private String threadPoolId;
+
+    /**
+     * 是否为 ForkJoin 线程池，ForkJoin 线程池不包含队列、拒绝策略等运行时状态
+     */
+    private boolean forkJoinPool;
+
+    /**
+     * 当前生效的线程池配置
+     */
+    private ThreadPoolExecutorProperties config;
+
+    /**
+     * 当前线程数
+     */
+    private Integer poolSize;
+
+    /**
+     * 活跃线程数
+     */
+    private Integer activeCount;
+
+    /**
+     * 历史最大线程数
+     */
+    private Integer largestPoolSize;
+
+    /**
+     * 队列元素个数
+     */
+    private Integer queueSize;
+
+    /**
+     * 队列剩余容量
+     */
+    private Integer queueRemainingCapacity;
+
+    /**
+     * 已完成任务数
+     */
+    private Long completedTaskCount;
+
+    /**
+     * 任务拒绝次数
+     */
+    private Long rejectCount;
+
+    /**
+     * 任务执行超时次数
+     */
+    private Long executeTimeoutCount;
+
+    /**
+     * 最近一个采集间隔内任务排队等待耗时 P50（单位：微秒）
+     */
+    private Long queueWaitP50;
+
+    /**
+     * 最近一个采集间隔内任务排队等待耗时 P99（单位：微秒）
+     */
+    private Long queueWaitP99;
+
+    /**
+     * ForkJoin 线程池排队的外部提交任务数
+     */
+    private Long queuedSubmissionCount;
+
+    /**
+     * ForkJoin 线程池任务窃取次数
+     */
+    private Long stealCount;
+}
@@ -0,0 +1,33 @@
+package com.lb.threethread.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 线程池配置更新结果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadPoolUpdateResultDTO {
+
+    /**
+     * 应用状态：SUCCESS、REJECTED、ROLLED_BACK
+     */
+    private String status;
+
+    /**
+     * 校验或应用错误信息，应用成功时为空
+     */
+    private List<String> errors;
+
+    /**
+     * 更新后的线程池配置与运行时状态
+     */
+    private ThreadPoolRuntimeDTO threadPool;
+}
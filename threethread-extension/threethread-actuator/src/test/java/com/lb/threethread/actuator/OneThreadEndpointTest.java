@@ -0,0 +1,89 @@
+package com.lb.threethread.actuator;
+
+import com.lb.threethread.actuator.dto.ThreadPoolUpdateResultDTO;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.notification.service.NotifierDispatcher;
+import com.lb.threethread.spring.base.support.ApplicationContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class OneThreadEndpointTest {
+
+    private static final String THREAD_POOL_ID = "test-endpoint-pool";
+
+    private final NotifierDispatcher notifierDispatcher = new NotifierDispatcher() {
+
+        @Override
+        public void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+        }
+    };
+
+    private final OneThreadEndpoint endpoint = new OneThreadEndpoint(
+            new ThreadPoolConfigUpdater(new BootstrapConfigProperties(), notifierDispatcher, new ThreadPoolConfigApplier()),
+            new ThreadPoolMetricsCollector(1, TimeUnit.SECONDS, 4));
+
+    private GenericApplicationContext context;
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // 变更通知从 Spring 环境读取应用名称与激活的 profile
+        context = new GenericApplicationContext();
+        context.refresh();
+        new ApplicationContextHolder().setApplicationContext(context);
+        executor = new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        OneThreadRegistry.put(THREAD_POOL_ID, executor, new ThreadPoolExecutorProperties()
+                .setThreadPoolId(THREAD_POOL_ID)
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(2)
+                .setKeepAliveTime(60L)
+                .setAllowCoreThreadTimeOut(false)
+                .setRejectedHandler("AbortPolicy"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        OneThreadRegistry.remove(THREAD_POOL_ID, executor);
+        executor.shutdownNow();
+        notifierDispatcher.shutdown();
+        context.close();
+    }
+
+    @Test
+    void testPartialUpdateKeepsOmittedParameters() {
+        ThreadPoolUpdateResultDTO result = endpoint.updateThreadPool(THREAD_POOL_ID, null, 4, null, null, null);
+
+        assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.SUCCESS.name());
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(executor.getKeepAliveTime(TimeUnit.SECONDS)).isEqualTo(60L);
+        assertThat(result.getThreadPool().getConfig().getMaximumPoolSize()).isEqualTo(4);
+        assertThat(result.getThreadPool().getConfig().getRejectedHandler()).isEqualTo("AbortPolicy");
+    }
+
+    @Test
+    void testInvalidUpdateLeavesPoolUnchanged() {
+        ThreadPoolUpdateResultDTO result = endpoint.updateThreadPool(THREAD_POOL_ID, 8, null, null, null, null);
+
+        assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.REJECTED.name());
+        assertThat(result.getErrors().isEmpty()).isFalse();
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+        assertThat(endpoint.updateThreadPool("test-endpoint-missing-pool", 2, null, null, null, null)).isNull();
+    }
+}
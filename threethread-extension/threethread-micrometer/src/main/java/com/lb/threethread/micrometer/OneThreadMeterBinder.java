@@ -0,0 +1,257 @@
+package com.lb.threethread.micrometer;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
+import com.lb.threethread.core.executor.ThreadPoolRegistryListener;
+import com.lb.threethread.core.executor.support.TaskResourceUsage;
+import com.lb.threethread.core.monitor.TaskExecutionListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 动态线程池 Micrometer 指标绑定器
+ * <p>
+ * 将 {@link OneThreadRegistry} 中的全部线程池绑定到 {@link MeterRegistry}，包括绑定之后才注册的线程池，
+ * 线程池从注册中心移除时同步删除其全部指标
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 通过 {@link ThreadPoolRegistryListener} 跟随注册中心自动绑定和清理，无需为每个线程池手写指标
+ * 2. 线程数、队列长度等使用 Gauge，完成任务数、拒绝次数、执行超时次数、慢任务数、任务 CPU 时间与内存分配量使用 FunctionCounter，采集时读取线程池自身计数，不增加任务路径开销
+ * 3. 排队耗时与执行耗时通过 {@link TaskExecutionListener} 记录到 Timer，Timer 在绑定时按线程池标签创建并缓存，记录时不再构造标签
+ * 4. 支持绑定到多个 MeterRegistry，每个线程池在各注册表中的指标独立维护和删除
+ * </p>
+ * <p>
+ * 排队耗时仅在线程池开启 queueWaitTracking 时记录；ForkJoin 线程池不在绑定范围内。
+ * Timer 的分位值、直方图等发布方式由 MeterRegistry 的 MeterFilter 统一配置
+ * </p>
+ */
+@Slf4j
+public class OneThreadMeterBinder implements MeterBinder, ThreadPoolRegistryListener, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "threethread.executor";
+
+    /**
+     * 线程池标识标签名
+     */
+    public static final String THREAD_POOL_ID_TAG = "thread.pool.id";
+
+    private final Iterable<Tag> extraTags;
+
+    private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+
+    /**
+     * 已绑定的线程池指标，key 为线程池唯一标识
+     */
+    private final Map<String, PoolMeters> poolMeters = new ConcurrentHashMap<>();
+
+    private boolean listening;
+
+    public OneThreadMeterBinder() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param extraTags 附加到全部线程池指标上的公共标签
+     */
+    public OneThreadMeterBinder(@NonNull Iterable<Tag> extraTags) {
+        this.extraTags = extraTags;
+    }
+
+    @Override
+    public synchronized void bindTo(@NonNull MeterRegistry registry) {
+        if (registries.contains(registry)) {
+            return;
+        }
+        registries.add(registry);
+        poolMeters.values().forEach(each -> each.bind(registry));
+        if (!listening) {
+            listening = true;
+            // 添加监听器时会对已注册线程池补发注册回调
+            OneThreadRegistry.addListener(this);
+        }
+    }
+
+    @Override
+    public synchronized void onRegistered(ThreadPoolExecutorHolder holder) {
+        PoolMeters existing = poolMeters.get(holder.getThreadPoolId());
+        if (existing != null) {
+            if (existing.executor == holder.getExecutor()) {
+                return;
+            }
+            // 同 ID 线程池重新注册，删除旧线程池的指标后重新绑定
+            existing.close();
+        }
+        PoolMeters meters = new PoolMeters(holder, Tags.of(extraTags).and(THREAD_POOL_ID_TAG, holder.getThreadPoolId()));
+        registries.forEach(meters::bind);
+        poolMeters.put(holder.getThreadPoolId(), meters);
+        log.info("[{}] Thread pool metrics bound to {} meter registries.", holder.getThreadPoolId(), registries.size());
+    }
+
+    @Override
+    public synchronized void onRemoved(ThreadPoolExecutorHolder holder) {
+        PoolMeters meters = poolMeters.get(holder.getThreadPoolId());
+        if (meters != null && meters.executor == holder.getExecutor()) {
+            poolMeters.remove(holder.getThreadPoolId());
+            meters.close();
+            log.info("[{}] Thread pool metrics removed.", holder.getThreadPoolId());
+        }
+    }
+
+    /**
+     * 停止跟随注册中心，并删除已绑定的全部线程池指标
+     */
+    @Override
+    public synchronized void close() {
+        OneThreadRegistry.removeListener(this);
+        listening = false;
+        poolMeters.values().forEach(PoolMeters::close);
+        poolMeters.clear();
+        registries.clear();
+    }
+
+    /**
+     * 单个线程池在各注册表中的指标
+     */
+    private static final class PoolMeters implements TaskExecutionListener {
+
+        private final ThreadPoolExecutorHolder holder;
+        private final ThreadPoolExecutor executor;
+        private final Tags tags;
+        private final Map<MeterRegistry, List<Meter>> registeredMeters = new ConcurrentHashMap<>();
+
+        /**
+         * 各注册表中的耗时 Timer，写时复制，任务路径只读取数组引用
+         */
+        private volatile Timer[] queueWaitTimers = new Timer[0];
+        private volatile Timer[] successTimers = new Timer[0];
+        private volatile Timer[] failureTimers = new Timer[0];
+
+        private PoolMeters(ThreadPoolExecutorHolder holder, Tags tags) {
+            this.holder = holder;
+            this.executor = holder.getExecutor();
+            this.tags = tags;
+        }
+
+        private void bind(MeterRegistry registry) {
+            List<Meter> meters = new ArrayList<>();
+            meters.add(gauge(registry, "core.size", "Core pool size", ThreadPoolExecutor::getCorePoolSize));
+            meters.add(gauge(registry, "max.size", "Maximum pool size", ThreadPoolExecutor::getMaximumPoolSize));
+            meters.add(gauge(registry, "pool.size", "Current number of threads in the pool", ThreadPoolExecutor::getPoolSize));
+            meters.add(gauge(registry, "largest.pool.size", "Largest number of threads that have ever simultaneously been in the pool", ThreadPoolExecutor::getLargestPoolSize));
+            meters.add(gauge(registry, "active", "Approximate number of threads that are actively executing tasks", ThreadPoolExecutor::getActiveCount));
+            meters.add(gauge(registry, "queue.size", "Number of tasks waiting in the work queue", each -> each.getQueue().size()));
+            meters.add(gauge(registry, "queue.remaining", "Remaining capacity of the work queue", each -> each.getQueue().remainingCapacity()));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + ".completed", executor, ThreadPoolExecutor::getCompletedTaskCount)
+                    .tags(tags)
+                    .description("Approximate total number of tasks that have completed execution")
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + ".rejected", holder, ThreadPoolExecutorHolder::getRejectCount)
+                    .tags(tags)
+                    .description("Total number of tasks rejected by the pool")
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + ".execute.timeout", holder, ThreadPoolExecutorHolder::getExecuteTimeoutCount)
+                    .tags(tags)
+                    .description("Total number of tasks that exceeded the execute timeout")
+                    .register(registry));
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + ".slow", holder, ThreadPoolExecutorHolder::getSlowTaskCount)
+                    .tags(tags)
+                    .description("Total number of tasks that exceeded the slow task threshold")
+                    .register(registry));
+
+            if (executor instanceof OneThreadExecutor oneThreadExecutor) {
+                // 统计对象随线程池存在，关闭统计后累计值保持不变，计数器不会回落
+                TaskResourceUsage resourceUsage = oneThreadExecutor.getResourceAccounting().getTotal();
+                meters.add(FunctionCounter.builder(METRIC_PREFIX + ".cpu.time", resourceUsage, each -> each.getCpuTimeNanos() / 1e9)
+                        .tags(tags)
+                        .baseUnit("seconds")
+                        .description("Total CPU time consumed by tasks, recorded when resource accounting is enabled")
+                        .register(registry));
+                meters.add(FunctionCounter.builder(METRIC_PREFIX + ".allocated", resourceUsage, TaskResourceUsage::getAllocatedBytes)
+                        .tags(tags)
+                        .baseUnit("bytes")
+                        .description("Total heap memory allocated by tasks, recorded when resource accounting is enabled")
+                        .register(registry));
+                Timer queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                        .tags(tags)
+                        .description("Time tasks spent waiting in the work queue, recorded when queue wait tracking is enabled")
+                        .register(registry);
+                Timer successTimer = executionTimer(registry, "success");
+                Timer failureTimer = executionTimer(registry, "failure");
+                meters.add(queueWaitTimer);
+                meters.add(successTimer);
+                meters.add(failureTimer);
+                boolean firstBinding = queueWaitTimers.length == 0;
+                queueWaitTimers = append(queueWaitTimers, queueWaitTimer);
+                successTimers = append(successTimers, successTimer);
+                failureTimers = append(failureTimers, failureTimer);
+                if (firstBinding) {
+                    oneThreadExecutor.addTaskExecutionListener(this);
+                }
+            }
+            registeredMeters.put(registry, meters);
+        }
+
+        private Gauge gauge(MeterRegistry registry, String name, String description,
+                            ToDoubleFunction<ThreadPoolExecutor> valueFunction) {
+            return Gauge.builder(METRIC_PREFIX + "." + name, executor, valueFunction)
+                    .tags(tags)
+                    .description(description)
+                    .register(registry);
+        }
+
+        private Timer executionTimer(MeterRegistry registry, String outcome) {
+            return Timer.builder(METRIC_PREFIX + ".execution")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .description("Time tasks spent executing")
+                    .register(registry);
+        }
+
+        @Override
+        public void onTaskExecuted(long queueWaitNanos, long executeNanos, boolean failed) {
+            if (queueWaitNanos >= 0) {
+                for (Timer timer : queueWaitTimers) {
+                    timer.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            for (Timer timer : failed ? failureTimers : successTimers) {
+                timer.record(executeNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void close() {
+            if (executor instanceof OneThreadExecutor oneThreadExecutor) {
+                oneThreadExecutor.removeTaskExecutionListener(this);
+            }
+            registeredMeters.forEach((registry, meters) -> meters.forEach(registry::remove));
+            registeredMeters.clear();
+        }
+
+        private static Timer[] append(Timer[] timers, Timer timer) {
+            Timer[] result = Arrays.copyOf(timers, timers.length + 1);
+            result[timers.length] = timer;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.lb.threethread.micrometer.configuration;
+
+import com.lb.threethread.micrometer.OneThreadMeterBinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 动态线程池 Micrometer 指标自动装配
+ * <p>
+ * 引入 Spring Boot Actuator 时，容器中的 {@link io.micrometer.core.instrument.binder.MeterBinder} 会被自动绑定到 MeterRegistry；
+ * 未引入时可手动调用 {@link OneThreadMeterBinder#bindTo(MeterRegistry)} 完成绑定；
+ * micrometer-core 为可选依赖，由应用自行引入
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+public class OneThreadMicrometerAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OneThreadMeterBinder oneThreadMeterBinder() {
+        return new OneThreadMeterBinder();
+    }
+}
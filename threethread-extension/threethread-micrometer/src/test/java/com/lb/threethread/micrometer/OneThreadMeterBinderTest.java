@@ -0,0 +1,68 @@
+package com.lb.threethread.micrometer;
+
+import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
+import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class OneThreadMeterBinderTest {
+
+    private static final String THREAD_POOL_ID = "test-micrometer-pool";
+
+    private final OneThreadExecutor executor = (OneThreadExecutor) ThreadPoolExecutorBuilder.builder()
+            .threadPoolId(THREAD_POOL_ID)
+            .corePoolSize(1)
+            .maximumPoolSize(2)
+            .keepAliveTime(60L)
+            .workQueueType(BlockingQueueTypeEnum.LINKED_BLOCKING_QUEUE)
+            .workQueueCapacity(8)
+            .threadFactory("test-micrometer-pool_")
+            .dynamicPool()
+            .build();
+
+    private final OneThreadMeterBinder binder = new OneThreadMeterBinder();
+
+    @AfterEach
+    void tearDown() {
+        binder.close();
+        OneThreadRegistry.remove(THREAD_POOL_ID, executor);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBindsRegisteredPoolAndRemovesMetersOnRemoval() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        binder.bindTo(registry);
+        OneThreadRegistry.put(THREAD_POOL_ID, executor, new ThreadPoolExecutorProperties()
+                .setThreadPoolId(THREAD_POOL_ID)
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(2));
+
+        assertThat(registry.find("threethread.executor.core.size").tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID).gauge().value()).isEqualTo(1D);
+        assertThat(registry.find("threethread.executor.max.size").tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID).gauge().value()).isEqualTo(2D);
+        assertThat(registry.find("threethread.executor.cpu.time").tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID).functionCounter()).isNotNull();
+
+        // 执行耗时在任务结束后记录，等待线程池终止后再断言
+        executor.execute(() -> {
+        });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.find("threethread.executor.execution")
+                .tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID)
+                .tag("outcome", "success")
+                .timer()
+                .count()).isEqualTo(1L);
+
+        OneThreadRegistry.remove(THREAD_POOL_ID, executor);
+        assertThat(registry.find("threethread.executor.core.size").tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID).gauge()).isNull();
+        assertThat(registry.find("threethread.executor.execution").tag(OneThreadMeterBinder.THREAD_POOL_ID_TAG, THREAD_POOL_ID).timer()).isNull();
+    }
+}
@@ -1,13 +1,31 @@
 package com.lb.threethread.spring.base.configuration;
 
+import com.lb.threethread.core.alarm.ThreadPoolAlarmEngine;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.config.ThreadPoolConfigUpdateHandler;
+import com.lb.threethread.core.config.ThreadPoolResizeRamper;
+import com.lb.threethread.core.monitor.SlowTaskDetector;
+import com.lb.threethread.core.monitor.ThreadPoolMetricsCollector;
+import com.lb.threethread.core.monitor.jmx.ThreadPoolMXBeanRegistrar;
+import com.lb.threethread.core.monitor.sizing.ThreadPoolSizingAdvisor;
 import com.lb.threethread.core.notification.service.DingTalkMessageService;
 import com.lb.threethread.core.notification.service.NotifierDispatcher;
 import com.lb.threethread.spring.base.support.ApplicationContextHolder;
 import com.lb.threethread.spring.base.support.OneThreadBeanPostProcessor;
+import com.lb.threethread.spring.base.support.ThreadPoolJfrConfigurer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 动态线程池基础配置类
@@ -23,6 +41,7 @@ import org.springframework.context.annotation.DependsOn;
  * </p>
  */
 @Configurable
+@ImportRuntimeHints(OneThreadRuntimeHints.class)
 public class OneThreadBaseConfiguration {
 
     @Bean
@@ -41,8 +60,98 @@ public class OneThreadBaseConfiguration {
         return new DingTalkMessageService();
     }
 
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public NotifierDispatcher notifierDispatcher() {
         return new NotifierDispatcher();
     }
-}
\ No newline at end of file
+
+    @Bean(destroyMethod = "stop")
+    public ThreadPoolMetricsCollector threadPoolMetricsCollector(BootstrapConfigProperties properties) {
+        BootstrapConfigProperties.MonitorConfig monitorConfig = Optional.ofNullable(properties.getMonitor())
+                .orElseGet(BootstrapConfigProperties.MonitorConfig::new);
+        ThreadPoolMetricsCollector collector = new ThreadPoolMetricsCollector(
+                monitorConfig.getCollectInterval(),
+                TimeUnit.SECONDS,
+                monitorConfig.getCapacity()
+        );
+        if (Boolean.TRUE.equals(monitorConfig.getEnable())) {
+            collector.start();
+        }
+        return collector;
+    }
+
+    @Bean
+    public ThreadPoolJfrConfigurer threadPoolJfrConfigurer(BootstrapConfigProperties properties) {
+        return new ThreadPoolJfrConfigurer(properties);
+    }
+
+    @Bean(initMethod = "start")
+    public ThreadPoolAlarmEngine threadPoolAlarmEngine(ThreadPoolMetricsCollector threadPoolMetricsCollector,
+                                                       NotifierDispatcher notifierDispatcher,
+                                                       Environment environment) {
+        return new ThreadPoolAlarmEngine(
+                threadPoolMetricsCollector,
+                notifierDispatcher,
+                environment.getProperty("spring.profiles.active", "dev"),
+                environment.getProperty("spring.application.name")
+        );
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(prefix = BootstrapConfigProperties.PREFIX + ".monitor", name = "slow-task-enable", havingValue = "true")
+    public SlowTaskDetector slowTaskDetector(BootstrapConfigProperties properties,
+                                             ThreadPoolMetricsCollector threadPoolMetricsCollector) {
+        long stackInterval = Optional.ofNullable(properties.getMonitor())
+                .map(BootstrapConfigProperties.MonitorConfig::getSlowTaskStackInterval)
+                .orElse(60L);
+        return new SlowTaskDetector(threadPoolMetricsCollector, stackInterval, TimeUnit.SECONDS);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = BootstrapConfigProperties.PREFIX + ".monitor.sizing", name = "enable", havingValue = "true")
+    public ThreadPoolSizingAdvisor threadPoolSizingAdvisor(BootstrapConfigProperties properties,
+                                                           ThreadPoolMetricsCollector threadPoolMetricsCollector) {
+        BootstrapConfigProperties.SizingConfig sizing = Optional.ofNullable(properties.getMonitor())
+                .map(BootstrapConfigProperties.MonitorConfig::getSizing)
+                .orElseGet(BootstrapConfigProperties.SizingConfig::new);
+        return new ThreadPoolSizingAdvisor(
+                threadPoolMetricsCollector,
+                Optional.ofNullable(sizing.getWindow()).orElse(300L),
+                TimeUnit.SECONDS,
+                Optional.ofNullable(sizing.getTargetCpuUtilization()).orElse(0.8D),
+                Optional.ofNullable(sizing.getTargetQueueWait()).orElse(10L),
+                Optional.ofNullable(sizing.getMaxQueueWait()).orElse(1000L)
+        );
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = BootstrapConfigProperties.PREFIX, name = "ramp-enable", havingValue = "true")
+    public ThreadPoolResizeRamper threadPoolResizeRamper() {
+        return new ThreadPoolResizeRamper();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ConfigRefreshExecutor configRefreshExecutor() {
+        return new ConfigRefreshExecutor();
+    }
+
+    @Bean
+    public ThreadPoolConfigApplier threadPoolConfigApplier(ObjectProvider<ThreadPoolResizeRamper> threadPoolResizeRamper) {
+        return new ThreadPoolConfigApplier(threadPoolResizeRamper.getIfAvailable());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = BootstrapConfigProperties.PREFIX + ".monitor", name = "jmx-enable", havingValue = "true")
+    public ThreadPoolMXBeanRegistrar threadPoolMXBeanRegistrar(ThreadPoolMetricsCollector threadPoolMetricsCollector,
+                                                               ThreadPoolConfigApplier threadPoolConfigApplier,
+                                                               ObjectProvider<ThreadPoolConfigUpdateHandler> threadPoolConfigUpdateHandler,
+                                                               ConfigRefreshExecutor configRefreshExecutor) {
+        // 优先使用 Starter 提供的配置更新器，与配置中心刷新共用合并、变更日志和通知流程
+        return new ThreadPoolMXBeanRegistrar(
+                ManagementFactory.getPlatformMBeanServer(),
+                threadPoolMetricsCollector,
+                threadPoolConfigUpdateHandler.getIfAvailable(() -> threadPoolConfigApplier::apply),
+                configRefreshExecutor
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.lb.threethread.spring.base.configuration;
+
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.executor.PrestartModeEnum;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.parser.ConfigFileTypeEnum;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * 动态线程池 GraalVM 原生镜像运行时提示
+ * <p>
+ * 启动配置和配置中心刷新通过 {@code Binder} 反射绑定配置属性，告警渐进调整通过 Bean 拷贝复制线程池配置，
+ * 钉钉响应通过 JSON 反序列化，这些类型在 Spring AOT 处理时无法被自动发现，需要显式注册反射提示
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 由基础配置类导入，Nacos、Apollo 等 Starter 通过公共自动配置引入基础配置后自动生效
+ * 2. 仅注册框架自身需要反射访问的类型，工作队列替换等核心路径不依赖反射
+ * </p>
+ */
+public class OneThreadRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> BINDING_TYPES = List.of(
+            BootstrapConfigProperties.class,
+            BootstrapConfigProperties.NacosConfig.class,
+            BootstrapConfigProperties.ApolloConfig.class,
+            BootstrapConfigProperties.NotifyPlatformsConfig.class,
+            BootstrapConfigProperties.MonitorConfig.class,
+            BootstrapConfigProperties.SizingConfig.class,
+            ThreadPoolExecutorProperties.class,
+            ThreadPoolExecutorProperties.NotifyConfig.class,
+            ThreadPoolExecutorProperties.AlarmConfig.class,
+            ThreadPoolExecutorProperties.RampConfig.class,
+            ThreadPoolExecutorProperties.AccountingConfig.class
+    );
+
+    private static final List<Class<?>> ENUM_TYPES = List.of(
+            ConfigFileTypeEnum.class,
+            PrestartModeEnum.class
+    );
+
+    private static final String DING_ROBOT_RESPONSE = "com.lb.threethread.core.notification.service.DingTalkMessageService$DingRobotResponse";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BINDING_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS));
+        ENUM_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.PUBLIC_FIELDS));
+        hints.reflection().registerType(TypeReference.of(DING_ROBOT_RESPONSE),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+    }
+}
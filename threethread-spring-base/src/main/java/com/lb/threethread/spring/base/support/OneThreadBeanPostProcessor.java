@@ -1,8 +1,8 @@
 package com.lb.threethread.spring.base.support;
 
 import cn.hutool.core.lang.Assert;
-import cn.hutool.core.util.ReflectUtil;
 import com.lb.threethread.core.executor.OneThreadExecutor;
+import com.lb.threethread.core.executor.OneThreadForkJoinPool;
 import com.lb.threethread.core.executor.OneThreadRegistry;
 import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
 import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
@@ -12,8 +12,12 @@ import com.lb.threethread.core.config.BootstrapConfigProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -33,15 +37,17 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * 工作流程：
  * 1. 监听Spring容器中所有Bean的初始化完成事件
- * 2. 识别出OneThreadExecutor类型的Bean并检查是否带有@DynamicThreadPool注解
+ * 2. 识别出OneThreadExecutor、OneThreadForkJoinPool类型的Bean并检查是否带有@DynamicThreadPool注解
  * 3. 从配置中心获取对应的线程池配置并覆盖本地配置
  * 4. 将线程池注册到统一管理器中
  * 5. 构建线程池属性信息用于后续比对和管理
+ * 6. 按配置的预启动模式创建核心线程，默认按需创建
+ * 7. 线程池 Bean 销毁时从统一管理器中移除，通知指标等监听方清理关联资源
  * </p>
  */
 @Slf4j
 @RequiredArgsConstructor
-public class OneThreadBeanPostProcessor implements BeanPostProcessor {
+public class OneThreadBeanPostProcessor implements DestructionAwareBeanPostProcessor {
 
     /**
      * 启动配置属性
@@ -51,6 +57,16 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
      */
     private final BootstrapConfigProperties properties;
 
+    /**
+     * 建立索引时的线程池配置列表，配置列表被整体替换后重建索引
+     */
+    private List<ThreadPoolExecutorProperties> indexedExecutors;
+
+    /**
+     * 按线程池唯一标识索引的线程池配置，避免每个 Bean 都遍历全部配置
+     */
+    private Map<String, ThreadPoolExecutorProperties> executorIndex = Collections.emptyMap();
+
     /**
      * Bean初始化后处理方法
      * <p>
@@ -66,45 +82,115 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
         // 判断是否为动态线程池执行器实例
         if (bean instanceof OneThreadExecutor) {
-            DynamicThreadPool dynamicThreadPool;
-            try {
-                // 通过 IOC 容器扫描 Bean 是否存在动态线程池注解
-                dynamicThreadPool = ApplicationContextHolder.findAnnotationOnBean(beanName, DynamicThreadPool.class);
-                if (Objects.isNull(dynamicThreadPool)) {
-                    return bean;
-                }
-            } catch (Exception ex) {
-                log.error("Failed to create dynamic thread pool in annotation mode.", ex);
+            if (!isDynamicThreadPoolBean(beanName)) {
                 return bean;
             }
 
             OneThreadExecutor oneThreadExecutor = (OneThreadExecutor) bean;
             // 从配置中心读取动态线程池配置并对线程池进行赋值
-            overrideLocalThreadPoolConfig(properties, oneThreadExecutor);
+            ThreadPoolExecutorProperties executorProperties = overrideLocalThreadPoolConfig(oneThreadExecutor);
 
             // 注册到动态线程池注册器，后续监控和报警从注册器获取线程池实例。同时，参数动态变更需要依赖 ThreadPoolExecutorProperties 比对是否有边跟
-            OneThreadRegistry.put(oneThreadExecutor.getThreadPoolId(), oneThreadExecutor, buildDefaultExecutorProperties(oneThreadExecutor));
+            ThreadPoolExecutorProperties registeredProperties = buildDefaultExecutorProperties(oneThreadExecutor)
+                    .setNotify(executorProperties.getNotify())
+                    .setAlarm(executorProperties.getAlarm())
+                    .setRamp(executorProperties.getRamp())
+                    .setQueueContentionTracking(executorProperties.getQueueContentionTracking())
+                    .setSlowTaskThreshold(executorProperties.getSlowTaskThreshold())
+                    .setAccounting(executorProperties.getAccounting());
+            if (Boolean.TRUE.equals(executorProperties.getQueueContentionTracking())) {
+                oneThreadExecutor.setQueueContentionTracking(true);
+            }
+            if (executorProperties.getAccounting() != null) {
+                ThreadPoolExecutorProperties.AccountingConfig.applyTo(oneThreadExecutor, executorProperties.getAccounting());
+            }
+            if (executorProperties.getSlowTaskThreshold() != null) {
+                oneThreadExecutor.setSlowTaskThreshold(executorProperties.getSlowTaskThreshold());
+            }
+            OneThreadRegistry.put(oneThreadExecutor.getThreadPoolId(), oneThreadExecutor, registeredProperties);
+            if (executorProperties.getPrestartMode() != null) {
+                executorProperties.getPrestartMode().apply(oneThreadExecutor);
+            }
+        } else if (bean instanceof OneThreadForkJoinPool) {
+            if (!isDynamicThreadPoolBean(beanName)) {
+                return bean;
+            }
+
+            // 注册动态 ForkJoin 线程池，并按配置中心的并行度进行调整。低版本 JDK 调整并行度会替换线程池，因此返回最新实例作为 Bean
+            return registerForkJoinPool((OneThreadForkJoinPool) bean);
         }
 
         return bean;
     }
 
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) throws BeansException {
+        if (bean instanceof OneThreadExecutor oneThreadExecutor) {
+            OneThreadRegistry.remove(oneThreadExecutor.getThreadPoolId(), oneThreadExecutor);
+        } else if (bean instanceof OneThreadForkJoinPool forkJoinPool) {
+            OneThreadRegistry.removeForkJoinPool(forkJoinPool.getThreadPoolId(), forkJoinPool);
+        }
+    }
+
+    @Override
+    public boolean requiresDestruction(Object bean) {
+        return bean instanceof OneThreadExecutor || bean instanceof OneThreadForkJoinPool;
+    }
+
+    /**
+     * 通过 IOC 容器扫描 Bean 是否存在动态线程池注解
+     *
+     * @param beanName Bean名称
+     * @return 是否为动态线程池 Bean
+     */
+    private boolean isDynamicThreadPoolBean(String beanName) {
+        try {
+            DynamicThreadPool dynamicThreadPool = ApplicationContextHolder.findAnnotationOnBean(beanName, DynamicThreadPool.class);
+            return Objects.nonNull(dynamicThreadPool);
+        } catch (Exception ex) {
+            log.error("Failed to create dynamic thread pool in annotation mode.", ex);
+            return false;
+        }
+    }
+
+    /**
+     * 注册动态 ForkJoin 线程池
+     * <p>
+     * 从配置中心获取并行度配置并覆盖本地配置，然后注册到统一管理器中；
+     * 低版本 JDK 无法原地调整并行度，此时线程池尚未注入到其他 Bean，按配置的并行度重建线程池并关闭原线程池
+     * </p>
+     *
+     * @param pool 动态 ForkJoin 线程池
+     * @return 调整并行度后的线程池实例
+     */
+    private OneThreadForkJoinPool registerForkJoinPool(OneThreadForkJoinPool pool) {
+        ThreadPoolExecutorProperties executorProperties = findExecutorProperties(pool.getThreadPoolId());
+        Integer parallelism = executorProperties.getParallelism();
+        OneThreadForkJoinPool registeredPool = pool;
+        if (parallelism != null && parallelism > 0 && parallelism != pool.getParallelism() && !pool.updateParallelism(parallelism)) {
+            registeredPool = pool.copyWithParallelism(parallelism);
+            pool.shutdown();
+        }
+
+        OneThreadRegistry.putForkJoinPool(registeredPool.getThreadPoolId(), registeredPool, ThreadPoolExecutorProperties.builder()
+                .threadPoolId(registeredPool.getThreadPoolId())
+                .parallelism(registeredPool.getParallelism())
+                .build());
+        return registeredPool;
+    }
+
     /**
      * 覆盖本地线程池配置
      * <p>
      * 从配置中心获取线程池配置并覆盖本地线程池配置，实现动态配置功能
      * </p>
      *
-     * @param properties         启动配置属性
-     * @param oneThreadExecutor  动态线程池执行器
+     * @param oneThreadExecutor 动态线程池执行器
+     * @return 配置中心中当前线程池的配置
      */
-    private void overrideLocalThreadPoolConfig(BootstrapConfigProperties properties, OneThreadExecutor oneThreadExecutor) {
+    private ThreadPoolExecutorProperties overrideLocalThreadPoolConfig(OneThreadExecutor oneThreadExecutor) {
         // 从配置属性中查找当前线程池ID对应的配置
-        ThreadPoolExecutorProperties executorProperties = properties.getExecutors()
-                .stream()
-                .filter(each -> Objects.equals(oneThreadExecutor.getThreadPoolId(), each.getThreadPoolId()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("The thread pool id does not exist in the configuration."));
+        ThreadPoolExecutorProperties executorProperties = findExecutorProperties(oneThreadExecutor.getThreadPoolId());
 
         // 获取远程配置的核心线程数和最大线程数
         Integer remoteCorePoolSize = executorProperties.getCorePoolSize();
@@ -126,13 +212,11 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
             oneThreadExecutor.setMaximumPoolSize(remoteMaximumPoolSize);
         }
 
-        // 阻塞队列没有常规 set 方法，所以使用反射赋值
-        BlockingQueue workQueue = BlockingQueueTypeEnum.createBlockingQueue(executorProperties.getWorkQueue(), executorProperties.getQueueCapacity());
-        // Java 9+ 的模块系统（JPMS）默认禁止通过反射访问 JDK 内部 API 的私有字段，所以需要配置开放反射权限
-        // 在启动命令中增加以下参数，显式开放 java.util.concurrent 包
-        // IDE 中通过在 VM options 中添加参数：--add-opens=java.base/java.util.concurrent=ALL-UNNAMED
-        // 部署的时候，在启动脚本（如 java -jar 命令）中加入该参数：java -jar --add-opens=java.base/java.util.concurrent=ALL-UNNAMED your-app.jar
-        ReflectUtil.setFieldValue(oneThreadExecutor, "workQueue", workQueue);
+        // 与配置不一致时替换为配置中心指定的队列，无需反射及 --add-opens 启动参数
+        if (!BlockingQueueTypeEnum.matches(oneThreadExecutor.getWorkQueueDelegate(), executorProperties.getWorkQueue(), executorProperties.getQueueCapacity())) {
+            BlockingQueue<Runnable> workQueue = BlockingQueueTypeEnum.createBlockingQueue(executorProperties.getWorkQueue(), executorProperties.getQueueCapacity());
+            oneThreadExecutor.swapWorkQueue(workQueue);
+        }
 
         // 赋值动态线程池其他核心参数
         // 设置线程空闲存活时间
@@ -141,6 +225,35 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
         oneThreadExecutor.allowCoreThreadTimeOut(executorProperties.getAllowCoreThreadTimeOut());
         // 设置拒绝策略
         oneThreadExecutor.setRejectedExecutionHandler(RejectedPolicyTypeEnum.createPolicy(executorProperties.getRejectedHandler()));
+        // 设置任务执行超时时间
+        if (executorProperties.getExecuteTimeout() != null) {
+            oneThreadExecutor.setExecuteTimeout(executorProperties.getExecuteTimeout());
+        }
+        return executorProperties;
+    }
+
+    /**
+     * 按线程池唯一标识查找配置，首次查找或配置列表被替换时重建索引
+     *
+     * @param threadPoolId 线程池唯一标识
+     * @return 线程池配置
+     */
+    private synchronized ThreadPoolExecutorProperties findExecutorProperties(String threadPoolId) {
+        List<ThreadPoolExecutorProperties> executors = properties.getExecutors();
+        if (executors != indexedExecutors) {
+            Map<String, ThreadPoolExecutorProperties> index = new HashMap<>();
+            if (executors != null) {
+                // 存在重复标识时与原先遍历查找保持一致，取第一个配置
+                executors.forEach(each -> index.putIfAbsent(each.getThreadPoolId(), each));
+            }
+            executorIndex = index;
+            indexedExecutors = executors;
+        }
+        ThreadPoolExecutorProperties executorProperties = executorIndex.get(threadPoolId);
+        if (executorProperties == null) {
+            throw new RuntimeException("The thread pool id does not exist in the configuration.");
+        }
+        return executorProperties;
     }
 
     /**
@@ -153,8 +266,8 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
      * @return 线程池执行器属性
      */
     private ThreadPoolExecutorProperties buildDefaultExecutorProperties(OneThreadExecutor executor) {
-        // 获取线程池的阻塞队列信息
-        BlockingQueue<Runnable> blockingQueue = executor.getQueue();
+        // 获取线程池实际存储任务的阻塞队列信息
+        BlockingQueue<Runnable> blockingQueue = executor.getWorkQueueDelegate();
         int queueSize = blockingQueue.size();
         String queueType = blockingQueue.getClass().getSimpleName();
         int remainingCapacity = blockingQueue.remainingCapacity();
@@ -169,6 +282,7 @@ public class OneThreadBeanPostProcessor implements BeanPostProcessor {
                 .setWorkQueue(queueType)
                 .setQueueCapacity(queueCapacity)
                 .setRejectedHandler(executor.getRejectedExecutionHandler().getClass().getSimpleName())
+                .setExecuteTimeout(executor.getExecuteTimeout())
                 .setThreadPoolId(executor.getThreadPoolId());
         return executorProperties;
     }
@@ -0,0 +1,28 @@
+package com.lb.threethread.spring.base.support;
+
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.monitor.jfr.ThreadPoolJfrEvents;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Optional;
+
+/**
+ * 动态线程池 JFR 事件配置
+ * <p>
+ * 在容器启动时将本地配置的 JFR 任务级事件采样间隔应用到 {@link ThreadPoolJfrEvents}，
+ * 与指标采集器的创建相互独立
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ThreadPoolJfrConfigurer implements InitializingBean {
+
+    private final BootstrapConfigProperties properties;
+
+    @Override
+    public void afterPropertiesSet() {
+        Optional.ofNullable(properties.getMonitor())
+                .map(BootstrapConfigProperties.MonitorConfig::getJfrTaskSampleInterval)
+                .ifPresent(ThreadPoolJfrEvents::setTaskSampleInterval);
+    }
+}
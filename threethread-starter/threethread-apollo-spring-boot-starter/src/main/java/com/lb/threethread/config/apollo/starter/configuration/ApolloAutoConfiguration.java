@@ -1,8 +1,9 @@
 package com.lb.threethread.config.apollo.starter.configuration;
 
 import com.lb.threethread.config.apollo.starter.refresher.ApolloRefresherHandler;
-import com.lb.threethread.core.notification.service.NotifierDispatcher;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
 import com.lb.threethread.spring.base.enable.MarkerConfiguration;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -41,12 +42,15 @@ public class ApolloAutoConfiguration {
      * 3. 当Apollo配置发生变化时，自动更新线程池参数
      * </p>
      *
-     * @param properties 启动配置属性
+     * @param properties              启动配置属性
+     * @param threadPoolConfigUpdater 线程池配置更新器
+     * @param configRefreshExecutor   配置刷新执行器
      * @return ApolloRefresherHandler实例
      */
     @Bean
     public ApolloRefresherHandler apolloRefresherHandler(BootstrapConfigProperties properties,
-                                                         NotifierDispatcher notifierDispatcher) {
-        return new ApolloRefresherHandler(properties, notifierDispatcher);
+                                                         ThreadPoolConfigUpdater threadPoolConfigUpdater,
+                                                         ConfigRefreshExecutor configRefreshExecutor) {
+        return new ApolloRefresherHandler(properties, threadPoolConfigUpdater, configRefreshExecutor);
     }
 }
\ No newline at end of file
@@ -6,8 +6,9 @@ import com.ctrip.framework.apollo.ConfigFile;
 import com.ctrip.framework.apollo.ConfigService;
 import com.ctrip.framework.apollo.core.enums.ConfigFileFormat;
 import com.lb.threethread.config.common.starter.refresher.AbstractDynamicThreadPoolRefresher;
-import com.lb.threethread.core.notification.service.NotifierDispatcher;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,8 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j(topic = "OneThreadConfigRefresher")
 public class ApolloRefresherHandler extends AbstractDynamicThreadPoolRefresher {
 
-    public ApolloRefresherHandler(BootstrapConfigProperties properties, NotifierDispatcher notifierDispatcher) {
-        super(properties, notifierDispatcher);
+    public ApolloRefresherHandler(BootstrapConfigProperties properties, ThreadPoolConfigUpdater configUpdater,
+                                  ConfigRefreshExecutor refreshExecutor) {
+        super(properties, configUpdater, refreshExecutor);
     }
 
     /**
@@ -41,7 +43,7 @@ public class ApolloRefresherHandler extends AbstractDynamicThreadPoolRefresher {
      * 2. 获取对应namespace的配置对象
      * 3. 创建配置变更监听器
      * 4. 注册监听器监听配置变化
-     * 5. 当配置变化时，调用refreshThreadPoolProperties方法刷新线程池配置
+     * 5. 当配置变化时，提交到共享的配置刷新执行器刷新线程池配置
      * </p>
      * 
      * @throws Exception 配置监听器注册异常
@@ -74,7 +76,7 @@ public class ApolloRefresherHandler extends AbstractDynamicThreadPoolRefresher {
      * 当Apollo配置发生变化时，会触发此监听器
      * 实现原理：
      * 1. 获取变更后的配置文件内容
-     * 2. 调用父类的refreshThreadPoolProperties方法处理配置更新
+     * 2. 提交到共享的配置刷新执行器，连续变更合并为一次刷新
      * </p>
      * 
      * @param namespace 命名空间
@@ -89,8 +91,8 @@ public class ApolloRefresherHandler extends AbstractDynamicThreadPoolRefresher {
             ConfigFileFormat configFileFormat = ConfigFileFormat.fromString(configFileType);
             // 获取配置文件对象
             ConfigFile configFile = ConfigService.getConfigFile(namespaceItem, configFileFormat);
-            // 刷新线程池配置
-            refreshThreadPoolProperties(configFile.getContent());
+            // 提交到共享的配置刷新执行器异步刷新线程池配置
+            submitRefresh(configFile.getContent());
         };
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.lb.threethread.config.common.starter.configuration;
 
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.notification.service.NotifierDispatcher;
 import com.lb.threethread.spring.base.configuration.OneThreadBaseConfiguration;
 import com.lb.threethread.spring.base.enable.MarkerConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -26,4 +29,11 @@ public class CommonAutoConfiguration {
         BootstrapConfigProperties.setInstance(bootstrapConfigProperties);
         return bootstrapConfigProperties;
     }
+
+    @Bean
+    public ThreadPoolConfigUpdater threadPoolConfigUpdater(BootstrapConfigProperties bootstrapConfigProperties,
+                                                           NotifierDispatcher notifierDispatcher,
+                                                           ThreadPoolConfigApplier threadPoolConfigApplier) {
+        return new ThreadPoolConfigUpdater(bootstrapConfigProperties, notifierDispatcher, threadPoolConfigApplier);
+    }
 }
@@ -1,20 +1,12 @@
 package com.lb.threethread.config.common.starter.refresher;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.date.DateUtil;
-import com.lb.threethread.core.executor.OneThreadRegistry;
-import com.lb.threethread.core.executor.ThreadPoolExecutorHolder;
 import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
-import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
-import com.lb.threethread.core.executor.support.RejectedPolicyTypeEnum;
-import com.lb.threethread.core.executor.support.ResizableCapacityLinkedBlockingQueue;
-import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
-import com.lb.threethread.core.notification.service.NotifierDispatcher;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigChangeDetector;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.monitor.jfr.ConfigRefreshEvent;
 import com.lb.threethread.core.parser.ConfigParserHandler;
-import com.lb.threethread.spring.base.support.ApplicationContextHolder;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -23,19 +15,10 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
-import org.springframework.core.env.Environment;
 
-import java.net.InetAddress;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.RejectedExecutionHandler;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-
-import static com.lb.threethread.core.constant.Constants.CHANGE_DELIMITER;
-import static com.lb.threethread.core.constant.Constants.CHANGE_THREAD_POOL_TEXT;
 
 /**
  * 动态线程池刷新器抽象类
@@ -55,14 +38,35 @@ import static com.lb.threethread.core.constant.Constants.CHANGE_THREAD_POOL_TEXT
  * </p>
  */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractDynamicThreadPoolRefresher implements ApplicationRunner {
 
     /**
      * 启动配置属性，包含各种配置中心的配置信息
      */
     protected final BootstrapConfigProperties properties;
-    protected final NotifierDispatcher notifierDispatcher;
+
+    /**
+     * 所有刷新器共享的配置刷新执行器，合并连续推送并统计推送到应用完成的耗时
+     */
+    protected final ConfigRefreshExecutor refreshExecutor;
+
+    /**
+     * 配置变更检测器，用于跳过重复推送并只处理发生变化的线程池配置分段
+     */
+    private final ConfigChangeDetector configChangeDetector = new ConfigChangeDetector();
+
+    /**
+     * 线程池配置更新器，负责应用配置、记录变更日志并发送变更通知，与管理端点、JMX 共用同一实例
+     */
+    private final ThreadPoolConfigUpdater configUpdater;
+
+    protected AbstractDynamicThreadPoolRefresher(BootstrapConfigProperties properties,
+                                                 ThreadPoolConfigUpdater configUpdater,
+                                                 ConfigRefreshExecutor refreshExecutor) {
+        this.properties = properties;
+        this.configUpdater = configUpdater;
+        this.refreshExecutor = refreshExecutor;
+    }
 
     /**
      * 注册配置变更监听器，由子类实现具体逻辑
@@ -113,247 +117,86 @@ public abstract class AbstractDynamicThreadPoolRefresher implements ApplicationR
     }
 
     /**
-     * 刷新线程池配置
+     * 提交配置中心推送的配置内容，由共享的配置刷新执行器异步刷新
      * <p>
-     * 处理流程：
-     * 1. 解析配置文件内容为Map对象
-     * 2. 将Map对象绑定到BootstrapConfigProperties配置对象
-     * 3. 遍历线程池配置列表
-     * 4. 检查配置是否发生变化
-     * 5. 如果发生变化则更新线程池参数
-     * 6. 记录参数变更日志
+     * 刷新尚未开始前的多次推送只应用最新一次的内容
      * </p>
      *
      * @param configInfo 配置文件内容
      */
-    @SneakyThrows
-    public void refreshThreadPoolProperties(String configInfo) {
-        // 解析配置文件内容为Map对象
-        Map<Object, Object> configInfoMap = ConfigParserHandler.getInstance().parseConfig(configInfo, properties.getConfigFileType());
-        // 创建配置属性源
-        ConfigurationPropertySource sources = new MapConfigurationPropertySource(configInfoMap);
-        // 创建配置绑定器
-        Binder binder = new Binder(sources);
-        // 将配置绑定到BootstrapConfigProperties对象
-        BootstrapConfigProperties refresherProperties = binder.bind(BootstrapConfigProperties.PREFIX, Bindable.ofInstance(properties)).get();
-
-        // 检查远程配置文件是否包含线程池配置
-        if (CollUtil.isEmpty(refresherProperties.getExecutors())) {
-            return;
-        }
-
-        // 刷新动态线程池对象核心参数
-        for (ThreadPoolExecutorProperties remoteProperties : refresherProperties.getExecutors()) {
-            // 检查线程池配置是否发生变化（与当前内存中的配置对比）
-            boolean changed = hasThreadPoolConfigChanged(remoteProperties);
-            if (!changed) {
-                continue;
-            }
-
-            // 将远程配置应用到线程池，更新相关参数
-            updateThreadPoolFromRemoteConfig(remoteProperties);
-
-            // 线程池参数变更后进行日志打印
-            String threadPoolId = remoteProperties.getThreadPoolId();
-            ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
-            ThreadPoolExecutorProperties originalProperties = holder.getExecutorProperties();
-            holder.setExecutorProperties(remoteProperties);
-
-            // 发送线程池配置变更消息通知
-            sendThreadPoolConfigChangeMessage(originalProperties, remoteProperties);
-
-            // 打印线程池配置变更日志
-            log.info(CHANGE_THREAD_POOL_TEXT,
-                    threadPoolId,
-                    String.format(CHANGE_DELIMITER, originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize()),
-                    String.format(CHANGE_DELIMITER, originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize()),
-                    String.format(CHANGE_DELIMITER, originalProperties.getQueueCapacity(), remoteProperties.getQueueCapacity()),
-                    String.format(CHANGE_DELIMITER, originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime()),
-                    String.format(CHANGE_DELIMITER, originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler()),
-                    String.format(CHANGE_DELIMITER, originalProperties.getAllowCoreThreadTimeOut(), remoteProperties.getAllowCoreThreadTimeOut()));
-        }
+    protected void submitRefresh(String configInfo) {
+        refreshExecutor.submit(getClass().getSimpleName(), configInfo, this::refreshThreadPoolProperties);
     }
 
     /**
-     * 检查线程池配置是否发生变化
+     * 刷新线程池配置
      * <p>
-     * 实现原理：
-     * 1. 从线程池注册中心获取当前线程池持有者
-     * 2. 获取当前线程池执行器和原始配置
-     * 3. 比较各项配置是否发生变化
+     * 处理流程：
+     * 1. 计算配置内容摘要，与最近一次成功应用的配置完全一致时直接跳过
+     * 2. 解析配置文件内容为Map对象，按线程池划分配置分段并计算指纹
+     * 3. 全局分段发生变化时，将其绑定到BootstrapConfigProperties配置对象
+     * 4. 仅绑定指纹发生变化的线程池配置分段
+     * 5. 校验全部线程池配置后逐个应用，任一线程池失败时回滚整个批次并跳过后续处理
+     * 6. 记录参数变更日志，全部应用成功后提交配置摘要和指纹
      * </p>
-     *
-     * @param remoteProperties 远程配置属性
-     * @return 配置是否发生变化
-     */
-    private boolean hasThreadPoolConfigChanged(ThreadPoolExecutorProperties remoteProperties) {
-        String threadPoolId = remoteProperties.getThreadPoolId();
-        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
-        if (holder == null) {
-            log.warn("No thread pool found for thread pool id: {}", threadPoolId);
-            return false;
-        }
-        ThreadPoolExecutor executor = holder.getExecutor();
-        ThreadPoolExecutorProperties originalProperties = holder.getExecutorProperties();
-
-        return hasDifference(originalProperties, remoteProperties, executor);
-    }
-
-    /**
-     * 根据远程配置更新线程池参数
      * <p>
-     * 更新顺序和注意事项：
-     * 1. 核心线程数和最大线程数需要按特定顺序更新，避免出现临时的非法状态
-     * 2. 先更新拒绝策略、存活时间等简单参数
-     * 3. 最后更新队列容量（仅对可调整容量队列生效）
+     * 每次刷新记录一个 JFR 配置刷新事件，覆盖从解析到应用完成的耗时
      * </p>
      *
-     * @param remoteProperties 远程配置属性
+     * @param configInfo 配置文件内容
      */
-    private void updateThreadPoolFromRemoteConfig(ThreadPoolExecutorProperties remoteProperties) {
-        String threadPoolId = remoteProperties.getThreadPoolId();
-        ThreadPoolExecutorHolder holder = OneThreadRegistry.getHolder(threadPoolId);
-        ThreadPoolExecutor executor = holder.getExecutor();
-        ThreadPoolExecutorProperties originalProperties = holder.getExecutorProperties();
-
-        // 更新核心线程数和最大线程数
-        Integer remoteCorePoolSize = remoteProperties.getCorePoolSize();
-        Integer remoteMaximumPoolSize = remoteProperties.getMaximumPoolSize();
-        if (remoteCorePoolSize != null && remoteMaximumPoolSize != null) {
-            int originalMaximumPoolSize = executor.getMaximumPoolSize();
-            // 如果新的核心线程数大于原始最大线程数，需要先调整最大线程数
-            if (remoteCorePoolSize > originalMaximumPoolSize) {
-                executor.setMaximumPoolSize(remoteMaximumPoolSize);
-                executor.setCorePoolSize(remoteCorePoolSize);
-            } else {
-                executor.setCorePoolSize(remoteCorePoolSize);
-                executor.setMaximumPoolSize(remoteMaximumPoolSize);
-            }
-        } else {
-            // 单独更新最大线程数或核心线程数
-            if (remoteMaximumPoolSize != null) {
-                executor.setMaximumPoolSize(remoteMaximumPoolSize);
-            }
-            if (remoteCorePoolSize != null) {
-                executor.setCorePoolSize(remoteCorePoolSize);
+    public void refreshThreadPoolProperties(String configInfo) {
+        ConfigRefreshEvent event = new ConfigRefreshEvent();
+        event.begin();
+        try {
+            doRefreshThreadPoolProperties(configInfo, event);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setSource(getClass().getSimpleName());
+                event.commit();
             }
         }
+    }
 
-        // 更新核心线程是否允许超时设置
-        if (remoteProperties.getAllowCoreThreadTimeOut() != null &&
-                !Objects.equals(remoteProperties.getAllowCoreThreadTimeOut(), originalProperties.getAllowCoreThreadTimeOut())) {
-            executor.allowCoreThreadTimeOut(remoteProperties.getAllowCoreThreadTimeOut());
+    @SneakyThrows
+    private void doRefreshThreadPoolProperties(String configInfo, ConfigRefreshEvent event) {
+        // 配置中心重复推送相同内容时直接跳过
+        String contentHash = ConfigChangeDetector.hash(configInfo);
+        if (configChangeDetector.isUnchanged(contentHash)) {
+            log.debug("Dynamic thread pool config content unchanged, skip refresh.");
+            event.setOutcome("UNCHANGED");
+            return;
         }
 
-        // 更新拒绝策略
-        if (remoteProperties.getRejectedHandler() != null &&
-                !Objects.equals(remoteProperties.getRejectedHandler(), originalProperties.getRejectedHandler())) {
-            RejectedExecutionHandler handler = RejectedPolicyTypeEnum.createPolicy(remoteProperties.getRejectedHandler());
-            executor.setRejectedExecutionHandler(handler);
-        }
+        // 解析配置文件内容为Map对象，并检测发生变化的配置分段
+        Map<Object, Object> configInfoMap = ConfigParserHandler.getInstance().parseConfig(configInfo, properties.getConfigFileType());
+        ConfigChangeDetector.ChangeSet changeSet = configChangeDetector.detect(contentHash, configInfoMap);
 
-        // 更新线程空闲时间
-        if (remoteProperties.getKeepAliveTime() != null &&
-                !Objects.equals(remoteProperties.getKeepAliveTime(), originalProperties.getKeepAliveTime())) {
-            executor.setKeepAliveTime(remoteProperties.getKeepAliveTime(), TimeUnit.SECONDS);
+        // 全局分段发生变化时，将其绑定到BootstrapConfigProperties对象
+        if (changeSet.isGlobalChanged()) {
+            ConfigurationPropertySource globalSources = new MapConfigurationPropertySource(changeSet.getGlobalEntries());
+            new Binder(globalSources).bind(BootstrapConfigProperties.PREFIX, Bindable.ofInstance(properties));
         }
 
-        // 更新队列容量（仅对 ResizableCapacityLinkedBlockingQueue 生效）
-        if (isQueueCapacityChanged(originalProperties, remoteProperties, executor)) {
-            BlockingQueue<Runnable> queue = executor.getQueue();
-            ResizableCapacityLinkedBlockingQueue<?> resizableQueue = (ResizableCapacityLinkedBlockingQueue<?>) queue;
-            resizableQueue.setCapacity(remoteProperties.getQueueCapacity());
+        // 仅绑定发生变化的线程池配置分段
+        List<ThreadPoolExecutorProperties> changedExecutors = Collections.emptyList();
+        if (changeSet.getChangedExecutorCount() > 0) {
+            ConfigurationPropertySource executorSources = new MapConfigurationPropertySource(changeSet.getChangedExecutorEntries());
+            changedExecutors = new Binder(executorSources)
+                    .bind(BootstrapConfigProperties.PREFIX + ".executors", Bindable.listOf(ThreadPoolExecutorProperties.class))
+                    .orElse(Collections.emptyList());
         }
-    }
-
-    /**
-     * 检查线程池各项配置是否发生变化
-     *
-     * @param originalProperties 原始配置属性
-     * @param remoteProperties   远程配置属性
-     * @param executor           线程池执行器
-     * @return 是否存在配置差异
-     */
-    private boolean hasDifference(ThreadPoolExecutorProperties originalProperties,
-                                  ThreadPoolExecutorProperties remoteProperties,
-                                  ThreadPoolExecutor executor) {
-        return isChanged(originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize())
-                || isChanged(originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize())
-                || isChanged(originalProperties.getAllowCoreThreadTimeOut(), remoteProperties.getAllowCoreThreadTimeOut())
-                || isChanged(originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime())
-                || isChanged(originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler())
-                || isQueueCapacityChanged(originalProperties, remoteProperties, executor);
-    }
-
-    /**
-     * 检查单个配置项是否发生变化
-     *
-     * @param before 变更前的值
-     * @param after  变更后的值
-     * @param <T>    配置项类型
-     * @return 是否发生变化
-     */
-    private <T> boolean isChanged(T before, T after) {
-        return after != null && !Objects.equals(before, after);
-    }
-
-    /**
-     * 检查队列容量是否发生变化
-     * <p>
-     * 注意：仅对ResizableCapacityLinkedBlockingQueue类型的队列生效
-     * </p>
-     *
-     * @param originalProperties 原始配置属性
-     * @param remoteProperties   远程配置属性
-     * @param executor           线程池执行器
-     * @return 队列容量是否发生变化
-     */
-    private boolean isQueueCapacityChanged(ThreadPoolExecutorProperties originalProperties,
-                                           ThreadPoolExecutorProperties remoteProperties,
-                                           ThreadPoolExecutor executor) {
-        Integer remoteCapacity = remoteProperties.getQueueCapacity();
-        Integer originalCapacity = originalProperties.getQueueCapacity();
-        BlockingQueue<?> queue = executor.getQueue();
-
-        return remoteCapacity != null
-                && !Objects.equals(remoteCapacity, originalCapacity)
-                && Objects.equals(BlockingQueueTypeEnum.RESIZABLE_CAPACITY_LINKED_BLOCKING_QUEUE.getName(), queue.getClass().getSimpleName());
-    }
 
-    /**
-     * 发送线程池配置变更消息
-     *
-     * @param originalProperties 原始线程池配置属性
-     * @param remoteProperties   远程线程池配置属性
-     */
-    @SneakyThrows
-    private void sendThreadPoolConfigChangeMessage(ThreadPoolExecutorProperties originalProperties,
-                                                   ThreadPoolExecutorProperties remoteProperties) {
-        // 获取环境配置信息
-        Environment environment = ApplicationContextHolder.getBean(Environment.class);
-        String active = environment.getProperty("spring.profiles.active", "dev");
-        String applicationName = environment.getProperty("spring.application.name");
-
-        // 构建配置变更映射表
-        Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes = new HashMap<>();
-        changes.put("corePoolSize", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize()));
-        changes.put("maximumPoolSize", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize()));
-        changes.put("queueCapacity", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getQueueCapacity(), remoteProperties.getQueueCapacity()));
-        changes.put("rejectedHandler", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler()));
-        changes.put("keepAliveTime", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime()));
+        // 先校验全部线程池配置再逐个应用，任一线程池应用失败时回滚本批次所有线程池，成功后记录变更日志并发送通知
+        ThreadPoolConfigApplier.ApplyResult result = configUpdater.update(changedExecutors);
+        event.setOutcome(result.getStatus().name());
+        event.setChangedPoolCount(result.getChanges().size());
+        if (!result.isSuccess()) {
+            return;
+        }
 
-        // 构建线程池配置变更DTO并发送消息
-        ThreadPoolConfigChangeDTO configChangeDTO = ThreadPoolConfigChangeDTO.builder()
-                .active(active)
-                .identify(InetAddress.getLocalHost().getHostAddress())
-                .applicationName(applicationName)
-                .threadPoolId(originalProperties.getThreadPoolId())
-                .receives(remoteProperties.getNotify().getReceives())
-                .workQueue(originalProperties.getWorkQueue())
-                .changes(changes)
-                .updateTime(DateUtil.now())
-                .build();
-        notifierDispatcher.sendChangeMessage(configChangeDTO);
+        // 全部应用成功后提交配置摘要和指纹，应用失败时下次推送会重新处理
+        configChangeDetector.commit(changeSet);
     }
-
-}
\ No newline at end of file
+}
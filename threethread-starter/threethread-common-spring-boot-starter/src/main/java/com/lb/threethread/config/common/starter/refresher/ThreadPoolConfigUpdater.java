@@ -0,0 +1,157 @@
+package com.lb.threethread.config.common.starter.refresher;
+
+import cn.hutool.core.date.DateUtil;
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.config.ThreadPoolConfigUpdateHandler;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.notification.service.NotifierDispatcher;
+import com.lb.threethread.spring.base.support.ApplicationContextHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.lb.threethread.core.constant.Constants.CHANGE_DELIMITER;
+import static com.lb.threethread.core.constant.Constants.CHANGE_THREAD_POOL_TEXT;
+
+/**
+ * 线程池配置更新器
+ * <p>
+ * 配置中心推送与运行时管理端点、JMX 共用的线程池配置更新流程：校验并事务化应用配置、合并到启动配置属性、记录变更日志并发送变更通知
+ * </p>
+ * <p>
+ * 设计目的：
+ * 1. 无论配置来自配置中心还是管理端点，都经过同一套校验、回滚和通知逻辑，避免绕过校验直接修改线程池
+ * 2. 应用成功后将线程池配置合并到 {@link BootstrapConfigProperties}，保持其与线程池实际配置一致
+ * 3. 同一批次所有线程池的变更通知在全部应用完成后合并发送
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ThreadPoolConfigUpdater implements ThreadPoolConfigUpdateHandler {
+
+    private final BootstrapConfigProperties properties;
+    private final NotifierDispatcher notifierDispatcher;
+    private final ThreadPoolConfigApplier configApplier;
+
+    /**
+     * 更新线程池配置
+     * <p>
+     * 先校验全部线程池配置再逐个应用，任一线程池应用失败时回滚本批次所有线程池，此时不合并配置也不发送通知
+     * </p>
+     *
+     * @param changedExecutors 发生变化的线程池完整配置
+     * @return 应用结果
+     */
+    @Override
+    public ThreadPoolConfigApplier.ApplyResult update(List<ThreadPoolExecutorProperties> changedExecutors) {
+        ThreadPoolConfigApplier.ApplyResult result = configApplier.apply(changedExecutors);
+        if (!result.isSuccess()) {
+            log.error("Dynamic thread pool config update failed, all thread pools keep their previous config: {}", result.getSummary());
+            return result;
+        }
+        mergeExecutorProperties(changedExecutors);
+
+        // 本次更新所有线程池的变更通知，全部应用完成后合并发送
+        List<ThreadPoolConfigChangeDTO> configChanges = new ArrayList<>();
+        for (ThreadPoolConfigApplier.PoolChange change : result.getChanges()) {
+            ThreadPoolExecutorProperties originalProperties = change.getOriginalProperties();
+            ThreadPoolExecutorProperties remoteProperties = change.getRemoteProperties();
+            if (change.isForkJoinPool()) {
+                log.info("[{}] Dynamic fork join pool parameter changed:\n    parallelism: {}",
+                        change.getThreadPoolId(),
+                        String.format(CHANGE_DELIMITER, originalProperties.getParallelism(), remoteProperties.getParallelism()));
+                continue;
+            }
+
+            // 构建线程池配置变更消息通知
+            configChanges.add(buildThreadPoolConfigChangeMessage(originalProperties, remoteProperties));
+
+            // 打印线程池配置变更日志
+            log.info(CHANGE_THREAD_POOL_TEXT,
+                    change.getThreadPoolId(),
+                    String.format(CHANGE_DELIMITER, originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getWorkQueue(), remoteProperties.getWorkQueue()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getQueueCapacity(), remoteProperties.getQueueCapacity()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getAllowCoreThreadTimeOut(), remoteProperties.getAllowCoreThreadTimeOut()),
+                    String.format(CHANGE_DELIMITER, originalProperties.getExecuteTimeout(), remoteProperties.getExecuteTimeout()));
+        }
+        log.info("Dynamic thread pool config update completed: {}", result.getSummary());
+
+        // 异步合并发送线程池配置变更消息通知，不阻塞调用线程
+        notifierDispatcher.sendChangeMessages(configChanges);
+        return result;
+    }
+
+    /**
+     * 将发生变化的线程池配置合并到启动配置属性中，保持其与线程池实际配置一致
+     * <p>
+     * 配置刷新执行器、管理端点与 JMX 可能并发调用同一更新器，合并时以启动配置属性加锁
+     * </p>
+     *
+     * @param changedExecutors 发生变化的线程池配置
+     */
+    private void mergeExecutorProperties(List<ThreadPoolExecutorProperties> changedExecutors) {
+        synchronized (properties) {
+            List<ThreadPoolExecutorProperties> executors = new ArrayList<>(Optional.ofNullable(properties.getExecutors()).orElse(Collections.emptyList()));
+            for (ThreadPoolExecutorProperties changed : changedExecutors) {
+                executors.removeIf(each -> Objects.equals(each.getThreadPoolId(), changed.getThreadPoolId()));
+                executors.add(changed);
+            }
+            properties.setExecutors(executors);
+        }
+    }
+
+    /**
+     * 构建线程池配置变更消息
+     *
+     * @param originalProperties 原始线程池配置属性
+     * @param remoteProperties   远程线程池配置属性
+     * @return 线程池配置变更消息
+     */
+    @SneakyThrows
+    private ThreadPoolConfigChangeDTO buildThreadPoolConfigChangeMessage(ThreadPoolExecutorProperties originalProperties,
+                                                                         ThreadPoolExecutorProperties remoteProperties) {
+        // 获取环境配置信息
+        Environment environment = ApplicationContextHolder.getBean(Environment.class);
+        String active = environment.getProperty("spring.profiles.active", "dev");
+        String applicationName = environment.getProperty("spring.application.name");
+
+        // 构建配置变更映射表
+        Map<String, ThreadPoolConfigChangeDTO.ChangePair<?>> changes = new HashMap<>();
+        changes.put("corePoolSize", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getCorePoolSize(), remoteProperties.getCorePoolSize()));
+        changes.put("maximumPoolSize", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getMaximumPoolSize(), remoteProperties.getMaximumPoolSize()));
+        changes.put("queueCapacity", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getQueueCapacity(), remoteProperties.getQueueCapacity()));
+        changes.put("rejectedHandler", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getRejectedHandler(), remoteProperties.getRejectedHandler()));
+        changes.put("keepAliveTime", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getKeepAliveTime(), remoteProperties.getKeepAliveTime()));
+        changes.put("executeTimeout", new ThreadPoolConfigChangeDTO.ChangePair<>(originalProperties.getExecuteTimeout(), remoteProperties.getExecuteTimeout()));
+
+        // 构建线程池配置变更DTO
+        return ThreadPoolConfigChangeDTO.builder()
+                .active(active)
+                .identify(InetAddress.getLocalHost().getHostAddress())
+                .applicationName(applicationName)
+                .threadPoolId(originalProperties.getThreadPoolId())
+                .receives(Optional.ofNullable(remoteProperties.getNotify()).map(ThreadPoolExecutorProperties.NotifyConfig::getReceives).orElse(""))
+                .workQueue(remoteProperties.getWorkQueue() == null || Objects.equals(originalProperties.getWorkQueue(), remoteProperties.getWorkQueue())
+                        ? originalProperties.getWorkQueue()
+                        : String.format(CHANGE_DELIMITER, originalProperties.getWorkQueue(), remoteProperties.getWorkQueue()))
+                .changes(changes)
+                .updateTime(DateUtil.now())
+                .build();
+    }
+}
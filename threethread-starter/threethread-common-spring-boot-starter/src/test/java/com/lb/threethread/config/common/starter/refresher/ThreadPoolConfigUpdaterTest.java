@@ -0,0 +1,99 @@
+package com.lb.threethread.config.common.starter.refresher;
+
+import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ThreadPoolConfigApplier;
+import com.lb.threethread.core.executor.OneThreadRegistry;
+import com.lb.threethread.core.executor.ThreadPoolExecutorProperties;
+import com.lb.threethread.core.notification.dto.ThreadPoolConfigChangeDTO;
+import com.lb.threethread.core.notification.service.NotifierDispatcher;
+import com.lb.threethread.spring.base.support.ApplicationContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class ThreadPoolConfigUpdaterTest {
+
+    private static final String THREAD_POOL_ID = "test-updater-pool";
+
+    private final List<ThreadPoolConfigChangeDTO> sentChanges = new ArrayList<>();
+
+    private final NotifierDispatcher notifierDispatcher = new NotifierDispatcher() {
+
+        @Override
+        public void sendChangeMessages(List<ThreadPoolConfigChangeDTO> configChanges) {
+            sentChanges.addAll(configChanges);
+        }
+    };
+
+    private final BootstrapConfigProperties properties = new BootstrapConfigProperties();
+
+    private final ThreadPoolConfigUpdater updater = new ThreadPoolConfigUpdater(properties, notifierDispatcher, new ThreadPoolConfigApplier());
+
+    private GenericApplicationContext context;
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // 变更通知从 Spring 环境读取应用名称与激活的 profile
+        context = new GenericApplicationContext();
+        context.refresh();
+        new ApplicationContextHolder().setApplicationContext(context);
+        executor = new ThreadPoolExecutor(1, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        ThreadPoolExecutorProperties original = remote();
+        OneThreadRegistry.put(THREAD_POOL_ID, executor, original);
+        properties.setExecutors(new ArrayList<>(List.of(original)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        OneThreadRegistry.remove(THREAD_POOL_ID, executor);
+        executor.shutdownNow();
+        notifierDispatcher.shutdown();
+        context.close();
+    }
+
+    @Test
+    void testSuccessfulUpdateMergesPropertiesAndNotifies() {
+        ThreadPoolConfigApplier.ApplyResult result = updater.update(List.of(remote().setCorePoolSize(3).setMaximumPoolSize(6)));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(executor.getCorePoolSize()).isEqualTo(3);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(6);
+        assertThat(properties.getExecutors().size()).isEqualTo(1);
+        assertThat(properties.getExecutors().get(0).getCorePoolSize()).isEqualTo(3);
+        assertThat(sentChanges.size()).isEqualTo(1);
+        assertThat(sentChanges.get(0).getThreadPoolId()).isEqualTo(THREAD_POOL_ID);
+        assertThat(sentChanges.get(0).getChanges().get("corePoolSize").getAfter()).isEqualTo(3);
+    }
+
+    @Test
+    void testRejectedUpdateKeepsPropertiesAndSkipsNotification() {
+        ThreadPoolConfigApplier.ApplyResult result = updater.update(List.of(remote().setCorePoolSize(4).setMaximumPoolSize(3)));
+
+        assertThat(result.getStatus()).isEqualTo(ThreadPoolConfigApplier.ApplyStatus.REJECTED);
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+        assertThat(properties.getExecutors().get(0).getCorePoolSize()).isEqualTo(1);
+        assertThat(properties.getExecutors().get(0).getMaximumPoolSize()).isEqualTo(2);
+        assertThat(sentChanges.isEmpty()).isTrue();
+    }
+
+    private static ThreadPoolExecutorProperties remote() {
+        return new ThreadPoolExecutorProperties()
+                .setThreadPoolId(THREAD_POOL_ID)
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(2)
+                .setKeepAliveTime(60L)
+                .setAllowCoreThreadTimeOut(false)
+                .setRejectedHandler("AbortPolicy");
+    }
+}
@@ -1,8 +1,9 @@
 package com.lb.threethread.config.nacos.cloud.starter.configuration;
 
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
 import com.lb.threethread.config.nacos.cloud.starter.refresher.NacosCloudRefresherHandler;
-import com.lb.threethread.core.notification.service.NotifierDispatcher;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
 import com.lb.threethread.spring.base.enable.MarkerConfiguration;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -32,12 +33,15 @@ public class NacosCloudAutoConfiguration {
      * 用于监听Nacos配置变化并刷新动态线程池配置
      * </p>
      *
-     * @param properties 启动配置属性
+     * @param properties              启动配置属性
+     * @param threadPoolConfigUpdater 线程池配置更新器
+     * @param configRefreshExecutor   配置刷新执行器
      * @return NacosCloudRefresherHandler实例
      */
     @Bean
     public NacosCloudRefresherHandler nacosCloudRefresherHandler(BootstrapConfigProperties properties,
-                                                                 NotifierDispatcher notifierDispatcher) {
-        return new NacosCloudRefresherHandler(properties, notifierDispatcher);
+                                                                 ThreadPoolConfigUpdater threadPoolConfigUpdater,
+                                                                 ConfigRefreshExecutor configRefreshExecutor) {
+        return new NacosCloudRefresherHandler(properties, threadPoolConfigUpdater, configRefreshExecutor);
     }
 }
\ No newline at end of file
@@ -5,15 +5,13 @@ import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.lb.threethread.config.common.starter.refresher.AbstractDynamicThreadPoolRefresher;
-import com.lb.threethread.core.executor.support.BlockingQueueTypeEnum;
-import com.lb.threethread.core.notification.service.NotifierDispatcher;
-import com.lb.threethread.core.toolkit.ThreadPoolExecutorBuilder;
+import com.lb.threethread.config.common.starter.refresher.ThreadPoolConfigUpdater;
 import com.lb.threethread.core.config.BootstrapConfigProperties;
+import com.lb.threethread.core.config.ConfigRefreshExecutor;
 import com.lb.threethread.spring.base.support.ApplicationContextHolder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Nacos云配置线程池刷新处理器
@@ -27,7 +25,7 @@ import java.util.concurrent.ThreadPoolExecutor;
  * 设计特点：
  * 1. 继承自AbstractDynamicThreadPoolRefresher，实现通用的线程池刷新逻辑
  * 2. 使用Nacos原生API监听配置变化
- * 3. 为配置监听创建独立的线程池，避免与业务线程池冲突
+ * 3. 配置推送提交到所有刷新器共享的配置刷新执行器，连续推送合并为一次刷新
  * </p>
  */
 @Slf4j(topic = "OneThreadConfigRefresher")
@@ -38,8 +36,9 @@ public class NacosCloudRefresherHandler extends AbstractDynamicThreadPoolRefresh
      */
     private ConfigService configService;
 
-    public NacosCloudRefresherHandler(BootstrapConfigProperties properties, NotifierDispatcher notifierDispatcher) {
-        super(properties, notifierDispatcher);
+    public NacosCloudRefresherHandler(BootstrapConfigProperties properties, ThreadPoolConfigUpdater configUpdater,
+                                      ConfigRefreshExecutor refreshExecutor) {
+        super(properties, configUpdater, refreshExecutor);
         configService = ApplicationContextHolder.getBean(NacosConfigProperties.class).configServiceInstance();
     }
 
@@ -49,8 +48,7 @@ public class NacosCloudRefresherHandler extends AbstractDynamicThreadPoolRefresh
      * 实现原理：
      * 1. 从配置中获取Nacos的dataId和group
      * 2. 注册监听器监听配置变化
-     * 3. 为监听器创建专用的线程池执行器
-     * 4. 当配置变化时，调用refreshThreadPoolProperties方法刷新线程池配置
+     * 3. 当配置变化时，将配置内容提交到共享的配置刷新执行器，由其串行刷新线程池配置
      * </p>
      * 
      * @throws NacosException Nacos配置服务异常
@@ -68,36 +66,29 @@ public class NacosCloudRefresherHandler extends AbstractDynamicThreadPoolRefresh
                     /**
                      * 获取监听器执行器
                      * <p>
-                     * 为配置监听器创建专用的线程池，避免与业务线程池冲突
-                     * 使用同步队列，核心线程数和最大线程数都为1，确保配置更新的串行执行
+                     * 回调仅将配置内容提交到共享的配置刷新执行器，直接在 Nacos 通知线程中执行即可，
+                     * 不再为每次回调创建线程池
                      * </p>
-                     * 
-                     * @return 用于执行配置变更回调的线程池执行器
+                     *
+                     * @return null，表示在 Nacos 通知线程中执行回调
                      */
                     @Override
                     public Executor getExecutor() {
-                        return ThreadPoolExecutorBuilder.builder()
-                                .corePoolSize(1)                                    // 核心线程数为1
-                                .maximumPoolSize(1)                                 // 最大线程数为1
-                                .keepAliveTime(9999L)                               // 线程空闲时间
-                                .workQueueType(BlockingQueueTypeEnum.SYNCHRONOUS_QUEUE) // 使用同步队列
-                                .threadFactory("clod-nacos-refresher-thread_")      // 线程工厂，指定线程名称前缀
-                                .rejectedHandler(new ThreadPoolExecutor.CallerRunsPolicy()) // 拒绝策略为调用者运行策略
-                                .build();
+                        return null;
                     }
 
                     /**
                      * 接收配置信息变更回调
                      * <p>
                      * 当Nacos配置发生变化时，会触发此方法
-                     * 调用父类的refreshThreadPoolProperties方法处理配置更新
+                     * 提交到共享的配置刷新执行器，连续推送合并为一次刷新
                      * </p>
                      * 
                      * @param configInfo 变更后的配置信息内容
                      */
                     @Override
                     public void receiveConfigInfo(String configInfo) {
-                        refreshThreadPoolProperties(configInfo);
+                        submitRefresh(configInfo);
                     }
                 });
 